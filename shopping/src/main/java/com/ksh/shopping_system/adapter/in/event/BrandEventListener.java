@@ -0,0 +1,41 @@
+package com.ksh.shopping_system.adapter.in.event;
+
+import com.ksh.shopping_system.application.event.BrandUpdatedEvent;
+import com.ksh.shopping_system.application.event.ProductCacheChangedEvent;
+import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.application.port.out.product.BrandProductsCachePort;
+import com.ksh.shopping_system.application.port.out.product.ProductCachePort;
+import com.ksh.shopping_system.domain.Brand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Async("brandEventExecutor")
+public class BrandEventListener {
+
+	private final BrandCachePort brandCachePort;
+	private final ProductCachePort productCachePort;
+	private final BrandProductsCachePort brandProductsCachePort;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 브랜드 총액은 브랜드 ID 기준이라 그대로 유지하고, 표시/우선순위에 쓰이는 브랜드명만 갱신
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleBrandUpdated(BrandUpdatedEvent event) {
+		Brand brand = event.getBrand();
+
+		brandCachePort.renameBrand(brand.getId(), brand.getName());
+		productCachePort.renameBrand(brand.getId(), brand.getName());
+		// 브랜드 상품 목록 캐시는 브랜드명 키라 이전 이름을 알 수 없으므로 전체 무효화
+		brandProductsCachePort.invalidateAll();
+		// 브랜드명은 모든 카테고리 응답에 포함될 수 있음
+		eventPublisher.publishEvent(new ProductCacheChangedEvent(this, null));
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.ksh.shopping_system.adapter.in.event;
+
+import com.ksh.shopping_system.domain.ProductChange;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카테고리 인덱스 작업은 카테고리명, 브랜드 원장 작업은 브랜드 ID 로 lane 을 정해 제출
+ * 같은 카테고리/브랜드는 한 스레드에서만 순서대로 갱신되므로 늦게 도착한 이전 가격이 최신 가격을 덮어쓰지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shopping.cache.dispatcher", havingValue = "lanes")
+public class LaneProductCacheDispatcher implements ProductCacheDispatcher {
+
+	private final ProductCacheUpdater productCacheUpdater;
+	private final SingleWriterLanes lanes;
+
+	public LaneProductCacheDispatcher(ProductCacheUpdater productCacheUpdater,
+									  @Value("${shopping.cache.lanes.count:0}") int laneCount,
+									  @Value("${shopping.cache.lanes.queue-capacity:1024}") int queueCapacity) {
+		this.productCacheUpdater = productCacheUpdater;
+		// 0 이면 코어 수만큼
+		int lanesToUse = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+		this.lanes = new SingleWriterLanes("product-cache-lane-", lanesToUse, queueCapacity);
+	}
+
+	@Override
+	public CompletableFuture<Void> dispatch(List<ProductChange> changes) {
+		List<CompletableFuture<Void>> tasks = new ArrayList<>();
+		for (ProductCacheUpdater.CategoryChanges categoryChanges : ProductCacheUpdater.categoryChanges(changes)) {
+			tasks.add(submit(categoryChanges.categoryName(), () -> productCacheUpdater.applyCategory(categoryChanges)));
+		}
+		for (ProductCacheUpdater.BrandDelta brandDelta : ProductCacheUpdater.brandDeltas(changes)) {
+			tasks.add(submit(brandDelta.brandId(), () -> productCacheUpdater.applyBrand(brandDelta)));
+		}
+		return CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new));
+	}
+
+	/**
+	 * 남은 작업을 모두 반영한 뒤 종료
+	 */
+	@PreDestroy
+	public void shutdown() {
+		try {
+			if (!lanes.shutdown(30, TimeUnit.SECONDS)) {
+				log.warn("product cache lanes did not drain within 30 seconds");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private CompletableFuture<Void> submit(Object key, Runnable task) {
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		lanes.execute(key, () -> {
+			try {
+				task.run();
+				done.complete(null);
+			} catch (RuntimeException e) {
+				done.completeExceptionally(e);
+			}
+		});
+		return done;
+	}
+
+}
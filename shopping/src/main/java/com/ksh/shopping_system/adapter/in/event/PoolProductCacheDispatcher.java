@@ -0,0 +1,34 @@
+package com.ksh.shopping_system.adapter.in.event;
+
+import com.ksh.shopping_system.domain.ProductChange;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 공용 스레드 풀(productTaskExecutor) 에 변경 묶음 단위로 제출
+ * 같은 카테고리/브랜드의 변경이 서로 다른 스레드에서 동시에, 순서 없이 반영될 수 있음
+ */
+@Component
+@ConditionalOnProperty(name = "shopping.cache.dispatcher", havingValue = "pool", matchIfMissing = true)
+public class PoolProductCacheDispatcher implements ProductCacheDispatcher {
+
+	private final ProductCacheUpdater productCacheUpdater;
+	private final Executor productTaskExecutor;
+
+	public PoolProductCacheDispatcher(ProductCacheUpdater productCacheUpdater,
+									  @Qualifier("productTaskExecutor") Executor productTaskExecutor) {
+		this.productCacheUpdater = productCacheUpdater;
+		this.productTaskExecutor = productTaskExecutor;
+	}
+
+	@Override
+	public CompletableFuture<Void> dispatch(List<ProductChange> changes) {
+		return CompletableFuture.runAsync(() -> productCacheUpdater.apply(changes), productTaskExecutor);
+	}
+
+}
@@ -0,0 +1,18 @@
+package com.ksh.shopping_system.adapter.in.event;
+
+import com.ksh.shopping_system.domain.ProductChange;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 상품 변경을 캐시 갱신 스레드로 넘기는 방식 (shopping.cache.dispatcher = pool | lanes)
+ */
+public interface ProductCacheDispatcher {
+
+	/**
+	 * 제출하지 못하면(풀 포화 등) 바로 예외, 제출한 작업이 모두 끝나면 완료되는 future 반환
+	 */
+	CompletableFuture<Void> dispatch(List<ProductChange> changes);
+
+}
@@ -0,0 +1,122 @@
+package com.ksh.shopping_system.adapter.in.event;
+
+import com.ksh.shopping_system.application.event.ProductCacheChangedEvent;
+import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.application.port.out.product.BrandProductsCachePort;
+import com.ksh.shopping_system.application.port.out.product.ProductCachePort;
+import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductChange;
+import com.ksh.shopping_system.exception.CacheConnectionException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 변경 묶음을 카테고리 인덱스/브랜드 원장에 반영
+ * 카테고리는 한 번에 put, 브랜드는 순변동을 한 번만 더하고, 응답 스냅샷 무효화도 카테고리별 한 번
+ * 카테고리 단위(applyCategory), 브랜드 단위(applyBrand) 로 나눠 서로 다른 스레드에서 반영할 수도 있음
+ * 그래서 두 단위 모두 자기 반영이 끝난 뒤에 무효화 이벤트를 발행 (카테고리만 반영된 시점에 렌더링된 최저가 브랜드 응답이 남지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+// 추후 레디스나 외부 통신 시, 연결 장애 발생 시, `CacheConnectionException` 을 throw 하여 재시도 할 수 있도록 설정
+@Retryable(
+		value = {CacheConnectionException.class}, // 재시도할 예외 타입
+		maxAttempts = 3,
+		backoff = @Backoff(delay = 1000)      // 1초 후 재시도
+)
+public class ProductCacheUpdater {
+
+	private final ProductCachePort productCachePort;
+	private final BrandCachePort brandCachePort;
+	private final BrandProductsCachePort brandProductsCachePort;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public void apply(List<ProductChange> changes) {
+		categoryChanges(changes).forEach(this::applyCategory);
+		brandDeltas(changes).forEach(this::applyBrand);
+	}
+
+	public void applyCategory(CategoryChanges changes) {
+		changes.removals().forEach(productCachePort::removeProduct);
+		if (!changes.upserts().isEmpty()) {
+			productCachePort.putProducts(changes.upserts());
+		}
+		eventPublisher.publishEvent(new ProductCacheChangedEvent(this, changes.categoryName()));
+	}
+
+	public void applyBrand(BrandDelta delta) {
+		if (delta.price() != 0 || delta.productCount() != 0) {
+			brandCachePort.addBrandTotal(delta.brandId(), delta.brandName(), delta.price(), delta.productCount());
+		}
+		// 총액이 같아도 카테고리 이동 등으로 상품 목록은 바뀌었을 수 있음
+		brandProductsCachePort.invalidate(delta.brandName());
+		eventPublisher.publishEvent(ProductCacheChangedEvent.brandTotals(this));
+	}
+
+	/**
+	 * 카테고리별 인덱스 작업, 삭제되었거나 카테고리가 바뀐 경우에만 기존 카테고리에서 제거
+	 */
+	public static Collection<CategoryChanges> categoryChanges(List<ProductChange> changes) {
+		Map<String, CategoryChanges> byCategory = new LinkedHashMap<>();
+		for (ProductChange change : changes) {
+			Product before = change.before();
+			Product after = change.after();
+			if (before != null && (after == null || !isSameCategory(before, after))) {
+				categoryChangesFor(byCategory, before).removals().add(before);
+			}
+			if (after != null) {
+				categoryChangesFor(byCategory, after).upserts().add(after);
+			}
+		}
+		return byCategory.values();
+	}
+
+	/**
+	 * 브랜드별 총액/상품 수 순변동
+	 */
+	public static Collection<BrandDelta> brandDeltas(List<ProductChange> changes) {
+		Map<Long, BrandDelta> byBrand = new LinkedHashMap<>();
+		for (ProductChange change : changes) {
+			if (change.before() != null) {
+				addBrandDelta(byBrand, change.before(), -change.before().getPriceValue(), -1);
+			}
+			if (change.after() != null) {
+				addBrandDelta(byBrand, change.after(), change.after().getPriceValue(), 1);
+			}
+		}
+		return byBrand.values();
+	}
+
+	private static boolean isSameCategory(Product before, Product after) {
+		return before.getCategory().getName().equals(after.getCategory().getName());
+	}
+
+	private static CategoryChanges categoryChangesFor(Map<String, CategoryChanges> byCategory, Product product) {
+		return byCategory.computeIfAbsent(product.getCategory().getName(),
+				name -> new CategoryChanges(name, new ArrayList<>(), new ArrayList<>()));
+	}
+
+	private static void addBrandDelta(Map<Long, BrandDelta> byBrand, Product product, long price, long productCount) {
+		long brandId = product.getBrand().getId();
+		BrandDelta current = byBrand.get(brandId);
+		long totalPrice = current == null ? price : current.price() + price;
+		long totalCount = current == null ? productCount : current.productCount() + productCount;
+		byBrand.put(brandId, new BrandDelta(brandId, product.getBrand().getName(), totalPrice, totalCount));
+	}
+
+	public record CategoryChanges(String categoryName, List<Product> removals, List<Product> upserts) {
+	}
+
+	public record BrandDelta(long brandId, String brandName, long price, long productCount) {
+	}
+
+}
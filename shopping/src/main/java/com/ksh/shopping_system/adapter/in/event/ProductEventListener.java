@@ -3,124 +3,33 @@ package com.ksh.shopping_system.adapter.in.event;
 import com.ksh.shopping_system.application.event.ProductCreatedEvent;
 import com.ksh.shopping_system.application.event.ProductDeletedEvent;
 import com.ksh.shopping_system.application.event.ProductUpdatedEvent;
-import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
-import com.ksh.shopping_system.application.port.out.product.ProductCachePort;
-import com.ksh.shopping_system.common.response.ErrorCode;
-import com.ksh.shopping_system.domain.Product;
-import com.ksh.shopping_system.exception.CacheConnectionException;
-import com.ksh.shopping_system.exception.DataNotFoundException;
+import com.ksh.shopping_system.application.event.ProductsCreatedEvent;
+import com.ksh.shopping_system.application.event.ProductsUpdatedEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 상품 변경 커밋 직후 outbox relay 를 깨움
+ * 변경 내용은 같은 트랜잭션에서 product_outbox 에 기록되어 있으므로 이벤트로 넘기지 않음,
+ * 이 신호가 유실되어도(JVM 종료 등) 미반영 행은 relay 의 다음 poll 에서 반영
+ */
 @Component
 @RequiredArgsConstructor
-@Async("productTaskExecutor")
-// 추후 레디스나 외부 통신 시, 연결 장애 발생 시, `CacheConnectionException` 을 throw 하여 재시도 할 수 있도록 설정
-@Retryable(
-		value = {CacheConnectionException.class}, // 재시도할 예외 타입
-		maxAttempts = 3,
-		backoff = @Backoff(delay = 1000)      // 1초 후 재시도
-)
 public class ProductEventListener {
 
-	private final ProductCachePort productCachePort;
-	private final BrandCachePort brandCachePort;
-
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-	public void handleProductCreated(ProductCreatedEvent event) {
-		Product product = event.getProduct();
-
-		updateMinPriceCache(product);
-		updateMaxPriceCache(product);
-
-		Long oldTotal = brandCachePort.getBrandTotal(product.getBrand().getName());
-		long newTotal = (oldTotal == null ? 0 : oldTotal) + product.getPriceValue();
-		brandCachePort.putBrandTotal(product.getBrand().getName(), newTotal);
-	}
-
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-	public void handleProductUpdated(ProductUpdatedEvent event) {
-		Product oldProduct = event.getOldProduct();
-		Product newProduct = event.getNewProduct();
-
-		updateMinPriceCache(newProduct);
-		updateMaxPriceCache(newProduct);
-
-		String brandName = newProduct.getBrand().getName();
-		Long oldTotal = brandCachePort.getBrandTotal(brandName);
-		if (oldTotal == null) {
-			throw new DataNotFoundException(
-					ErrorCode.BRAND_CACHE_NOT_FOUND,
-					"브랜드 캐시에 해당 브랜드가 없습니다: " + brandName
-			);
-		}
-		long newTotal = oldTotal - oldProduct.getPriceValue() + newProduct.getPriceValue();
-		brandCachePort.putBrandTotal(brandName, newTotal);
-	}
-
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-	public void handleProductDeleted(ProductDeletedEvent event) {
-		Product product = event.getDeletedProduct();
-		long oldPrice = product.getPriceValue();
-		String brandName = product.getBrand().getName();
-
-		Product minPriceProduct = productCachePort.getMinPrice(product.getCategory());
-		Product maxPriceProduct = productCachePort.getMaxPrice(product.getCategory());
-
-		if (minPriceProduct != null && minPriceProduct.isSameProduct(product.getId())) {
-			productCachePort.removeMinPrice(product.getCategory().getName());
-		}
-		if (maxPriceProduct != null && maxPriceProduct.isSameProduct(product.getId())) {
-			productCachePort.removeMaxPrice(product.getCategory().getName());
-		}
-
-		Long oldTotal = brandCachePort.getBrandTotal(brandName);
-		if (oldTotal == null)
-			oldTotal = 0L;
-		long newTotal = oldTotal - oldPrice;
-		if (newTotal <= 0) {
-			brandCachePort.removeBrand(brandName);
-		} else {
-			brandCachePort.putBrandTotal(brandName, newTotal);
-		}
-
-	}
-
-	private void updateMaxPriceCache(Product product) {
-		Product maxPriceProduct = productCachePort.getMaxPrice(product.getCategory());
-		if (maxPriceProduct == null) {
-			productCachePort.putMaxPrice(product.getCategory().getName(), product);
-			return;
-		}
-
-		if (product.isPreferredForMaxPrice(maxPriceProduct)) {
-			// 새 상품이 기존 최고가보다 우선순위가 높으면 갱신
-			productCachePort.putMaxPrice(product.getCategory().getName(), product);
-		} else if (maxPriceProduct.isSameProduct(product.getId())) {
-			// 캐시에 있는 상품이 수정되었는데, 수정된 상품이 최고가가 아닌 경우
-			productCachePort.removeMaxPrice(product.getCategory().getName());
-		}
-	}
-
-	private void updateMinPriceCache(Product product) {
-		Product minPriceProduct = productCachePort.getMinPrice(product.getCategory());
-		if (minPriceProduct == null) {
-			productCachePort.putMinPrice(product.getCategory().getName(), product);
-			return;
-		}
-
-		if (product.isPreferredForMinPrice(minPriceProduct)) {
-			// 새 상품이 기존 최저가보다 우선순위가 높으면 갱신
-			productCachePort.putMinPrice(product.getCategory().getName(), product);
-		} else if (minPriceProduct.isSameProduct(product.getId())) {
-			// 캐시에 있는 상품이 수정되었는데, 수정된 상품이 최저가가 아닌 경우
-			productCachePort.removeMinPrice(product.getCategory().getName());
-		}
+	private final ProductOutboxRelay productOutboxRelay;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, classes = {
+			ProductCreatedEvent.class,
+			ProductsCreatedEvent.class,
+			ProductUpdatedEvent.class,
+			ProductsUpdatedEvent.class,
+			ProductDeletedEvent.class
+	})
+	public void handleProductChanged() {
+		productOutboxRelay.wakeUp();
 	}
 
 }
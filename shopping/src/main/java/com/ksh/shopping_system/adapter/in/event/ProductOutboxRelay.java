@@ -0,0 +1,286 @@
+package com.ksh.shopping_system.adapter.in.event;
+
+import com.ksh.shopping_system.adapter.in.event.ProductCacheUpdater.BrandDelta;
+import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
+import com.ksh.shopping_system.application.event.CacheWarmUpCompletedEvent;
+import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxPort;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxRecord;
+import com.ksh.shopping_system.application.port.out.product.SelectProductPort;
+import com.ksh.shopping_system.domain.ProductChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * product_outbox 를 기록 순서대로 읽어 캐시에 반영하는 단일 relay 스레드
+ * - 한 번에 batch-size 건을 읽어 상품별로 합친 뒤(처음 before -> 마지막 after) ProductCacheDispatcher 로 반영
+ * - 반영 작업이 모두 끝나면 읽은 행을 UPDATE 한 번으로 반영 완료 표시
+ * - 제출이 거절되면(풀 포화 등) 표시하지 않고 다음 poll 에서 다시 시도, 커밋된 변경은 유실되지 않음
+ * - 제출된 작업이 재시도 후에도 실패하면 표시는 하고(브랜드 총액 이중 반영 방지) 정합성 점검이 복구
+ * 커밋 직후에는 ProductEventListener 가 깨우고, interval-ms 마다 poll 은 그 신호를 놓친 경우의 안전망
+ * 깨우기는 shopping.cache.coalescing.window-ms 만큼 늦춰 그동안 커밋된 변경을 한 번의 drain 으로 병합
+ * (같은 상품/카테고리가 짧은 시간에 여러 번 바뀌는 경우(타임세일, 피드 재전송) 캐시 쓰기 횟수를 줄임, 0 이면 바로 drain)
+ * poll 은 기동 시 캐시 워밍업(CacheWarmUpInitializer)이 끝난 뒤에 시작
+ * 워밍업이 캐시를 적재하지 못했으면 브랜드 원장은 적재 전 증감을 버리고, 첫 drain 부터 brand_price_total 로 재구축을 시도
+ */
+@Slf4j
+@Component
+public class ProductOutboxRelay {
+
+	// 반영 완료 표시 UPDATE 한 번의 IN 목록 크기
+	private static final int MARK_CHUNK_SIZE = 1000;
+
+	private final ProductOutboxPort productOutboxPort;
+	private final ProductCacheDispatcher productCacheDispatcher;
+	private final BrandCachePort brandCachePort;
+	private final SelectProductPort selectProductPort;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate snapshotTemplate;
+	private final int batchSize;
+	private final long intervalMillis;
+	private final long coalescingWindowMillis;
+	private final Duration retention;
+	private final boolean enabled;
+
+	private final Counter receivedCounter;
+	private final Counter appliedCounter;
+	private final Counter failedCounter;
+
+	private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+	private volatile boolean brandTotalsPending;
+	private volatile ScheduledExecutorService scheduler;
+
+	public ProductOutboxRelay(ProductOutboxPort productOutboxPort,
+							  ProductCacheDispatcher productCacheDispatcher,
+							  BrandCachePort brandCachePort,
+							  SelectProductPort selectProductPort,
+							  TransactionTemplate transactionTemplate,
+							  MeterRegistry meterRegistry,
+							  @Value("${shopping.outbox.relay.batch-size:500}") int batchSize,
+							  @Value("${shopping.outbox.relay.interval-ms:1000}") long intervalMillis,
+							  @Value("${shopping.cache.coalescing.window-ms:0}") long coalescingWindowMillis,
+							  @Value("${shopping.outbox.retention:1h}") Duration retention,
+							  @Value("${shopping.outbox.relay.enabled:true}") boolean enabled) {
+		this.productOutboxPort = productOutboxPort;
+		this.productCacheDispatcher = productCacheDispatcher;
+		this.brandCachePort = brandCachePort;
+		this.selectProductPort = selectProductPort;
+		this.transactionTemplate = transactionTemplate;
+		this.snapshotTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+		this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+		this.snapshotTemplate.setReadOnly(true);
+		this.batchSize = batchSize;
+		this.intervalMillis = intervalMillis;
+		this.coalescingWindowMillis = coalescingWindowMillis;
+		this.retention = retention;
+		this.enabled = enabled;
+		this.receivedCounter = Counter.builder("product.cache.events.received")
+				.description("outbox 에서 읽은 상품 변경 수 (병합 전)")
+				.register(meterRegistry);
+		this.appliedCounter = Counter.builder("product.cache.events.applied")
+				.description("캐시에 반영된 상품 변경 수 (병합 후)")
+				.register(meterRegistry);
+		this.failedCounter = Counter.builder("product.cache.events.failed")
+				.description("재시도 후에도 캐시 반영에 실패한 상품 변경 수")
+				.register(meterRegistry);
+		Gauge.builder("product.outbox.pending", productOutboxPort, ProductOutboxPort::countPending)
+				.description("캐시에 반영되지 않은 outbox 행 수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 캐시 워밍업이 끝난 뒤 실행
+	 * 새로 뜬 JVM 의 캐시는 DB 에서 적재되므로 워밍업 스냅샷에 이미 포함된 미반영 행은 반영하지 않고 표시만 하고,
+	 * 스냅샷 이후 커밋된 행은 그대로 남겨 poll 에서 반영
+	 * 워밍업이 실패했거나 꺼져 있으면 미반영 행은 모두 표시하고, 브랜드 원장은 drain 에서 재구축
+	 */
+	@EventListener
+	public void start(CacheWarmUpCompletedEvent event) {
+		if (!enabled) {
+			return;
+		}
+		List<Long> appliedOutboxIds = event.getAppliedOutboxIds();
+		brandTotalsPending = appliedOutboxIds == null;
+		int skipped = transactionTemplate.execute(status -> appliedOutboxIds == null
+				? productOutboxPort.markAllApplied()
+				: markAppliedInChunks(appliedOutboxIds));
+		if (skipped > 0) {
+			log.info("skipped {} outbox rows left from previous run, caches are loaded from the database", skipped);
+		}
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "product-outbox-relay");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this::drainSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+		scheduler.scheduleWithFixedDelay(this::purgeSafely, 1, 1, TimeUnit.MINUTES);
+	}
+
+	private int markAppliedInChunks(List<Long> ids) {
+		int marked = 0;
+		for (int from = 0; from < ids.size(); from += MARK_CHUNK_SIZE) {
+			marked += productOutboxPort.markApplied(ids.subList(from, Math.min(from + MARK_CHUNK_SIZE, ids.size())));
+		}
+		return marked;
+	}
+
+	@PreDestroy
+	void stop() {
+		if (scheduler != null) {
+			scheduler.shutdown();
+		}
+	}
+
+	/**
+	 * 커밋 직후 호출, 병합 구간(window-ms)이 지난 뒤 drain
+	 * 구간 안에 들어온 깨우기는 대기 중인 한 번으로 합쳐지고, 그동안 커밋된 행은 상품별로 병합되어 반영됨
+	 */
+	public void wakeUp() {
+		ScheduledExecutorService current = scheduler;
+		if (current == null || !wakeUpPending.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			current.schedule(() -> {
+				wakeUpPending.set(false);
+				drainSafely();
+			}, coalescingWindowMillis, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			// 종료 중
+			wakeUpPending.set(false);
+		}
+	}
+
+	/**
+	 * 미반영 행이 없을 때까지 batch-size 씩 반영, 반영 완료 표시한 행 수
+	 */
+	public synchronized int drain() {
+		if (brandTotalsPending) {
+			rebuildBrandTotalsSafely();
+		}
+		int relayed = 0;
+		while (true) {
+			List<ProductOutboxRecord> batch = productOutboxPort.findPending(batchSize);
+			if (batch.isEmpty() || !relay(batch)) {
+				return relayed;
+			}
+			relayed += batch.size();
+			if (batch.size() < batchSize) {
+				return relayed;
+			}
+		}
+	}
+
+	/**
+	 * 한 묶음 반영 후 반영 완료 표시, 제출하지 못했으면 false (표시하지 않음)
+	 */
+	boolean relay(List<ProductOutboxRecord> batch) {
+		receivedCounter.increment(batch.size());
+		List<ProductChange> changes = merge(batch);
+		if (!changes.isEmpty()) {
+			try {
+				productCacheDispatcher.dispatch(changes).join();
+				appliedCounter.increment(changes.size());
+			} catch (RejectedExecutionException e) {
+				log.warn("cache dispatcher rejected {} product changes, retrying on next poll", changes.size(), e);
+				return false;
+			} catch (CompletionException e) {
+				failedCounter.increment(changes.size());
+				log.error("failed to apply {} product changes to cache", changes.size(), e.getCause());
+			}
+		}
+		List<Long> ids = batch.stream().map(ProductOutboxRecord::id).toList();
+		transactionTemplate.executeWithoutResult(status -> productOutboxPort.markApplied(ids));
+		return true;
+	}
+
+	/**
+	 * 브랜드 원장을 brand_price_total 로 재구축
+	 * 총액과 미반영 행을 REPEATABLE_READ 트랜잭션 하나에서 읽고, 미반영 행은 뒤이은 drain 이 다시 더하므로 그 순변동을 미리 뺌
+	 * drain 과 같은 relay 스레드(synchronized)에서만 실행되므로 재구축 도중에 반영되는 증감은 없음
+	 */
+	void rebuildBrandTotals() {
+		BrandSnapshot snapshot = snapshotTemplate.execute(status -> new BrandSnapshot(
+				productOutboxPort.findPending(Integer.MAX_VALUE),
+				selectProductPort.findBrandSum()));
+		brandCachePort.rebuild(snapshot.brandSums());
+		for (BrandDelta delta : ProductCacheUpdater.brandDeltas(merge(snapshot.pending()))) {
+			brandCachePort.addBrandTotal(delta.brandId(), delta.brandName(), -delta.price(), -delta.productCount());
+		}
+		brandTotalsPending = false;
+		log.info("brand total ledger rebuilt from brand_price_total, {} pending outbox rows excluded",
+				snapshot.pending().size());
+	}
+
+	private void rebuildBrandTotalsSafely() {
+		try {
+			rebuildBrandTotals();
+		} catch (RuntimeException e) {
+			// 원장이 적재되기 전까지 조회는 DB 로 답하므로 다음 poll 에서 다시 시도
+			log.error("failed to rebuild brand total ledger", e);
+		}
+	}
+
+	/**
+	 * 같은 상품의 변경을 기록 순서대로 합치고, 생성 후 삭제/원래 가격 복귀처럼 반영할 것이 없는 변경은 제외
+	 */
+	static List<ProductChange> merge(List<ProductOutboxRecord> batch) {
+		Map<Long, ProductChange> byProduct = new LinkedHashMap<>();
+		for (ProductOutboxRecord record : batch) {
+			byProduct.merge(record.change().productId(), record.change(), ProductChange::then);
+		}
+		List<ProductChange> changes = new ArrayList<>(byProduct.size());
+		for (ProductChange change : byProduct.values()) {
+			if (!change.isNoop()) {
+				changes.add(change);
+			}
+		}
+		return changes;
+	}
+
+	private void drainSafely() {
+		try {
+			drain();
+		} catch (RuntimeException e) {
+			// DB 장애 등, 미반영 행은 남아 있으므로 다음 poll 에서 다시 시도
+			log.error("failed to relay product outbox", e);
+		}
+	}
+
+	private void purgeSafely() {
+		try {
+			LocalDateTime appliedBefore = LocalDateTime.now().minus(retention);
+			Integer purged = transactionTemplate.execute(status -> productOutboxPort.deleteAppliedBefore(appliedBefore));
+			if (purged != null && purged > 0) {
+				log.debug("purged {} applied outbox rows", purged);
+			}
+		} catch (RuntimeException e) {
+			log.warn("failed to purge applied outbox rows", e);
+		}
+	}
+
+	private record BrandSnapshot(List<ProductOutboxRecord> pending, List<BrandSumProjection> brandSums) {
+	}
+
+}
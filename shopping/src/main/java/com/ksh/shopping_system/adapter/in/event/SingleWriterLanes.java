@@ -0,0 +1,73 @@
+package com.ksh.shopping_system.adapter.in.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 해시로 고정된 단일 스레드 lane 에 작업을 배정
+ * - 같은 키의 작업은 항상 같은 lane 에서 제출 순서대로 실행 (키 단위 순서 보장, 락 불필요)
+ * - lane 큐(고정 크기 링 버퍼)가 가득 차면 제출 스레드가 대기 (backpressure)
+ */
+public class SingleWriterLanes {
+
+	private final ThreadPoolExecutor[] lanes;
+
+	public SingleWriterLanes(String threadNamePrefix, int laneCount, int queueCapacity) {
+		if (laneCount <= 0 || queueCapacity <= 0) {
+			throw new IllegalArgumentException("laneCount and queueCapacity must be positive");
+		}
+		lanes = new ThreadPoolExecutor[laneCount];
+		for (int i = 0; i < laneCount; i++) {
+			String threadName = threadNamePrefix + i;
+			lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(queueCapacity),
+					runnable -> new Thread(runnable, threadName),
+					SingleWriterLanes::blockUntilQueued);
+		}
+	}
+
+	public void execute(Object key, Runnable task) {
+		lanes[laneOf(key)].execute(task);
+	}
+
+	public int laneCount() {
+		return lanes.length;
+	}
+
+	int laneOf(Object key) {
+		int hash = key.hashCode();
+		// HashMap 과 같은 방식으로 상위 비트를 섞어 lane 편중 완화
+		return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+	}
+
+	/**
+	 * 남은 작업을 모두 처리한 뒤 종료
+	 */
+	public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+		for (ThreadPoolExecutor lane : lanes) {
+			lane.shutdown();
+		}
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		for (ThreadPoolExecutor lane : lanes) {
+			if (!lane.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void blockUntilQueued(Runnable task, ThreadPoolExecutor lane) {
+		if (lane.isShutdown()) {
+			throw new RejectedExecutionException("lane is shut down");
+		}
+		try {
+			lane.getQueue().put(task);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("interrupted while waiting for lane capacity", e);
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.ksh.shopping_system.adapter.in.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksh.shopping_system.application.port.in.catalog.CatalogRowReader;
+import com.ksh.shopping_system.common.response.ErrorCode;
+import com.ksh.shopping_system.exception.InvalidValueException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * 가격표 파일 형식
+ */
+public enum CatalogFileFormat {
+	CSV(".csv"),
+	NDJSON(".ndjson");
+
+	private final String extension;
+
+	CatalogFileFormat(String extension) {
+		this.extension = extension;
+	}
+
+	public String extension() {
+		return extension;
+	}
+
+	/**
+	 * 형식 파라미터가 있으면 그대로, 없으면 파일 확장자로 판단
+	 */
+	public static CatalogFileFormat resolve(String format, String fileName) {
+		if (format != null && !format.isBlank()) {
+			try {
+				return valueOf(format.trim().toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new InvalidValueException(ErrorCode.INVALID_PARAMETER, "unsupported catalog format: " + format);
+			}
+		}
+		String lowerName = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+		if (lowerName.endsWith(".csv")) {
+			return CSV;
+		}
+		if (lowerName.endsWith(".ndjson") || lowerName.endsWith(".jsonl")) {
+			return NDJSON;
+		}
+		throw new InvalidValueException(ErrorCode.INVALID_PARAMETER, "cannot detect catalog format: " + fileName);
+	}
+
+	/**
+	 * 파일을 한 줄씩 읽는 리더 생성, deleteOnClose 면 닫을 때 파일 삭제 (업로드 임시 파일)
+	 */
+	public CatalogRowReader open(Path path, ObjectMapper objectMapper, boolean deleteOnClose) throws IOException {
+		BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+		Runnable onClose = deleteOnClose ? () -> deleteQuietly(path) : () -> {
+		};
+		return switch (this) {
+			case CSV -> new CsvCatalogRowReader(reader, onClose);
+			case NDJSON -> new NdjsonCatalogRowReader(reader, objectMapper, onClose);
+		};
+	}
+
+	private static void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException ignored) {
+			// 임시 디렉터리 정리는 OS 에 맡김
+		}
+	}
+
+}
@@ -0,0 +1,172 @@
+package com.ksh.shopping_system.adapter.in.file;
+
+import com.ksh.shopping_system.application.port.in.catalog.CatalogRowReader;
+import com.ksh.shopping_system.common.response.ErrorCode;
+import com.ksh.shopping_system.domain.CatalogRow;
+import com.ksh.shopping_system.exception.InvalidValueException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * CSV 가격표 리더
+ * - 세로형: brandName,categoryName,price (헤더 생략 가능)
+ * - 가로형: brand,상의,아우터,... 헤더 + 브랜드별 한 줄 (DataInitializer 의 prices 행렬과 같은 모양)
+ * 한 줄씩 읽으므로 파일 크기와 무관하게 메모리 사용량이 일정함
+ */
+public class CsvCatalogRowReader implements CatalogRowReader {
+
+	private static final Set<String> BRAND_HEADERS = Set.of("brand", "brandname", "브랜드");
+	private static final Set<String> CATEGORY_HEADERS = Set.of("category", "categoryname", "카테고리");
+	private static final Set<String> PRICE_HEADERS = Set.of("price", "가격");
+
+	private final BufferedReader reader;
+	private final Runnable onClose;
+	private final Deque<CatalogRow> pending = new ArrayDeque<>();
+
+	private long lineNumber;
+	private boolean headerChecked;
+	// 가로형일 때 헤더의 카테고리 목록, 세로형이면 null
+	private List<String> wideCategories;
+
+	public CsvCatalogRowReader(BufferedReader reader, Runnable onClose) {
+		this.reader = reader;
+		this.onClose = onClose;
+	}
+
+	@Override
+	public CatalogRow next() throws IOException {
+		while (pending.isEmpty()) {
+			String line = reader.readLine();
+			if (line == null) {
+				return null;
+			}
+			lineNumber++;
+			// UTF-8 BOM 제거 (엑셀 저장 파일)
+			if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+				line = line.substring(1);
+			}
+			if (line.isBlank()) {
+				continue;
+			}
+			List<String> columns = split(line);
+			if (!headerChecked) {
+				headerChecked = true;
+				if (readHeader(columns)) {
+					continue;
+				}
+			}
+			parseRow(columns);
+		}
+		return pending.poll();
+	}
+
+	/**
+	 * 첫 줄이 헤더면 형식을 결정하고 true
+	 */
+	private boolean readHeader(List<String> columns) {
+		if (columns.isEmpty() || !BRAND_HEADERS.contains(normalize(columns.get(0)))) {
+			return false;
+		}
+		boolean longFormat = columns.size() == 3
+				&& CATEGORY_HEADERS.contains(normalize(columns.get(1)))
+				&& PRICE_HEADERS.contains(normalize(columns.get(2)));
+		if (!longFormat) {
+			wideCategories = List.copyOf(columns.subList(1, columns.size()));
+		}
+		return true;
+	}
+
+	private void parseRow(List<String> columns) {
+		if (wideCategories == null) {
+			if (columns.size() != 3) {
+				throw invalid("expected brandName,categoryName,price but got " + columns.size() + " columns");
+			}
+			pending.add(row(columns.get(0), columns.get(1), columns.get(2)));
+			return;
+		}
+		if (columns.size() != wideCategories.size() + 1) {
+			throw invalid("expected " + (wideCategories.size() + 1) + " columns but got " + columns.size());
+		}
+		// 한 칸이라도 잘못되면 줄 전체를 거부
+		List<CatalogRow> rows = new ArrayList<>(wideCategories.size());
+		for (int i = 0; i < wideCategories.size(); i++) {
+			String price = columns.get(i + 1);
+			if (!price.isBlank()) {
+				rows.add(row(columns.get(0), wideCategories.get(i), price));
+			}
+		}
+		pending.addAll(rows);
+	}
+
+	private CatalogRow row(String brandName, String categoryName, String price) {
+		if (brandName.isBlank() || categoryName.isBlank()) {
+			throw invalid("brand and category are required");
+		}
+		long priceValue;
+		try {
+			priceValue = Long.parseLong(price.trim());
+		} catch (NumberFormatException e) {
+			throw invalid("invalid price: " + price);
+		}
+		if (priceValue < 0) {
+			throw invalid("price must not be negative: " + price);
+		}
+		return new CatalogRow(lineNumber, brandName.trim(), categoryName.trim(), priceValue);
+	}
+
+	private InvalidValueException invalid(String reason) {
+		return new InvalidValueException(ErrorCode.INVALID_CATALOG_ROW, "line " + lineNumber + ": " + reason);
+	}
+
+	/**
+	 * 따옴표("a,b", "a""b") 를 지원하는 한 줄 분리 (여러 줄에 걸친 값은 지원하지 않음)
+	 */
+	static List<String> split(String line) {
+		List<String> columns = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					current.append('"');
+					i++;
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					current.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				columns.add(current.toString());
+				current.setLength(0);
+			} else {
+				current.append(c);
+			}
+		}
+		columns.add(current.toString());
+		return columns;
+	}
+
+	private static String normalize(String header) {
+		return header.trim().toLowerCase(Locale.ROOT);
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			reader.close();
+		} finally {
+			onClose.run();
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.ksh.shopping_system.adapter.in.file;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksh.shopping_system.application.port.in.catalog.CatalogRowReader;
+import com.ksh.shopping_system.common.response.ErrorCode;
+import com.ksh.shopping_system.domain.CatalogRow;
+import com.ksh.shopping_system.exception.InvalidValueException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * NDJSON 가격표 리더, 한 줄에 {"brandName":"A","categoryName":"상의","price":11200}
+ */
+public class NdjsonCatalogRowReader implements CatalogRowReader {
+
+	private final BufferedReader reader;
+	private final ObjectMapper objectMapper;
+	private final Runnable onClose;
+
+	private long lineNumber;
+
+	public NdjsonCatalogRowReader(BufferedReader reader, ObjectMapper objectMapper, Runnable onClose) {
+		this.reader = reader;
+		this.objectMapper = objectMapper;
+		this.onClose = onClose;
+	}
+
+	@Override
+	public CatalogRow next() throws IOException {
+		String line;
+		do {
+			line = reader.readLine();
+			if (line == null) {
+				return null;
+			}
+			lineNumber++;
+		} while (line.isBlank());
+
+		JsonNode node;
+		try {
+			node = objectMapper.readTree(line);
+		} catch (JsonProcessingException e) {
+			throw invalid("malformed json");
+		}
+		String brandName = node.path("brandName").asText("");
+		String categoryName = node.path("categoryName").asText("");
+		JsonNode price = node.path("price");
+		if (brandName.isBlank() || categoryName.isBlank()) {
+			throw invalid("brandName and categoryName are required");
+		}
+		if (!price.isIntegralNumber() || !price.canConvertToLong()) {
+			throw invalid("invalid price: " + price);
+		}
+		if (price.asLong() < 0) {
+			throw invalid("price must not be negative: " + price);
+		}
+		return new CatalogRow(lineNumber, brandName.trim(), categoryName.trim(), price.asLong());
+	}
+
+	private InvalidValueException invalid(String reason) {
+		return new InvalidValueException(ErrorCode.INVALID_CATALOG_ROW, "line " + lineNumber + ": " + reason);
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			reader.close();
+		} finally {
+			onClose.run();
+		}
+	}
+
+}
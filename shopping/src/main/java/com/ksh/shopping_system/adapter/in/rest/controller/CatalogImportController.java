@@ -0,0 +1,86 @@
+package com.ksh.shopping_system.adapter.in.rest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksh.shopping_system.adapter.in.file.CatalogFileFormat;
+import com.ksh.shopping_system.adapter.in.rest.dto.CatalogImportResponse;
+import com.ksh.shopping_system.application.port.in.catalog.CatalogImportJob;
+import com.ksh.shopping_system.application.port.in.catalog.CatalogRowReader;
+import com.ksh.shopping_system.application.port.in.catalog.ImportCatalogUseCase;
+import com.ksh.shopping_system.common.response.ErrorCode;
+import com.ksh.shopping_system.exception.InvalidValueException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 공급사 가격표(CSV/NDJSON) 가져오기 API
+ * 요청은 작업만 시작하고 바로 응답, 진행 상황은 작업 ID 로 조회
+ */
+@RestController
+@RequestMapping("/api/catalog/imports")
+public class CatalogImportController {
+
+	private final ImportCatalogUseCase importCatalogUseCase;
+	private final ObjectMapper objectMapper;
+	private final Path importBaseDir;
+
+	public CatalogImportController(ImportCatalogUseCase importCatalogUseCase,
+								   ObjectMapper objectMapper,
+								   @Value("${shopping.import.base-dir:imports}") String importBaseDir) {
+		this.importCatalogUseCase = importCatalogUseCase;
+		this.objectMapper = objectMapper;
+		this.importBaseDir = Path.of(importBaseDir).toAbsolutePath().normalize();
+	}
+
+	/**
+	 * 파일 업로드 가져오기, 업로드는 임시 파일로 옮긴 뒤 스트리밍 (메모리에 올리지 않음)
+	 */
+	@PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<CatalogImportResponse> importUpload(@RequestParam("file") MultipartFile file,
+															  @RequestParam(required = false) String format) throws IOException {
+		CatalogFileFormat fileFormat = CatalogFileFormat.resolve(format, file.getOriginalFilename());
+		Path tempFile = Files.createTempFile("catalog-import-", fileFormat.extension());
+		CatalogRowReader reader;
+		try {
+			file.transferTo(tempFile);
+			reader = fileFormat.open(tempFile, objectMapper, true);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(tempFile);
+			throw e;
+		}
+		return accepted(importCatalogUseCase.startImport(file.getOriginalFilename(), reader));
+	}
+
+	/**
+	 * 서버에 올려둔 파일 가져오기 (shopping.import.base-dir 하위만 허용)
+	 */
+	@PostMapping("/server-file")
+	public ResponseEntity<CatalogImportResponse> importServerFile(@RequestParam String path,
+																  @RequestParam(required = false) String format) throws IOException {
+		Path file = importBaseDir.resolve(path).normalize();
+		if (!file.startsWith(importBaseDir) || !Files.isRegularFile(file)) {
+			throw new InvalidValueException(ErrorCode.INVALID_PARAMETER, "import file not found: " + path);
+		}
+		CatalogFileFormat fileFormat = CatalogFileFormat.resolve(format, file.getFileName().toString());
+		return accepted(importCatalogUseCase.startImport(path, fileFormat.open(file, objectMapper, false)));
+	}
+
+	/**
+	 * 가져오기 진행 상황 조회
+	 */
+	@GetMapping("/{jobId}")
+	public CatalogImportResponse getImportJob(@PathVariable String jobId) {
+		return CatalogImportResponse.of(importCatalogUseCase.getImportJob(jobId));
+	}
+
+	private ResponseEntity<CatalogImportResponse> accepted(CatalogImportJob job) {
+		return ResponseEntity.accepted().body(CatalogImportResponse.of(job));
+	}
+
+}
@@ -3,27 +3,41 @@ package com.ksh.shopping_system.adapter.in.rest.controller;
 import com.ksh.shopping_system.adapter.in.rest.dto.BrandMinCombinationResponse;
 import com.ksh.shopping_system.adapter.in.rest.dto.CategoryExtremesResponse;
 import com.ksh.shopping_system.adapter.in.rest.dto.MinPriceByCategoryResponse;
+import com.ksh.shopping_system.adapter.in.rest.dto.ProductCreateRequest;
+import com.ksh.shopping_system.adapter.in.rest.dto.ProductPriceUpdateRequest;
+import com.ksh.shopping_system.adapter.in.rest.snapshot.ResponseSnapshot;
+import com.ksh.shopping_system.adapter.in.rest.snapshot.ResponseSnapshotCache;
 import com.ksh.shopping_system.application.port.in.brand.CreateBrandUseCase;
 import com.ksh.shopping_system.application.port.in.brand.DeleteBrandUseCase;
+import com.ksh.shopping_system.application.port.in.brand.RebuildBrandTotalsUseCase;
 import com.ksh.shopping_system.application.port.in.brand.UpdateBrandUseCase;
 import com.ksh.shopping_system.application.port.in.product.*;
 import com.ksh.shopping_system.common.response.BaseResponse;
 import com.ksh.shopping_system.domain.CategoryExtremesResult;
 import com.ksh.shopping_system.domain.Product;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/products")
 @RequiredArgsConstructor
 public class ProductController {
 
+	private static final MediaType JSON_UTF8 = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+	// 지연 예산 초과로 마지막 값을 응답한 경우 true
+	static final String STALE_HEADER = "X-Response-Stale";
+
 	private final CreateBrandUseCase createBrandUseCase;
 	private final UpdateBrandUseCase updateBrandUseCase;
 	private final DeleteBrandUseCase deleteBrandUseCase;
+	private final RebuildBrandTotalsUseCase rebuildBrandTotalsUseCase;
 
 	private final CreateProductUseCase createProductUseCase;
 	private final UpdateProductUseCase updateProductUseCase;
@@ -33,6 +47,8 @@ public class ProductController {
 	private final GetMinBrandCombinationUseCase getMinBrandCombinationUseCase;
 	private final GetCategoryExtremesUseCase getCategoryExtremesUseCase;
 
+	private final ResponseSnapshotCache responseSnapshotCache;
+
 	/**
 	 * 브랜드 생성 API
 	 */
@@ -61,6 +77,15 @@ public class ProductController {
 		return new BaseResponse("브랜드 삭제 완료");
 	}
 
+	/**
+	 * 브랜드 총액 재계산 API (products 전체 집계, 운영자가 명시적으로 실행)
+	 */
+	@PostMapping("/brand/totals/rebuild")
+	public BaseResponse rebuildBrandTotals() {
+		int brandCount = rebuildBrandTotalsUseCase.rebuildBrandTotals();
+		return new BaseResponse("브랜드 총액 재계산 완료: " + brandCount + "개 브랜드");
+	}
+
 	/**
 	 * 상품 생성 API
 	 */
@@ -73,6 +98,18 @@ public class ProductController {
 				+ "/" + product.getCategory().getName() + "/" + product.getPriceValue());
 	}
 
+	/**
+	 * 상품 일괄 생성 API
+	 */
+	@PostMapping("/bulk")
+	public BaseResponse createProducts(@RequestBody List<ProductCreateRequest> requests) {
+		var commands = requests.stream()
+				.map(r -> new CreateProductCommand(r.brandName(), r.categoryName(), r.price()))
+				.toList();
+		var products = createProductUseCase.createProducts(commands);
+		return new BaseResponse("상품 일괄 생성 완료: " + products.size() + "건");
+	}
+
 	/**
 	 * 상품 수정(가격 변경) API
 	 */
@@ -83,6 +120,18 @@ public class ProductController {
 		return new BaseResponse("상품 가격 수정 완료: " + updated.getPriceValue());
 	}
 
+	/**
+	 * 상품 가격 일괄 수정 API
+	 */
+	@PutMapping("/prices")
+	public BaseResponse updateProductPrices(@RequestBody List<ProductPriceUpdateRequest> requests) {
+		var commands = requests.stream()
+				.map(r -> new UpdateProductPriceCommand(r.productId(), r.price()))
+				.toList();
+		var changes = updateProductUseCase.updateProductPrices(commands);
+		return new BaseResponse("상품 가격 일괄 수정 완료: " + changes.size() + "건");
+	}
+
 	/**
 	 * 상품 삭제 API
 	 */
@@ -96,7 +145,43 @@ public class ProductController {
 	 * 1. 카테고리별 최저가 상품 조회 API
 	 */
 	@GetMapping("/min-price-by-category")
-	public List<MinPriceByCategoryResponse> getMinPriceByCategory() {
+	public ResponseEntity<?> getMinPriceByCategory() {
+		return respond(ResponseSnapshotCache.MIN_PRICE_BY_CATEGORY, this::minPriceByCategoryResponse);
+	}
+
+	/**
+	 * 2. 단일 브랜드 기준 최저가 상품 조합 조회 API
+	 */
+	@GetMapping("/cheapest-brand")
+	public ResponseEntity<?> getMinBrandCombination() {
+		return respond(ResponseSnapshotCache.CHEAPEST_BRAND, this::minBrandCombinationResponse);
+	}
+
+	/**
+	 * 3. 특정 카테고리 최저가/최고가 조회 API
+	 */
+	@GetMapping("/category-extremes")
+	public ResponseEntity<?> getCategoryExtremes(@RequestParam String categoryName) {
+		return respond(ResponseSnapshotCache.categoryExtremesKey(categoryName),
+				() -> categoryExtremesResponse(categoryName));
+	}
+
+	/**
+	 * 스냅샷 사용 시 캐시된 JSON byte[] 를 그대로 응답, 아니면 DTO 를 매 요청 직렬화
+	 */
+	private ResponseEntity<?> respond(String snapshotKey, Supplier<?> responseSupplier) {
+		if (!responseSnapshotCache.isEnabled()) {
+			return ResponseEntity.ok(responseSupplier.get());
+		}
+		ResponseSnapshot snapshot = responseSnapshotCache.get(snapshotKey, responseSupplier);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(JSON_UTF8);
+		if (snapshot.stale()) {
+			response.header(STALE_HEADER, "true");
+		}
+		return response.body(snapshot.body());
+	}
+
+	private List<MinPriceByCategoryResponse> minPriceByCategoryResponse() {
 		List<Product> minProducts = getMinPriceByCategoryUseCase.getMinPriceByCategory();
 
 		long total = 0;
@@ -114,11 +199,7 @@ public class ProductController {
 		return result;
 	}
 
-	/**
-	 * 2. 단일 브랜드 기준 최저가 상품 조합 조회 API
-	 */
-	@GetMapping("/cheapest-brand")
-	public BrandMinCombinationResponse getMinBrandCombination() {
+	private BrandMinCombinationResponse minBrandCombinationResponse() {
 		var domainResult = getMinBrandCombinationUseCase.getMinBrandCombination();
 		var catPrices = domainResult.products().stream()
 				.map(p -> new BrandMinCombinationResponse.CategoryPrice(
@@ -134,11 +215,7 @@ public class ProductController {
 		);
 	}
 
-	/**
-	 * 3. 특정 카테고리 최저가/최고가 조회 API
-	 */
-	@GetMapping("/category-extremes")
-	public CategoryExtremesResponse getCategoryExtremes(@RequestParam String categoryName) {
+	private CategoryExtremesResponse categoryExtremesResponse(String categoryName) {
 		CategoryExtremesResult categoryExtremes = getCategoryExtremesUseCase.getCategoryExtremes(categoryName);
 		return CategoryExtremesResponse.of(categoryExtremes);
 	}
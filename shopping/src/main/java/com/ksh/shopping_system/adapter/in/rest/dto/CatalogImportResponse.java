@@ -0,0 +1,44 @@
+package com.ksh.shopping_system.adapter.in.rest.dto;
+
+import com.ksh.shopping_system.application.port.in.catalog.CatalogImportJob;
+import com.ksh.shopping_system.common.response.BaseResponse;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CatalogImportResponse extends BaseResponse {
+
+	private String jobId;
+	private String sourceName;
+	private String status;
+	private long rowsRead;
+	private long rowsCreated;
+	private long rowsUpdated;
+	private long rowsUnchanged;
+	private long rowsRejected;
+	private long chunksCommitted;
+	private long elapsedMillis;
+	private double rowsPerSecond;
+	private String errorMessage;
+	private List<String> rejectionSamples;
+
+	public static CatalogImportResponse of(CatalogImportJob job) {
+		CatalogImportResponse response = new CatalogImportResponse();
+		response.jobId = job.getJobId();
+		response.sourceName = job.getSourceName();
+		response.status = job.getStatus().name();
+		response.rowsRead = job.getRowsRead();
+		response.rowsCreated = job.getRowsCreated();
+		response.rowsUpdated = job.getRowsUpdated();
+		response.rowsUnchanged = job.getRowsUnchanged();
+		response.rowsRejected = job.getRowsRejected();
+		response.chunksCommitted = job.getChunksCommitted();
+		response.elapsedMillis = job.getElapsedMillis();
+		response.rowsPerSecond = job.getRowsPerSecond();
+		response.errorMessage = job.getErrorMessage();
+		response.rejectionSamples = job.getRejectionSamples();
+		return response;
+	}
+
+}
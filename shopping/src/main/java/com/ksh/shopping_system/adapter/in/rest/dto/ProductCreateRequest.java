@@ -1,4 +1,4 @@
 package com.ksh.shopping_system.adapter.in.rest.dto;
 
-public record ProductCreateRequest(String brandName, String categoryName, String price) {
+public record ProductCreateRequest(String brandName, String categoryName, long price) {
 }
@@ -0,0 +1,4 @@
+package com.ksh.shopping_system.adapter.in.rest.dto;
+
+public record ProductPriceUpdateRequest(Long productId, long price) {
+}
@@ -0,0 +1,8 @@
+package com.ksh.shopping_system.adapter.in.rest.snapshot;
+
+/**
+ * 직렬화된 응답 JSON
+ * stale 이면 무효화된 이전 스냅샷을 지연 예산 초과로 대신 응답한 것 (최신 값은 백그라운드에서 렌더링 중)
+ */
+public record ResponseSnapshot(byte[] body, boolean stale) {
+}
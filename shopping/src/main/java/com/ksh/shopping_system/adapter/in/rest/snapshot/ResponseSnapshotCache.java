@@ -0,0 +1,282 @@
+package com.ksh.shopping_system.adapter.in.rest.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksh.shopping_system.application.event.ProductCacheChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 집계 API 응답 JSON 스냅샷
+ * - 캐시 변경(ProductCacheChangedEvent) 시에만 무효화되고, 다음 요청에서 한 번 다시 직렬화
+ * - 그 외 요청은 직렬화된 byte[] 를 그대로 응답
+ * - shopping.response-snapshot.enabled=false 이면 기존처럼 매 요청 DTO 매핑 + 직렬화
+ * stale-while-revalidate (shopping.response-snapshot.stale-budget-ms > 0)
+ * - 무효화된 스냅샷은 버리지 않고 마지막 값으로 보관
+ * - 마지막 값이 있는 키는 다시 렌더링을 백그라운드에서 키별 한 번만 수행하고, 예산 안에 끝나지 않으면 마지막 값을 stale 로 응답
+ * - 마지막 값이 없는 키(최초 조회)는 기존처럼 요청 스레드에서 렌더링
+ * - 백그라운드 렌더링 제출이 거절되면(풀 포화) 마지막 값을 stale 로 응답
+ * - 마지막 값은 새 스냅샷이 저장되거나 stale-max-age 가 지나면 버림 (삭제된 카테고리 키가 남지 않도록)
+ * 키(슬롯)는 렌더링에 성공한 뒤에만 만들고 렌더링이 실패하면 빈 슬롯을 지움
+ * (카테고리 검증(CategoryRegistry)은 렌더링 안에서 하므로 없는 카테고리 요청으로 키가 늘지 않음)
+ */
+@Slf4j
+@Component
+public class ResponseSnapshotCache {
+
+	public static final String MIN_PRICE_BY_CATEGORY = "min-price-by-category";
+	public static final String CHEAPEST_BRAND = "cheapest-brand";
+	private static final String CATEGORY_EXTREMES_PREFIX = "category-extremes:";
+	// 슬롯이 없는 키의 무효화 횟수 stripe (키 해시 기준, 다른 키와 겹치면 저장을 한 번 건너뛸 뿐)
+	private static final int INVALIDATION_STRIPES = 64;
+
+	private final ObjectMapper objectMapper;
+	private final Executor refreshExecutor;
+	private final boolean enabled;
+	private final long staleBudgetMillis;
+	private final long staleMaxAgeNanos;
+
+	private final MeterRegistry meterRegistry;
+
+	// 키별 (버전, 스냅샷), 무효화는 버전을 올리고 스냅샷을 비움
+	private final ConcurrentHashMap<String, Slot> slots = new ConcurrentHashMap<>();
+	// 슬롯이 없는 키의 렌더링 도중 무효화 감지용 (슬롯을 미리 만들지 않도록)
+	private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+	// 무효화된 스냅샷(마지막 값), stale-while-revalidate 에서만 사용
+	private final ConcurrentHashMap<String, StaleBody> lastKnown = new ConcurrentHashMap<>();
+	// 키별 진행 중인 백그라운드 렌더링
+	private final ConcurrentHashMap<String, CompletableFuture<byte[]>> refreshing = new ConcurrentHashMap<>();
+
+	public ResponseSnapshotCache(ObjectMapper objectMapper,
+								 MeterRegistry meterRegistry,
+								 @Qualifier("snapshotRefreshExecutor") Executor refreshExecutor,
+								 @Value("${shopping.response-snapshot.enabled:true}") boolean enabled,
+								 @Value("${shopping.response-snapshot.stale-budget-ms:0}") long staleBudgetMillis,
+								 @Value("${shopping.response-snapshot.stale-max-age:10m}") Duration staleMaxAge) {
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.refreshExecutor = refreshExecutor;
+		this.enabled = enabled;
+		this.staleBudgetMillis = staleBudgetMillis;
+		this.staleMaxAgeNanos = staleMaxAge.toNanos();
+		Gauge.builder("response.snapshot.keys", slots, Map::size)
+				.description("응답 스냅샷 키(슬롯) 수")
+				.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public static String categoryExtremesKey(String categoryName) {
+		return CATEGORY_EXTREMES_PREFIX + categoryName;
+	}
+
+	public ResponseSnapshot get(String key, Supplier<?> responseSupplier) {
+		Slot slot = slots.get(key);
+		if (slot != null && slot.body() != null) {
+			return new ResponseSnapshot(slot.body(), false);
+		}
+
+		byte[] stale = staleBudgetMillis > 0 ? lastKnownBody(key) : null;
+		if (stale == null) {
+			return new ResponseSnapshot(renderAndStore(key, responseSupplier), false);
+		}
+
+		CompletableFuture<byte[]> refresh = refreshFor(key, responseSupplier);
+		try {
+			return new ResponseSnapshot(refresh.get(staleBudgetMillis, TimeUnit.MILLISECONDS), false);
+		} catch (TimeoutException e) {
+			staleCounter(key).increment();
+			return new ResponseSnapshot(stale, true);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return new ResponseSnapshot(stale, true);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RejectedExecutionException) {
+				staleCounter(key).increment();
+				return new ResponseSnapshot(stale, true);
+			}
+			throw unwrap(e.getCause());
+		}
+	}
+
+	@EventListener
+	public void handleProductCacheChanged(ProductCacheChangedEvent event) {
+		pruneLastKnown();
+		if (event.isBrandTotalsOnly()) {
+			invalidate(CHEAPEST_BRAND);
+			return;
+		}
+		if (event.getCategoryName() == null) {
+			for (int i = 0; i < INVALIDATION_STRIPES; i++) {
+				invalidations.incrementAndGet(i);
+			}
+			slots.keySet().forEach(this::invalidate);
+			return;
+		}
+		invalidate(MIN_PRICE_BY_CATEGORY);
+		invalidate(CHEAPEST_BRAND);
+		invalidate(categoryExtremesKey(event.getCategoryName()));
+	}
+
+	private void invalidate(String key) {
+		invalidations.incrementAndGet(stripeOf(key));
+		slots.computeIfPresent(key, (k, slot) -> {
+			if (slot.body() != null && staleBudgetMillis > 0) {
+				lastKnown.put(k, new StaleBody(slot.body(), System.nanoTime()));
+			}
+			return new Slot(slot.version() + 1, null);
+		});
+	}
+
+	/**
+	 * 렌더링 시작 시점의 키 버전이 저장 시점에도 같을 때만 저장 (버전 비교와 저장을 compute 안에서 함께 수행)
+	 * 슬롯이 없던 키는 렌더링 도중 같은 stripe 의 무효화가 없었을 때만 슬롯을 만들어 저장
+	 * 다른 키의 무효화는 이 키의 저장을 막지 않음
+	 */
+	private byte[] renderAndStore(String key, Supplier<?> responseSupplier) {
+		Slot started = slots.get(key);
+		long renderedVersion = started == null ? -1 : started.version();
+		long renderedInvalidations = invalidations.get(stripeOf(key));
+		byte[] rendered;
+		try {
+			rendered = render(responseSupplier.get());
+		} catch (RuntimeException e) {
+			// 없는/삭제된 카테고리 등, 렌더링에 실패한 키의 빈 슬롯은 남기지 않음
+			slots.computeIfPresent(key, (k, slot) -> slot.body() == null ? null : slot);
+			throw e;
+		}
+		slots.compute(key, (k, slot) -> {
+			if (slot == null) {
+				if (started != null || invalidations.get(stripeOf(k)) != renderedInvalidations) {
+					return null;
+				}
+				lastKnown.remove(k);
+				return new Slot(0, rendered);
+			}
+			if (slot.version() != renderedVersion) {
+				return slot;
+			}
+			if (slot.body() != null) {
+				return slot;
+			}
+			lastKnown.remove(k);
+			return new Slot(renderedVersion, rendered);
+		});
+		return rendered;
+	}
+
+	/**
+	 * 키별 진행 중인 백그라운드 렌더링, 없으면 새로 제출
+	 * 요청 스레드가 예산 초과로 먼저 돌아가도 렌더링은 끝까지 진행되어 다음 요청부터 최신 값을 응답
+	 * 정리 콜백은 map 갱신이 끝난 뒤에 등록 (이미 끝난 렌더링이면 콜백이 바로 실행되어도 같은 map 을 재귀 갱신하지 않음)
+	 */
+	private CompletableFuture<byte[]> refreshFor(String key, Supplier<?> responseSupplier) {
+		CompletableFuture<byte[]> created = new CompletableFuture<>();
+		CompletableFuture<byte[]> running = refreshing.putIfAbsent(key, created);
+		if (running != null) {
+			return running;
+		}
+		created.whenComplete((rendered, error) -> {
+			refreshing.remove(key, created);
+			if (error instanceof RejectedExecutionException) {
+				log.warn("응답 스냅샷 갱신 작업이 거절되어 마지막 값을 응답합니다. key={}", key);
+			} else if (error != null) {
+				log.warn("응답 스냅샷 갱신 실패, 마지막 값을 유지합니다. key={}", key, error);
+			}
+		});
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					created.complete(renderAndStore(key, responseSupplier));
+				} catch (Throwable e) {
+					created.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			created.completeExceptionally(e);
+		}
+		return created;
+	}
+
+	private byte[] lastKnownBody(String key) {
+		StaleBody stale = lastKnown.get(key);
+		if (stale == null) {
+			return null;
+		}
+		if (stale.isExpired(staleMaxAgeNanos)) {
+			lastKnown.remove(key, stale);
+			return null;
+		}
+		return stale.body();
+	}
+
+	private void pruneLastKnown() {
+		lastKnown.values().removeIf(stale -> stale.isExpired(staleMaxAgeNanos));
+	}
+
+	private Counter staleCounter(String key) {
+		return Counter.builder("response.snapshot.stale")
+				.description("지연 예산 초과로 마지막 값을 응답한 횟수")
+				.tag("endpoint", endpointOf(key))
+				.register(meterRegistry);
+	}
+
+	private static int stripeOf(String key) {
+		return key.hashCode() & (INVALIDATION_STRIPES - 1);
+	}
+
+	// 카테고리명은 태그 카디널리티를 늘리므로 엔드포인트 단위로 집계
+	private static String endpointOf(String key) {
+		return key.startsWith(CATEGORY_EXTREMES_PREFIX) ? "category-extremes" : key;
+	}
+
+	private static RuntimeException unwrap(Throwable cause) {
+		if (cause instanceof CompletionException && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		if (cause instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+		return new IllegalStateException("응답 렌더링에 실패했습니다.", cause);
+	}
+
+	private byte[] render(Object response) {
+		try {
+			return objectMapper.writeValueAsBytes(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("응답 직렬화에 실패했습니다.", e);
+		}
+	}
+
+	private record Slot(long version, byte[] body) {
+	}
+
+	private record StaleBody(byte[] body, long invalidatedAt) {
+
+		boolean isExpired(long maxAgeNanos) {
+			return System.nanoTime() - invalidatedAt > maxAgeNanos;
+		}
+	}
+
+}
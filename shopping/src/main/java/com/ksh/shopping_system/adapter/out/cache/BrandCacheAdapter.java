@@ -1,43 +1,114 @@
 package com.ksh.shopping_system.adapter.out.cache;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
 import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.domain.BrandTotalPrice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.Map;
+import java.util.List;
+import java.util.OptionalLong;
 
+/**
+ * 브랜드 총액 원장(BrandTotalLedger) + 최저가 브랜드 순위(CheapestBrandTracker)
+ * 같은 브랜드의 원장 증감과 순위 갱신은 브랜드 ID 기준 lock striping 으로 함께 직렬화
+ * rebuild 로 전체 적재가 끝나기 전의 증감/이름 변경은 버림 (일부 브랜드만 담긴 원장으로 최저가를 답하지 않도록)
+ */
 @Component
 @RequiredArgsConstructor
 public class BrandCacheAdapter implements BrandCachePort {
 
-	private final Cache<String, Long> brandTotalPriceCache;
+	private static final int LOCK_STRIPES = 64;
+
+	private final BrandTotalLedger brandTotalLedger;
+	private final CheapestBrandTracker cheapestBrandTracker;
+	private final Object[] locks = createLocks();
+	private volatile boolean warmedUp;
 
 	@Override
-	public void putBrandTotal(String brandName, Long totalPrice) {
-		brandTotalPriceCache.put(brandName, totalPrice);
+	public void addBrandTotal(long brandId, String brandName, long priceDelta, long productCountDelta) {
+		if (!warmedUp) {
+			return;
+		}
+		synchronized (lockFor(brandId)) {
+			brandTotalLedger.add(brandId, brandName, priceDelta, productCountDelta);
+			updateRanking(brandId);
+		}
 	}
 
 	@Override
-	public Long getBrandTotal(String brandName) {
-		return brandTotalPriceCache.getIfPresent(brandName);
+	public OptionalLong getBrandTotal(long brandId) {
+		return brandTotalLedger.total(brandId);
 	}
 
 	@Override
-	public void removeBrand(String brandName) {
-		brandTotalPriceCache.invalidate(brandName);
+	public long getProductCount(long brandId) {
+		return brandTotalLedger.productCount(brandId);
 	}
 
 	@Override
-	public void clearAll() {
-		brandTotalPriceCache.invalidateAll();
+	public void resetBrandTotal(long brandId, String brandName, long totalPrice, long productCount) {
+		if (!warmedUp) {
+			return;
+		}
+		synchronized (lockFor(brandId)) {
+			brandTotalLedger.set(brandId, brandName, totalPrice, productCount);
+			updateRanking(brandId);
+		}
+	}
+
+	@Override
+	public BrandTotalPrice getCheapestBrand() {
+		return cheapestBrandTracker.cheapest();
+	}
+
+	@Override
+	public void renameBrand(long brandId, String newBrandName) {
+		if (!warmedUp) {
+			return;
+		}
+		synchronized (lockFor(brandId)) {
+			brandTotalLedger.rename(brandId, newBrandName);
+			updateRanking(brandId);
+		}
+	}
+
+	@Override
+	public void rebuild(List<BrandSumProjection> sums) {
+		clearAll();
+		for (BrandSumProjection row : sums) {
+			brandTotalLedger.add(row.getBrandId(), row.getBrandName(), row.getTotalPrice(), row.getProductCount());
+		}
+		brandTotalLedger.forEach((brandId, brandName, totalPrice) -> cheapestBrandTracker.update(brandId));
+		warmedUp = true;
 	}
 
 	@Override
-	public Map<String, Long> asMap() {
-		// read-only map
-		return Collections.unmodifiableMap(brandTotalPriceCache.asMap());
+	public boolean isWarmedUp() {
+		return warmedUp;
+	}
+
+	@Override
+	public void clearAll() {
+		warmedUp = false;
+		brandTotalLedger.clear();
+		cheapestBrandTracker.clear();
+	}
+
+	private void updateRanking(long brandId) {
+		cheapestBrandTracker.update(brandId);
+	}
+
+	private Object lockFor(long brandId) {
+		return locks[(int) (brandId & (LOCK_STRIPES - 1))];
+	}
+
+	private static Object[] createLocks() {
+		Object[] locks = new Object[LOCK_STRIPES];
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new Object();
+		}
+		return locks;
 	}
 
 }
@@ -0,0 +1,68 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ksh.shopping_system.application.port.out.product.BrandProductsCachePort;
+import com.ksh.shopping_system.application.port.out.product.SelectProductPort;
+import com.ksh.shopping_system.domain.Product;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 브랜드 상품 목록 loading cache
+ * - 없는 키: 키별로 한 번만 loader 호출 (동시 요청은 같은 적재를 기다림)
+ * - refreshAfterWrite 가 지난 키: 기존 값을 그대로 응답하고 백그라운드에서 한 번만 다시 적재
+ * - expireAfterWrite 가 지난 키: 오래 조회되지 않은 키라 다음 조회 때 새로 적재
+ * 상품 변경 시에는 이벤트로 브랜드 단위 무효화
+ * 적재(DB 조회)는 loadExecutor 에서 실행하고 요청 스레드는 future 를 기다림
+ * (동기 LoadingCache 는 ConcurrentHashMap 의 synchronized 구간 안에서 loader 를 호출해 가상 스레드가 carrier 에 고정됨)
+ */
+@Component
+public class BrandProductsCacheAdapter implements BrandProductsCachePort {
+
+	private final AsyncLoadingCache<String, List<Product>> cache;
+
+	public BrandProductsCacheAdapter(
+			SelectProductPort selectProductPort,
+			@Qualifier("cacheLoadExecutor") Executor loadExecutor,
+			@Value("${shopping.cache.brand-products.maximum-size:1000}") long maximumSize,
+			@Value("${shopping.cache.brand-products.refresh-after-write:30s}") Duration refreshAfterWrite,
+			@Value("${shopping.cache.brand-products.expire-after-write:10m}") Duration expireAfterWrite) {
+		this.cache = Caffeine.newBuilder()
+				.executor(loadExecutor)
+				.maximumSize(maximumSize)
+				.refreshAfterWrite(refreshAfterWrite)
+				.expireAfterWrite(expireAfterWrite)
+				.buildAsync(selectProductPort::findByBrandName);
+	}
+
+	@Override
+	public List<Product> getBrandProducts(String brandName) {
+		try {
+			return cache.get(brandName).join();
+		} catch (CompletionException e) {
+			// loader 예외(DataNotFoundException, DB_FALLBACK_BUSY 등)를 그대로 전달
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public void invalidate(String brandName) {
+		cache.synchronous().invalidate(brandName);
+	}
+
+	@Override
+	public void invalidateAll() {
+		cache.synchronous().invalidateAll();
+	}
+
+}
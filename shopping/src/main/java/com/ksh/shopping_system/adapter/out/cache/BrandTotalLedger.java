@@ -0,0 +1,197 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import com.ksh.shopping_system.domain.BrandTotalPrice;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 브랜드 ID -> 총액 원장
+ * - 브랜드 ID 를 인덱스로 쓰는 primitive 배열(AtomicLongArray) 청크에 총액/상품 수를 보관 (boxing, eviction 없음)
+ * - 총액/상품 수 갱신은 lock-free atomic add, 청크 디렉터리 확장만 락으로 보호
+ * - 청크는 한 번 만들어지면 교체되지 않으므로 확장 중에도 갱신이 유실되지 않음
+ * - 상품 수가 1 이상인 브랜드만 원장에 존재하는 것으로 간주
+ * - 같은 청크에 브랜드의 현재 순위 원소(CheapestBrandTracker 가 관리)도 보관해 브랜드 ID -> 순위 map 을 따로 두지 않음
+ */
+public class BrandTotalLedger {
+
+	private static final int CHUNK_BITS = 10;
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	private static final long MAX_BRAND_ID = Integer.MAX_VALUE;
+
+	private final Object growLock = new Object();
+	private final AtomicInteger brandCount = new AtomicInteger();
+	private volatile Chunk[] chunks = new Chunk[0];
+
+	private static final class Chunk {
+		private final AtomicLongArray totals = new AtomicLongArray(CHUNK_SIZE);
+		private final AtomicLongArray productCounts = new AtomicLongArray(CHUNK_SIZE);
+		private final AtomicReferenceArray<String> names = new AtomicReferenceArray<>(CHUNK_SIZE);
+		private final AtomicReferenceArray<BrandTotalPrice> ranks = new AtomicReferenceArray<>(CHUNK_SIZE);
+	}
+
+	/**
+	 * 총액/상품 수 증감
+	 * 브랜드명은 원장에 없을 때만 기록 (이후 변경은 rename 으로만 반영)
+	 */
+	public void add(long brandId, String brandName, long priceDelta, long productCountDelta) {
+		Chunk chunk = chunkFor(brandId, true);
+		int slot = (int) (brandId & CHUNK_MASK);
+
+		if (brandName != null) {
+			chunk.names.compareAndSet(slot, null, brandName);
+		}
+		chunk.totals.addAndGet(slot, priceDelta);
+		if (productCountDelta != 0) {
+			long after = chunk.productCounts.addAndGet(slot, productCountDelta);
+			long before = after - productCountDelta;
+			if (before <= 0 && after > 0) {
+				brandCount.incrementAndGet();
+			} else if (before > 0 && after <= 0) {
+				brandCount.decrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * 총액/상품 수를 지정한 값으로 교체 (정합성 복구용)
+	 * 같은 브랜드의 add 와 동시에 호출되지 않도록 호출 측에서 직렬화해야 함
+	 */
+	public void set(long brandId, String brandName, long totalPrice, long productCount) {
+		Chunk chunk = chunkFor(brandId, true);
+		int slot = (int) (brandId & CHUNK_MASK);
+
+		if (brandName != null) {
+			chunk.names.set(slot, brandName);
+		}
+		chunk.totals.set(slot, totalPrice);
+		long before = chunk.productCounts.getAndSet(slot, productCount);
+		if (before <= 0 && productCount > 0) {
+			brandCount.incrementAndGet();
+		} else if (before > 0 && productCount <= 0) {
+			brandCount.decrementAndGet();
+		}
+	}
+
+	public void rename(long brandId, String newBrandName) {
+		Chunk chunk = chunkFor(brandId, true);
+		chunk.names.set((int) (brandId & CHUNK_MASK), newBrandName);
+	}
+
+	public OptionalLong total(long brandId) {
+		Chunk chunk = chunkFor(brandId, false);
+		int slot = (int) (brandId & CHUNK_MASK);
+		if (chunk == null || chunk.productCounts.get(slot) <= 0) {
+			return OptionalLong.empty();
+		}
+		return OptionalLong.of(chunk.totals.get(slot));
+	}
+
+	/**
+	 * 총액 (상품이 없는 브랜드도 그대로 반환, OptionalLong 할당 없이 순위 갱신에서 사용)
+	 */
+	long totalPrice(long brandId) {
+		Chunk chunk = chunkFor(brandId, false);
+		return chunk == null ? 0 : chunk.totals.get((int) (brandId & CHUNK_MASK));
+	}
+
+	/**
+	 * 순위에 들어 있는 브랜드의 현재 순위 원소, 순위에 없으면 null
+	 */
+	BrandTotalPrice rank(long brandId) {
+		Chunk chunk = chunkFor(brandId, false);
+		return chunk == null ? null : chunk.ranks.get((int) (brandId & CHUNK_MASK));
+	}
+
+	void setRank(long brandId, BrandTotalPrice rank) {
+		Chunk chunk = chunkFor(brandId, rank != null);
+		if (chunk != null) {
+			chunk.ranks.set((int) (brandId & CHUNK_MASK), rank);
+		}
+	}
+
+	public long productCount(long brandId) {
+		Chunk chunk = chunkFor(brandId, false);
+		return chunk == null ? 0 : chunk.productCounts.get((int) (brandId & CHUNK_MASK));
+	}
+
+	public String name(long brandId) {
+		Chunk chunk = chunkFor(brandId, false);
+		return chunk == null ? null : chunk.names.get((int) (brandId & CHUNK_MASK));
+	}
+
+	/**
+	 * 상품이 있는 모든 브랜드 순회 (boxing 없이 primitive 로 전달)
+	 */
+	public void forEach(TotalConsumer consumer) {
+		Chunk[] current = chunks;
+		for (int chunkIndex = 0; chunkIndex < current.length; chunkIndex++) {
+			Chunk chunk = current[chunkIndex];
+			if (chunk == null)
+				continue;
+			for (int slot = 0; slot < CHUNK_SIZE; slot++) {
+				if (chunk.productCounts.get(slot) > 0) {
+					long brandId = ((long) chunkIndex << CHUNK_BITS) | slot;
+					consumer.accept(brandId, chunk.names.get(slot), chunk.totals.get(slot));
+				}
+			}
+		}
+	}
+
+	public int size() {
+		return brandCount.get();
+	}
+
+	public boolean isEmpty() {
+		return brandCount.get() == 0;
+	}
+
+	/**
+	 * 원장 초기화
+	 * 진행 중인 증감과 동시에 호출하면 해당 증감이 유실될 수 있으므로 기동/재구축 시에만 사용
+	 */
+	public void clear() {
+		synchronized (growLock) {
+			chunks = new Chunk[0];
+			brandCount.set(0);
+		}
+	}
+
+	@FunctionalInterface
+	public interface TotalConsumer {
+		void accept(long brandId, String brandName, long totalPrice);
+	}
+
+	private Chunk chunkFor(long brandId, boolean create) {
+		if (brandId < 0 || brandId > MAX_BRAND_ID) {
+			throw new IllegalArgumentException("지원하지 않는 브랜드 ID 입니다: " + brandId);
+		}
+		int chunkIndex = (int) (brandId >>> CHUNK_BITS);
+		Chunk[] current = chunks;
+		if (chunkIndex < current.length && current[chunkIndex] != null) {
+			return current[chunkIndex];
+		}
+		if (!create) {
+			return null;
+		}
+
+		synchronized (growLock) {
+			current = chunks;
+			if (chunkIndex < current.length && current[chunkIndex] != null) {
+				return current[chunkIndex];
+			}
+			Chunk[] grown = chunkIndex < current.length
+					? current.clone()
+					: Arrays.copyOf(current, Math.max(chunkIndex + 1, current.length * 2));
+			Chunk chunk = new Chunk();
+			grown[chunkIndex] = chunk;
+			chunks = grown;
+			return chunk;
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import com.ksh.shopping_system.adapter.out.cache.dto.PriceIndexEntry;
+import com.ksh.shopping_system.domain.Brand;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 카테고리 단위 가격 정렬 인덱스
+ * - 카테고리의 모든 상품을 (가격 ASC, 브랜드명 ASC, 상품 ID ASC) 순으로 보관
+ * - 첫 원소 = 최저가 (가격이 같으면 알파벳 순 앞 브랜드, Product.isPreferredForMinPrice 와 동일)
+ * - 마지막 원소 = 최고가 (가격이 같으면 알파벳 순 뒤 브랜드, Product.isPreferredForMaxPrice 와 동일)
+ * - 쓰기(put/remove)는 호출자가 카테고리 단위로 직렬화해야 하며, 읽기(min/max)는 락 없이 가능
+ */
+class CategoryPriceIndex {
+
+	private static final Comparator<PriceIndexEntry> PRICE_ORDER = Comparator
+			.comparingLong(PriceIndexEntry::getPrice)
+			.thenComparing(PriceIndexEntry::getBrandName)
+			.thenComparingLong(PriceIndexEntry::getProductId);
+
+	private final ConcurrentSkipListMap<PriceIndexEntry, Boolean> entries = new ConcurrentSkipListMap<>(PRICE_ORDER);
+
+	// 수정/삭제 시 기존 원소를 찾기 위한 productId -> entry (쓰기 경로에서만 접근)
+	private final Map<Long, PriceIndexEntry> entriesById = new HashMap<>();
+
+	static CategoryPriceIndex of(List<PriceIndexEntry> initialEntries) {
+		CategoryPriceIndex index = new CategoryPriceIndex();
+		for (PriceIndexEntry entry : initialEntries) {
+			index.put(entry);
+		}
+		return index;
+	}
+
+	/**
+	 * 상품 추가 또는 가격 변경 (productId 기준 upsert)
+	 */
+	void put(PriceIndexEntry entry) {
+		// 새 원소를 먼저 넣고 기존 원소를 제거해, 동시 읽기에서 카테고리가 비어 보이지 않도록 함
+		entries.put(entry, Boolean.TRUE);
+		PriceIndexEntry old = entriesById.put(entry.getProductId(), entry);
+		if (old != null && PRICE_ORDER.compare(old, entry) != 0) {
+			entries.remove(old);
+		}
+	}
+
+	void remove(long productId) {
+		PriceIndexEntry old = entriesById.remove(productId);
+		if (old != null) {
+			entries.remove(old);
+		}
+	}
+
+	void renameBrand(Brand renamedBrand) {
+		long brandId = renamedBrand.getId();
+		List<PriceIndexEntry> renamed = entriesById.values().stream()
+				.filter(entry -> entry.getBrandId() == brandId)
+				.map(entry -> new PriceIndexEntry(entry.getProduct().withBrand(renamedBrand)))
+				.toList();
+		for (PriceIndexEntry entry : renamed) {
+			put(entry);
+		}
+	}
+
+	// firstEntry()/lastEntry() 는 호출마다 Map.Entry 스냅샷을 새로 만들므로 키만 조회
+	PriceIndexEntry min() {
+		try {
+			return entries.firstKey();
+		} catch (NoSuchElementException e) {
+			return null;
+		}
+	}
+
+	PriceIndexEntry max() {
+		try {
+			return entries.lastKey();
+		} catch (NoSuchElementException e) {
+			return null;
+		}
+	}
+
+	int size() {
+		return entriesById.size();
+	}
+
+}
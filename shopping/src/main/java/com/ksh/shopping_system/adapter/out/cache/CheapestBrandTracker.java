@@ -0,0 +1,80 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import com.ksh.shopping_system.domain.BrandTotalPrice;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 브랜드 총액 순위
+ * - (총액 ASC, 브랜드명 ASC, 브랜드 ID ASC) 순으로 정렬해 첫 원소가 최저가 브랜드
+ * - 조회는 정렬된 skip list 의 첫 원소 (락 없음), 갱신은 O(log n)
+ * - 브랜드의 현재 순위 원소는 BrandTotalLedger 의 청크 배열(브랜드 ID 인덱스)에 보관 (boxing 되는 ID -> 순위 map 없음)
+ * - 총액/브랜드명이 바뀌지 않은 갱신(상품 수만 변경 등)은 새 원소를 만들지 않음
+ * - 같은 브랜드의 update 는 호출자가 직렬화해야 함
+ */
+public class CheapestBrandTracker {
+
+	private static final Comparator<BrandTotalPrice> TOTAL_PRICE_ORDER = Comparator
+			.comparingLong(BrandTotalPrice::totalPrice)
+			.thenComparing(BrandTotalPrice::brandName)
+			.thenComparingLong(BrandTotalPrice::brandId);
+
+	private final BrandTotalLedger ledger;
+	private final ConcurrentSkipListMap<BrandTotalPrice, Boolean> ranking = new ConcurrentSkipListMap<>(TOTAL_PRICE_ORDER);
+	private final AtomicInteger rankedCount = new AtomicInteger();
+
+	public CheapestBrandTracker(BrandTotalLedger ledger) {
+		this.ledger = ledger;
+	}
+
+	/**
+	 * 원장의 현재 총액/브랜드명으로 브랜드 순위 갱신, 상품이 없는 브랜드는 순위에서 제외
+	 */
+	public void update(long brandId) {
+		BrandTotalPrice old = ledger.rank(brandId);
+		BrandTotalPrice next = null;
+		if (ledger.productCount(brandId) > 0) {
+			long totalPrice = ledger.totalPrice(brandId);
+			String brandName = ledger.name(brandId);
+			if (old != null && old.totalPrice() == totalPrice && Objects.equals(old.brandName(), brandName)) {
+				return;
+			}
+			next = new BrandTotalPrice(brandId, brandName, totalPrice);
+			// 새 순위를 먼저 넣고 이전 순위를 제거해, 동시 조회 시 순위가 비어 보이지 않도록 함
+			ranking.put(next, Boolean.TRUE);
+		} else if (old == null) {
+			return;
+		}
+		ledger.setRank(brandId, next);
+		if (old != null) {
+			ranking.remove(old);
+		}
+		if (old == null) {
+			rankedCount.incrementAndGet();
+		} else if (next == null) {
+			rankedCount.decrementAndGet();
+		}
+	}
+
+	public BrandTotalPrice cheapest() {
+		Map.Entry<BrandTotalPrice, Boolean> first = ranking.firstEntry();
+		return first == null ? null : first.getKey();
+	}
+
+	public int size() {
+		return rankedCount.get();
+	}
+
+	/**
+	 * 순위 초기화, 원장의 순위 원소는 BrandTotalLedger.clear() 로 함께 비워야 함
+	 */
+	public void clear() {
+		ranking.clear();
+		rankedCount.set(0);
+	}
+
+}
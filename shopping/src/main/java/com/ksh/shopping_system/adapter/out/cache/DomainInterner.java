@@ -0,0 +1,59 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시에 보관하는 상품의 브랜드/카테고리 인스턴스 공유 (상품마다 Brand/Category 를 따로 들고 있지 않도록)
+ * - (브랜드 ID, 브랜드명), 카테고리명 별로 하나의 인스턴스를 약한 참조(weakValues)로 보관
+ *   캐시의 상품이 더 이상 참조하지 않는 인스턴스는 GC 로 제거되므로 삭제/이름 변경된 브랜드가 쌓이지 않음
+ * - 브랜드명까지 키에 포함해, 늦게 도착한 이전 이름의 변경이 현재 이름의 인스턴스를 교체하지 않음
+ * - 저장 전 브랜드(id 없음)는 공유하지 않음
+ * 조회 결과를 도메인으로 매핑하는 곳(ProductMapper, outbox 조회)에서 바로 공유 인스턴스를 쓰므로
+ * 행마다 Brand/Category(Title 검증) 를 만들지 않고, 캐시에 넣을 때 Product 를 다시 만들지도 않음
+ */
+@Component
+public class DomainInterner {
+
+	private final Cache<BrandKey, Brand> brands = Caffeine.newBuilder().weakValues().build();
+	private final Cache<String, Category> categories = Caffeine.newBuilder().weakValues().build();
+
+	/**
+	 * 브랜드/카테고리가 공유 인스턴스인 상품, 이미 공유 인스턴스면 그대로 반환
+	 */
+	public Product intern(Product product) {
+		Brand brand = brand(product.getBrand());
+		Category category = category(product.getCategory());
+		if (brand == product.getBrand() && category == product.getCategory()) {
+			return product;
+		}
+		return new Product(product.getId(), brand, category, product.getPriceValue());
+	}
+
+	public Brand brand(long brandId, String brandName) {
+		return brands.get(new BrandKey(brandId, brandName), key -> new Brand(key.brandId(), key.brandName()));
+	}
+
+	public Brand brand(Brand brand) {
+		if (brand.getId() == null) {
+			return brand;
+		}
+		return brands.get(new BrandKey(brand.getId(), brand.getName()), key -> brand);
+	}
+
+	public Category category(String categoryName) {
+		return categories.get(categoryName, Category::new);
+	}
+
+	public Category category(Category category) {
+		return categories.get(category.getName(), key -> category);
+	}
+
+	private record BrandKey(long brandId, String brandName) {
+	}
+
+}
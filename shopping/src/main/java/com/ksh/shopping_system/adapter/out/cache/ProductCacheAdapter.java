@@ -1,55 +1,294 @@
 package com.ksh.shopping_system.adapter.out.cache;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.ksh.shopping_system.adapter.out.cache.dto.MaxPriceCacheValue;
-import com.ksh.shopping_system.adapter.out.cache.dto.MinPriceCacheValue;
-import com.ksh.shopping_system.adapter.out.persistence.mapper.ProductMapper;
+import com.ksh.shopping_system.adapter.out.cache.dto.PriceIndexEntry;
 import com.ksh.shopping_system.application.port.out.product.ProductCachePort;
+import com.ksh.shopping_system.domain.Brand;
 import com.ksh.shopping_system.domain.Category;
 import com.ksh.shopping_system.domain.Product;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리별 가격 정렬 인덱스(CategoryPriceIndex) 기반 캐시
+ * - 카테고리의 모든 상품을 보관하므로 최저가/최고가 상품이 삭제/변경되어도 DB 재조회 없이 다음 후보를 반환
+ * - 같은 카테고리에 대한 갱신은 ConcurrentHashMap 의 compute 계열 메서드로 직렬화
+ * - DB 적재(loader)는 map 밖에서 실행 (compute 안에서 blocking 조회를 하면 bin 이 잠기고 가상 스레드가 carrier 에 고정됨)
+ *   적재 중에 도착한 갱신은 PendingLoad 에 모았다가 새 인덱스를 공개하기 전에 순서대로 반영
+ *   (put/remove/renameBrand 는 같은 값을 두 번 반영해도 결과가 같으므로 공개 직후 경합에서 다시 반영해도 됨)
+ */
 @Component
 @RequiredArgsConstructor
 public class ProductCacheAdapter implements ProductCachePort {
 
-	private final Cache<String, MinPriceCacheValue> minPriceCache;
-	private final Cache<String, MaxPriceCacheValue> maxPriceCache;
-	private final ProductMapper productMapper;
+	private final ConcurrentHashMap<String, CategoryPriceIndex> indexes = new ConcurrentHashMap<>();
+	// 적재 중인 카테고리 (카테고리당 하나, 적재가 끝나면 제거)
+	private final ConcurrentHashMap<String, PendingLoad> loading = new ConcurrentHashMap<>();
+	// 매퍼와 같은 인스턴스, 매퍼에서 온 상품은 이미 공유 인스턴스라 그대로 보관
+	private final DomainInterner interner;
 
 	@Override
-	public void putMinPrice(String categoryName, Product product) {
-		MinPriceCacheValue minPriceCacheValue = new MinPriceCacheValue(product.getId(), product.getBrand().getName(), product.getPriceValue());
-		minPriceCache.put(categoryName, minPriceCacheValue);
+	public void loadCategory(String categoryName, Supplier<List<Product>> loader) {
+		// 동일 카테고리의 동시 적재는 한 번만 수행되고, 나머지는 그 적재가 끝날 때까지 대기
+		while (!indexes.containsKey(categoryName)) {
+			PendingLoad pending = new PendingLoad();
+			PendingLoad running = loading.putIfAbsent(categoryName, pending);
+			if (running != null) {
+				// 실패했으면 다음 반복에서 직접 적재
+				running.await();
+				continue;
+			}
+			load(categoryName, pending, indexes.containsKey(categoryName) ? null : loader);
+			return;
+		}
 	}
 
 	@Override
-	public Product getMinPrice(Category category) {
-		MinPriceCacheValue minPriceCacheValue = minPriceCache.getIfPresent(category.getName());
-		return productMapper.minPriceCacheToDomain(minPriceCacheValue, category);
+	public void reloadCategory(String categoryName, Supplier<List<Product>> loader) {
+		// 다시 적재하는 동안 기존 인덱스로 계속 응답, 이미 적재 중이면 끝난 뒤 다시 적재
+		while (true) {
+			PendingLoad pending = new PendingLoad();
+			PendingLoad running = loading.putIfAbsent(categoryName, pending);
+			if (running == null) {
+				load(categoryName, pending, loader);
+				return;
+			}
+			running.await();
+		}
 	}
 
 	@Override
-	public void removeMinPrice(String categoryName) {
-		minPriceCache.invalidate(categoryName);
+	public void loadCategories(Collection<String> categoryNames, Function<Collection<String>, List<Product>> loader) {
+		Set<String> remaining = new LinkedHashSet<>(categoryNames);
+		while (true) {
+			remaining.removeIf(indexes::containsKey);
+			if (remaining.isEmpty()) {
+				return;
+			}
+			// 적재 중이 아닌 카테고리만 이 호출이 맡아 한 번에 적재, 나머지는 진행 중인 적재를 기다림
+			Map<String, PendingLoad> claimed = new LinkedHashMap<>();
+			List<PendingLoad> running = new ArrayList<>();
+			for (String categoryName : remaining) {
+				PendingLoad pending = new PendingLoad();
+				PendingLoad other = loading.putIfAbsent(categoryName, pending);
+				if (other == null) {
+					claimed.put(categoryName, pending);
+				} else {
+					running.add(other);
+				}
+			}
+			if (!claimed.isEmpty()) {
+				loadAll(claimed, loader);
+			}
+			// 다른 적재가 실패했으면 다음 반복에서 직접 적재
+			running.forEach(PendingLoad::await);
+		}
+	}
+
+	/**
+	 * loader 를 map 밖에서 실행하고, 그동안 모인 갱신을 반영한 뒤 공개 (loader 가 null 이면 적재 없이 종료)
+	 */
+	private void load(String categoryName, PendingLoad pending, Supplier<List<Product>> loader) {
+		CategoryPriceIndex index = null;
+		try {
+			if (loader != null) {
+				index = CategoryPriceIndex.of(loader.get().stream().map(this::toEntry).toList());
+			}
+		} finally {
+			finish(categoryName, pending, index);
+		}
+	}
+
+	/**
+	 * 맡은 카테고리를 loader 한 번으로 적재하고 카테고리별로 나눠 공개, 실패하면 모두 버림
+	 */
+	private void loadAll(Map<String, PendingLoad> claimed, Function<Collection<String>, List<Product>> loader) {
+		Map<String, List<PriceIndexEntry>> entriesByCategory = null;
+		try {
+			List<String> categoryNames = claimed.keySet().stream()
+					.filter(categoryName -> !indexes.containsKey(categoryName))
+					.toList();
+			entriesByCategory = categoryNames.isEmpty()
+					? Map.of()
+					: loader.apply(categoryNames).stream()
+					.collect(Collectors.groupingBy(p -> p.getCategory().getName(),
+							Collectors.mapping(this::toEntry, Collectors.toList())));
+		} finally {
+			for (Map.Entry<String, PendingLoad> entry : claimed.entrySet()) {
+				String categoryName = entry.getKey();
+				CategoryPriceIndex index = entriesByCategory == null || indexes.containsKey(categoryName)
+						? null
+						: CategoryPriceIndex.of(entriesByCategory.getOrDefault(categoryName, List.of()));
+				finish(categoryName, entry.getValue(), index);
+			}
+		}
+	}
+
+	private void finish(String categoryName, PendingLoad pending, CategoryPriceIndex index) {
+		pending.publish(index, published -> indexes.put(categoryName, published));
+		loading.remove(categoryName, pending);
+		pending.done.complete(null);
 	}
 
 	@Override
-	public void putMaxPrice(String categoryName, Product product) {
-		MaxPriceCacheValue maxPriceCacheValue = new MaxPriceCacheValue(product.getId(), product.getBrand().getName(), product.getPriceValue());
-		maxPriceCache.put(categoryName, maxPriceCacheValue);
+	public boolean isLoaded(String categoryName) {
+		return indexes.containsKey(categoryName);
+	}
+
+	/**
+	 * 원소에 보관된 Product 를 그대로 반환 (조회 시 객체 생성 없음)
+	 */
+	@Override
+	public Product getMinPrice(Category category) {
+		CategoryPriceIndex index = indexes.get(category.getName());
+		if (index == null)
+			return null;
+		PriceIndexEntry min = index.min();
+		return min == null ? null : min.getProduct();
 	}
 
 	@Override
 	public Product getMaxPrice(Category category) {
-		MaxPriceCacheValue maxPriceCacheValue = maxPriceCache.getIfPresent(category.getName());
-		return productMapper.maxPriceCacheToDomain(maxPriceCacheValue, category);
+		CategoryPriceIndex index = indexes.get(category.getName());
+		if (index == null)
+			return null;
+		PriceIndexEntry max = index.max();
+		return max == null ? null : max.getProduct();
+	}
+
+	@Override
+	public int getProductCount(String categoryName) {
+		CategoryPriceIndex index = indexes.get(categoryName);
+		return index == null ? 0 : index.size();
 	}
 
 	@Override
-	public void removeMaxPrice(String categoryName) {
-		maxPriceCache.invalidate(categoryName);
+	public void putProduct(Product product) {
+		PriceIndexEntry entry = toEntry(product);
+		update(product.getCategory().getName(), index -> index.put(entry));
+	}
+
+	@Override
+	public void putProducts(List<Product> products) {
+		Map<String, List<PriceIndexEntry>> entriesByCategory = products.stream()
+				.collect(Collectors.groupingBy(p -> p.getCategory().getName(),
+						Collectors.mapping(this::toEntry, Collectors.toList())));
+		entriesByCategory.forEach((categoryName, entries) -> update(categoryName, index -> {
+			for (PriceIndexEntry entry : entries) {
+				index.put(entry);
+			}
+		}));
+	}
+
+	@Override
+	public void removeProduct(Product product) {
+		long productId = product.getId();
+		update(product.getCategory().getName(), index -> index.remove(productId));
+	}
+
+	@Override
+	public void renameBrand(long brandId, String newBrandName) {
+		// 브랜드명은 동일 가격 우선순위에 쓰이므로 적재된(적재 중인) 모든 카테고리에서 재정렬
+		Brand renamedBrand = interner.brand(brandId, newBrandName);
+		Set<String> categoryNames = new HashSet<>(indexes.keySet());
+		categoryNames.addAll(loading.keySet());
+		for (String categoryName : categoryNames) {
+			update(categoryName, index -> index.renameBrand(renamedBrand));
+		}
+	}
+
+	/**
+	 * 적재된 인덱스에 반영하고, 적재 중이면 새 인덱스에도 반영되도록 모아 둠
+	 * 적재도 적재 중도 아닌 카테고리는 무시 (적재 시 DB 에서 최신 상태를 읽음)
+	 * loading 을 먼저 읽으므로 그 뒤에 시작된 적재는 이미 커밋된 이 변경을 DB 에서 읽음
+	 */
+	private void update(String categoryName, Consumer<CategoryPriceIndex> change) {
+		PendingLoad pending = loading.get(categoryName);
+		indexes.computeIfPresent(categoryName, (key, index) -> {
+			change.accept(index);
+			return index;
+		});
+		if (pending != null && !pending.offer(change)) {
+			// 그 사이 새 인덱스가 공개됨
+			indexes.computeIfPresent(categoryName, (key, index) -> {
+				change.accept(index);
+				return index;
+			});
+		}
+	}
+
+	@Override
+	public void clearAll() {
+		indexes.clear();
+	}
+
+	// Product 는 불변이므로 복사 없이 그대로 보관하고 조회 결과로 공유, 브랜드/카테고리는 공유 인스턴스로 교체
+	private PriceIndexEntry toEntry(Product product) {
+		return new PriceIndexEntry(interner.intern(product));
+	}
+
+	/**
+	 * 진행 중인 카테고리 적재, 적재 중에 도착한 갱신을 도착 순서대로 보관
+	 * 대기/공개는 ReentrantLock 과 CompletableFuture 로 처리 (가상 스레드가 carrier 에 고정되지 않음)
+	 */
+	private static final class PendingLoad {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final List<Consumer<CategoryPriceIndex>> changes = new ArrayList<>();
+		private final CompletableFuture<Void> done = new CompletableFuture<>();
+		private boolean published;
+
+		/**
+		 * 아직 공개 전이면 보관하고 true, 이미 공개되었으면 false
+		 */
+		boolean offer(Consumer<CategoryPriceIndex> change) {
+			lock.lock();
+			try {
+				if (published) {
+					return false;
+				}
+				changes.add(change);
+				return true;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * 보관한 갱신을 반영한 뒤 공개, index 가 null 이면(적재 실패) 버림
+		 */
+		void publish(CategoryPriceIndex index, Consumer<CategoryPriceIndex> publisher) {
+			lock.lock();
+			try {
+				if (index != null) {
+					changes.forEach(change -> change.accept(index));
+					publisher.accept(index);
+				}
+				changes.clear();
+				published = true;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void await() {
+			done.join();
+		}
 	}
 
 }
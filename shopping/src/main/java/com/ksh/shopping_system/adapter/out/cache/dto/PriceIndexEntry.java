@@ -0,0 +1,39 @@
+package com.ksh.shopping_system.adapter.out.cache.dto;
+
+import com.ksh.shopping_system.domain.Product;
+
+/**
+ * 카테고리 가격 인덱스의 원소
+ *   PriceIndexEntry = {productId, brandId, brandName, price}
+ * 응답용 Product 를 원소를 만들 때 한 번만 만들어 두고, 조회 시에는 새로 만들지 않고 같은 인스턴스를 반환
+ * (가격/브랜드명이 바뀌면 원소 자체를 새로 만들어 교체하므로 반환된 Product 는 변경되지 않음)
+ */
+public final class PriceIndexEntry {
+
+	private final Product product;
+
+	public PriceIndexEntry(Product product) {
+		this.product = product;
+	}
+
+	public Product getProduct() {
+		return product;
+	}
+
+	public long getProductId() {
+		return product.getId();
+	}
+
+	public long getBrandId() {
+		return product.getBrand().getId();
+	}
+
+	public String getBrandName() {
+		return product.getBrand().getName();
+	}
+
+	public long getPrice() {
+		return product.getPriceValue();
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
+import com.ksh.shopping_system.adapter.out.persistence.repository.BrandPriceTotalRepository;
+import com.ksh.shopping_system.application.port.out.brand.BrandPriceTotalPort;
+import com.ksh.shopping_system.common.response.ErrorCode;
+import com.ksh.shopping_system.domain.BrandTotalPrice;
+import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductChange;
+import com.ksh.shopping_system.exception.DataNotFoundException;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * brand_price_total 갱신/조회
+ * 변경을 브랜드별 (총액, 상품 수) 증감으로 합쳐 브랜드당 UPDATE 한 번, 브랜드 ID 순으로 실행해 교착을 피함
+ * 총액 행은 브랜드 생성 시 (0, 0) 으로 만들어 두므로 상품 쓰기에는 INSERT 가 없음 (첫 상품 동시 생성도 행 잠금으로 직렬화)
+ */
+@Component
+@RequiredArgsConstructor
+public class BrandPriceTotalPersistenceAdapter implements BrandPriceTotalPort {
+
+	private final BrandPriceTotalRepository brandPriceTotalRepository;
+	private final EntityManager entityManager;
+	private final DbFallbackLimiter dbFallbackLimiter;
+
+	@Override
+	public void apply(List<ProductChange> changes) {
+		Map<Long, long[]> deltas = new TreeMap<>();
+		for (ProductChange change : changes) {
+			Product before = change.before();
+			Product after = change.after();
+			if (before != null) {
+				long[] delta = deltas.computeIfAbsent(before.getBrand().getId(), key -> new long[2]);
+				delta[0] -= before.getPriceValue();
+				delta[1]--;
+			}
+			if (after != null) {
+				long[] delta = deltas.computeIfAbsent(after.getBrand().getId(), key -> new long[2]);
+				delta[0] += after.getPriceValue();
+				delta[1]++;
+			}
+		}
+		for (Map.Entry<Long, long[]> entry : deltas.entrySet()) {
+			long priceDelta = entry.getValue()[0];
+			long productCountDelta = entry.getValue()[1];
+			if (priceDelta == 0 && productCountDelta == 0) {
+				continue;
+			}
+			if (brandPriceTotalRepository.addDelta(entry.getKey(), priceDelta, productCountDelta) == 0) {
+				// 총액 행은 브랜드와 함께 생성되므로 없으면 브랜드가 없는 것
+				throw new DataNotFoundException(ErrorCode.BRAND_NOT_FOUND, "brand not found ID=" + entry.getKey());
+			}
+		}
+	}
+
+	@Override
+	public void createBrand(long brandId) {
+		brandPriceTotalRepository.insert(brandId, 0, 0);
+	}
+
+	@Override
+	public BrandTotalPrice findCheapestBrand() {
+		return dbFallbackLimiter.call(() -> {
+			while (true) {
+				List<Long> minTotalPrice = brandPriceTotalRepository.findMinTotalPrice(PageRequest.of(0, 1));
+				if (minTotalPrice.isEmpty()) {
+					return null;
+				}
+				List<BrandSumProjection> cheapest = brandPriceTotalRepository
+						.findWithProductsByTotalPrice(minTotalPrice.get(0), PageRequest.of(0, 1));
+				if (!cheapest.isEmpty()) {
+					BrandSumProjection row = cheapest.get(0);
+					return new BrandTotalPrice(row.getBrandId(), row.getBrandName(), row.getTotalPrice());
+				}
+				// 두 조회 사이에 최저 총액 브랜드가 바뀜, 다시 읽음
+			}
+		});
+	}
+
+	@Override
+	public void deleteBrand(long brandId) {
+		brandPriceTotalRepository.deleteByBrandId(brandId);
+	}
+
+	@Override
+	public int rebuild() {
+		// 같은 트랜잭션에서 아직 반영되지 않은 상품 변경을 먼저 실행
+		entityManager.flush();
+		brandPriceTotalRepository.deleteAllRows();
+		return brandPriceTotalRepository.insertFromProducts();
+	}
+
+}
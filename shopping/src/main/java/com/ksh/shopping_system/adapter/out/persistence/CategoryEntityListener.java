@@ -0,0 +1,63 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 카테고리 엔티티 변경을 CategoryRegistry 스냅샷에 반영
+ * 스냅샷은 모든 스레드가 공유하므로 커밋된 뒤(afterCommit)에만 반영해 다른 요청이 커밋 전/롤백될 카테고리를 보지 않도록 함
+ * 롤백되면 스냅샷을 폐기해 DB 에서 다시 읽음 (같은 트랜잭션에서 스냅샷을 DB 에서 다시 읽었을 수 있으므로)
+ * 트랜잭션 밖의 변경은 바로 반영
+ * (벌크 JPQL/SQL 변경은 엔티티 콜백이 없으므로 CategoryRegistry.clear() 필요)
+ */
+@Component
+public class CategoryEntityListener {
+
+	// EntityManagerFactory 생성 중에 리스너가 만들어지므로 Repository 를 쓰는 CategoryRegistry 는 지연 조회
+	private final ObjectProvider<CategoryRegistry> categoryRegistry;
+
+	public CategoryEntityListener(ObjectProvider<CategoryRegistry> categoryRegistry) {
+		this.categoryRegistry = categoryRegistry;
+	}
+
+	@PostPersist
+	@PostUpdate
+	public void onSaved(CategoryEntity entity) {
+		CategoryRegistry registry = categoryRegistry.getObject();
+		afterCommit(registry, () -> registry.put(entity));
+	}
+
+	@PostRemove
+	public void onRemoved(CategoryEntity entity) {
+		CategoryRegistry registry = categoryRegistry.getObject();
+		long categoryId = entity.getId();
+		afterCommit(registry, () -> registry.remove(categoryId));
+	}
+
+	private void afterCommit(CategoryRegistry registry, Runnable apply) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			apply.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				apply.run();
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					registry.clear();
+				}
+			}
+		});
+	}
+
+}
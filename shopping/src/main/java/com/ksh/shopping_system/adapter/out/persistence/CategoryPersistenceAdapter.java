@@ -1,8 +1,5 @@
 package com.ksh.shopping_system.adapter.out.persistence;
 
-import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
-import com.ksh.shopping_system.adapter.out.persistence.mapper.CategoryMapper;
-import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
 import com.ksh.shopping_system.application.port.out.category.SelectCategoryPort;
 import com.ksh.shopping_system.common.response.ErrorCode;
 import com.ksh.shopping_system.domain.Category;
@@ -12,38 +9,43 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 
+/**
+ * 카테고리 조회는 DB 대신 CategoryRegistry 메모리 스냅샷에서 처리
+ */
 @Component
 @RequiredArgsConstructor
 public class CategoryPersistenceAdapter
 		implements SelectCategoryPort {
 
-	private final CategoryRepository categoryRepository;
-	private final CategoryMapper categoryMapper;
+	private final CategoryRegistry categoryRegistry;
 
 	@Override
 	public Category findByName(String name) {
-		CategoryEntity categoryEntity = categoryRepository.findByName(name)
-				.orElseThrow(() -> new DataNotFoundException(
-						ErrorCode.CATEGORY_NOT_FOUND,
-						"category not found: " + name
-				));
-		return categoryMapper.toDomain(categoryEntity);
+		Category category = categoryRegistry.findByName(name);
+		if (category == null) {
+			throw new DataNotFoundException(
+					ErrorCode.CATEGORY_NOT_FOUND,
+					"category not found: " + name
+			);
+		}
+		return category;
 	}
 
 	@Override
 	public Category findById(Long categoryId) {
-		CategoryEntity categoryEntity = categoryRepository.findById(categoryId)
-				.orElseThrow(() -> new DataNotFoundException(
-						ErrorCode.CATEGORY_NOT_FOUND,
-						"category not found: ID=" + categoryId
-				));
-		return categoryMapper.toDomain(categoryEntity);
+		Category category = categoryRegistry.findById(categoryId);
+		if (category == null) {
+			throw new DataNotFoundException(
+					ErrorCode.CATEGORY_NOT_FOUND,
+					"category not found: ID=" + categoryId
+			);
+		}
+		return category;
 	}
 
 	@Override
 	public List<Category> findAllCategoryNames() {
-		List<CategoryEntity> all = categoryRepository.findAll();
-		return all.stream().map(categoryMapper::toDomain).toList();
+		return categoryRegistry.all();
 	}
 
 }
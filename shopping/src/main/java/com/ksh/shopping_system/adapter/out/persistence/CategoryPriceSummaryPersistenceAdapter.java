@@ -0,0 +1,225 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryExtremesProjection;
+import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
+import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryPriceSummaryEntity;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryPriceSummaryRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.ProductRepository;
+import com.ksh.shopping_system.application.port.out.product.CategoryPriceSummaryPort;
+import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductChange;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * category_price_summary 갱신
+ * 변경된 카테고리의 요약 행을 잠그고(요약 행이 없으면 카테고리 행), 가능한 경우 요약 행만 고치며 아니면 그 카테고리만 products 에서 다시 계산
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryPriceSummaryPersistenceAdapter implements CategoryPriceSummaryPort {
+
+	private final CategoryPriceSummaryRepository summaryRepository;
+	private final CategoryRepository categoryRepository;
+	private final ProductRepository productRepository;
+	private final EntityManager entityManager;
+
+	@Override
+	public void apply(List<ProductChange> changes) {
+		Map<String, List<ProductChange>> changesByCategory = groupByCategory(changes);
+		if (changesByCategory.isEmpty()) {
+			return;
+		}
+		LockedSummaries locked = lock(changesByCategory.keySet());
+
+		List<String> staleCategoryNames = new ArrayList<>();
+		for (Map.Entry<String, List<ProductChange>> entry : changesByCategory.entrySet()) {
+			CategoryPriceSummaryEntity summary = locked.summary(entry.getKey());
+			if (summary == null || !applyIncrementally(summary, entry.getValue())) {
+				staleCategoryNames.add(entry.getKey());
+			}
+		}
+		recompute(staleCategoryNames, locked);
+	}
+
+	@Override
+	public void refreshBrand(long brandId) {
+		List<String> categoryNames = productRepository.findCategoryNamesByBrandId(brandId);
+		if (categoryNames.isEmpty()) {
+			return;
+		}
+		recompute(categoryNames, lock(categoryNames));
+	}
+
+	@Override
+	public void rebuildAll() {
+		entityManager.flush();
+		Map<Long, CategoryPriceSummaryEntity> existing = summaryRepository.findAll().stream()
+				.collect(Collectors.toMap(CategoryPriceSummaryEntity::getCategoryId, Function.identity()));
+		for (CategoryExtremesProjection row : productRepository.findCategoryExtremes()) {
+			CategoryPriceSummaryEntity summary = existing.remove(row.getCategoryId());
+			if (summary == null) {
+				summaryRepository.save(new CategoryPriceSummaryEntity(row));
+			} else {
+				summary.replace(row);
+			}
+		}
+		// 상품이 없는 카테고리
+		summaryRepository.deleteAll(existing.values());
+	}
+
+	/**
+	 * 가격 변경은 카테고리가 같지만, 카테고리가 바뀐 변경은 이전 카테고리 삭제 + 새 카테고리 생성으로 나눔
+	 */
+	private Map<String, List<ProductChange>> groupByCategory(List<ProductChange> changes) {
+		Map<String, List<ProductChange>> changesByCategory = new LinkedHashMap<>();
+		for (ProductChange change : changes) {
+			Product before = change.before();
+			Product after = change.after();
+			if (before != null && after != null
+					&& !before.getCategory().getName().equals(after.getCategory().getName())) {
+				add(changesByCategory, ProductChange.deleted(before));
+				add(changesByCategory, ProductChange.created(after));
+			} else {
+				add(changesByCategory, change);
+			}
+		}
+		return changesByCategory;
+	}
+
+	private void add(Map<String, List<ProductChange>> changesByCategory, ProductChange change) {
+		Product product = change.after() != null ? change.after() : change.before();
+		changesByCategory.computeIfAbsent(product.getCategory().getName(), key -> new ArrayList<>()).add(change);
+	}
+
+	/**
+	 * 요약 행만으로 반영할 수 있으면 반영하고 true
+	 * 최저가/최고가 상품이 밀려나거나 동일 가격이 생겨 다음 순위를 알아야 하면 false (다시 계산)
+	 */
+	private boolean applyIncrementally(CategoryPriceSummaryEntity summary, List<ProductChange> changes) {
+		for (ProductChange change : changes) {
+			Product before = change.before();
+			Product after = change.after();
+			if (before == null) {
+				summary.addProductCount(1);
+			}
+			if (after == null) {
+				summary.addProductCount(-1);
+			}
+
+			// 최저가
+			if (before != null && before.getId() == summary.getMinProductId()) {
+				if (after == null || after.getPriceValue() > summary.getMinPrice()) {
+					return false;
+				}
+				changeMin(summary, after);
+			} else if (after != null) {
+				if (after.getPriceValue() == summary.getMinPrice()) {
+					return false;
+				}
+				if (after.getPriceValue() < summary.getMinPrice()) {
+					changeMin(summary, after);
+				}
+			}
+
+			// 최고가
+			if (before != null && before.getId() == summary.getMaxProductId()) {
+				if (after == null || after.getPriceValue() < summary.getMaxPrice()) {
+					return false;
+				}
+				changeMax(summary, after);
+			} else if (after != null) {
+				if (after.getPriceValue() == summary.getMaxPrice()) {
+					return false;
+				}
+				if (after.getPriceValue() > summary.getMaxPrice()) {
+					changeMax(summary, after);
+				}
+			}
+		}
+		return summary.getProductCount() > 0;
+	}
+
+	private void changeMin(CategoryPriceSummaryEntity summary, Product product) {
+		summary.changeMin(product.getId(), product.getBrand().getId(), product.getPriceValue());
+	}
+
+	private void changeMax(CategoryPriceSummaryEntity summary, Product product) {
+		summary.changeMax(product.getId(), product.getBrand().getId(), product.getPriceValue());
+	}
+
+	/**
+	 * 카테고리의 요약 행을 ID 순으로 잠금
+	 * 요약 행이 없는 카테고리(첫 상품, 마지막 상품 삭제 후)는 없는 행을 잠글 수 없으므로 카테고리 행을 잠근 뒤 다시 읽고,
+	 * 그래도 없으면 다시 계산 시 생성 (같은 카테고리의 요약 생성이 카테고리 행 잠금으로 직렬화되어 기본 키 충돌이 없음)
+	 * 잠금 순서는 항상 요약 행 -> 카테고리 행이라 교착이 생기지 않음
+	 */
+	private LockedSummaries lock(Collection<String> categoryNames) {
+		Map<String, Long> categoryIds = categoryRepository.findByNameIn(categoryNames).stream()
+				.collect(Collectors.toMap(CategoryEntity::getName, CategoryEntity::getId));
+		Map<Long, CategoryPriceSummaryEntity> summaries = new LinkedHashMap<>();
+		if (categoryIds.isEmpty()) {
+			return new LockedSummaries(categoryIds, summaries);
+		}
+		for (CategoryPriceSummaryEntity summary
+				: summaryRepository.findByCategoryIdInOrderByCategoryId(categoryIds.values())) {
+			summaries.put(summary.getCategoryId(), summary);
+		}
+		List<Long> missingIds = categoryIds.values().stream()
+				.filter(id -> !summaries.containsKey(id))
+				.sorted()
+				.toList();
+		if (!missingIds.isEmpty()) {
+			categoryRepository.findByIdInOrderById(missingIds);
+			// 잠금을 기다리는 동안 다른 트랜잭션이 만든 요약 행
+			for (CategoryPriceSummaryEntity summary : summaryRepository.findByCategoryIdInOrderByCategoryId(missingIds)) {
+				summaries.put(summary.getCategoryId(), summary);
+			}
+		}
+		return new LockedSummaries(categoryIds, summaries);
+	}
+
+	private void recompute(List<String> categoryNames, LockedSummaries locked) {
+		if (categoryNames.isEmpty()) {
+			return;
+		}
+		// 같은 트랜잭션에서 아직 반영되지 않은 상품 INSERT/UPDATE/DELETE 를 먼저 실행
+		entityManager.flush();
+		Map<String, CategoryExtremesProjection> rows = productRepository
+				.findCategoryExtremesByCategoryNameIn(categoryNames).stream()
+				.collect(Collectors.toMap(CategoryExtremesProjection::getCategoryName, Function.identity()));
+		for (String categoryName : categoryNames) {
+			CategoryPriceSummaryEntity summary = locked.summary(categoryName);
+			CategoryExtremesProjection row = rows.get(categoryName);
+			if (row == null) {
+				// 카테고리에 남은 상품이 없음
+				if (summary != null) {
+					summaryRepository.delete(summary);
+				}
+			} else if (summary == null) {
+				summaryRepository.save(new CategoryPriceSummaryEntity(row));
+			} else {
+				summary.replace(row);
+			}
+		}
+	}
+
+	private record LockedSummaries(Map<String, Long> categoryIds, Map<Long, CategoryPriceSummaryEntity> summaries) {
+
+		CategoryPriceSummaryEntity summary(String categoryName) {
+			Long categoryId = categoryIds.get(categoryName);
+			return categoryId == null ? null : summaries.get(categoryId);
+		}
+	}
+
+}
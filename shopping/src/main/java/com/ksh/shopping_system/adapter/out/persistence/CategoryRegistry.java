@@ -0,0 +1,156 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
+import com.ksh.shopping_system.adapter.out.persistence.mapper.CategoryMapper;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
+import com.ksh.shopping_system.domain.Category;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 목록 메모리 스냅샷 (name -> Category, id -> Category)
+ * - 조회는 volatile 스냅샷을 읽기만 하므로 lock/DB 조회 없음
+ * - 변경(CategoryEntityListener)은 새 스냅샷을 만들어 통째로 교체 (copy-on-write)
+ * - 적재 전이거나 clear() 이후에는 다음 조회에서 DB 전체를 한 번 읽음
+ * - 변경/적재는 ReentrantLock 으로 직렬화 (synchronized 안에서 DB 를 읽으면 가상 스레드가 carrier 에 고정됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryRegistry {
+
+	// DB 에 직접 추가된 카테고리를 찾지 못했을 때 다시 읽는 최소 간격 (없는 이름 요청마다 DB 조회 방지)
+	private static final long MISS_RELOAD_INTERVAL_NANOS = 1_000_000_000L;
+
+	private final CategoryRepository categoryRepository;
+	private final CategoryMapper categoryMapper;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private volatile Snapshot snapshot;
+
+	public List<Category> all() {
+		return current().all();
+	}
+
+	/**
+	 * 스냅샷에 없으면 (마지막 적재 후 일정 시간이 지났을 때만) DB 에서 다시 읽어 확인, 그래도 없으면 null
+	 */
+	public Category findByName(String name) {
+		Category category = current().byName().get(name);
+		if (category == null && reloadAfterMiss()) {
+			category = current().byName().get(name);
+		}
+		return category;
+	}
+
+	public Category findById(long categoryId) {
+		Category category = current().byId().get(categoryId);
+		if (category == null && reloadAfterMiss()) {
+			category = current().byId().get(categoryId);
+		}
+		return category;
+	}
+
+	/**
+	 * 카테고리 추가/이름 변경 반영, 적재 전이면 다음 조회 때 DB 에서 읽으므로 무시
+	 */
+	public void put(CategoryEntity entity) {
+		lock.lock();
+		try {
+			Snapshot current = snapshot;
+			if (current == null) {
+				return;
+			}
+			Map<Long, Category> byId = new LinkedHashMap<>(current.byId());
+			byId.put(entity.getId(), categoryMapper.toDomain(entity));
+			snapshot = Snapshot.of(byId, current.loadedAt());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void remove(long categoryId) {
+		lock.lock();
+		try {
+			Snapshot current = snapshot;
+			if (current == null || !current.byId().containsKey(categoryId)) {
+				return;
+			}
+			Map<Long, Category> byId = new LinkedHashMap<>(current.byId());
+			byId.remove(categoryId);
+			snapshot = Snapshot.of(byId, current.loadedAt());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 스냅샷 폐기, 다음 조회에서 DB 전체를 다시 읽음 (롤백, 벌크 변경 등 변경 내용을 알 수 없을 때)
+	 */
+	public void clear() {
+		snapshot = null;
+	}
+
+	private Snapshot current() {
+		Snapshot current = snapshot;
+		return current != null ? current : loadIfAbsent();
+	}
+
+	private Snapshot loadIfAbsent() {
+		lock.lock();
+		try {
+			Snapshot current = snapshot;
+			return current != null ? current : reload();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean reloadAfterMiss() {
+		lock.lock();
+		try {
+			Snapshot current = snapshot;
+			if (current != null && System.nanoTime() - current.loadedAt() < MISS_RELOAD_INTERVAL_NANOS) {
+				return false;
+			}
+			reload();
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// lock 을 잡은 상태에서만 호출
+	private Snapshot reload() {
+		Map<Long, Category> byId = new LinkedHashMap<>();
+		categoryRepository.findAll().stream()
+				.sorted(Comparator.comparing(CategoryEntity::getId))
+				.forEach(entity -> byId.put(entity.getId(), categoryMapper.toDomain(entity)));
+		Snapshot loaded = Snapshot.of(byId, System.nanoTime());
+		snapshot = loaded;
+		return loaded;
+	}
+
+	private record Snapshot(Map<Long, Category> byId, Map<String, Category> byName, List<Category> all,
+							long loadedAt) {
+
+		static Snapshot of(Map<Long, Category> byId, long loadedAt) {
+			Map<String, Category> byName = new LinkedHashMap<>();
+			byId.values().forEach(category -> byName.put(category.getName(), category));
+			return new Snapshot(
+					Collections.unmodifiableMap(byId),
+					Collections.unmodifiableMap(byName),
+					Collections.unmodifiableList(new ArrayList<>(byId.values())),
+					loadedAt);
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.common.response.ErrorCode;
+import com.ksh.shopping_system.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 miss 시 DB 로 내려가는 조회(fallback)의 동시 실행 수 제한
+ * - 가상 스레드 모드에서는 요청 수만큼 스레드가 생기므로, 제한이 없으면 cold 캐시 순간에 모든 요청이 커넥션 풀을 기다림
+ * - 커넥션 풀보다 작은 수(max-concurrency)만 DB 로 보내 쓰기/relay/정합성 점검 몫의 커넥션을 남김
+ * - Semaphore(AQS) 대기는 가상 스레드를 carrier 에 고정(pinning)하지 않음
+ * - acquire-timeout 안에 자리가 나지 않으면 DB_FALLBACK_BUSY 로 바로 실패 (커넥션 풀의 긴 대기 대신)
+ */
+@Component
+public class DbFallbackLimiter {
+
+	private final Semaphore permits;
+	private final long acquireTimeoutNanos;
+	private final Timer waitTimer;
+	private final Counter rejectedCounter;
+
+	public DbFallbackLimiter(
+			MeterRegistry meterRegistry,
+			@Value("${shopping.db.fallback.max-concurrency:8}") int maxConcurrency,
+			@Value("${shopping.db.fallback.acquire-timeout:1s}") Duration acquireTimeout) {
+		if (maxConcurrency <= 0) {
+			throw new IllegalArgumentException("shopping.db.fallback.max-concurrency must be positive: " + maxConcurrency);
+		}
+		this.permits = new Semaphore(maxConcurrency, true);
+		this.acquireTimeoutNanos = acquireTimeout.toNanos();
+		this.waitTimer = Timer.builder("db.fallback.wait")
+				.description("DB fallback 조회가 실행 자리를 기다린 시간")
+				.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("db.fallback.rejected")
+				.description("acquire-timeout 안에 자리가 나지 않아 거절된 DB fallback 조회 수")
+				.register(meterRegistry);
+		Gauge.builder("db.fallback.active", permits, semaphore -> maxConcurrency - semaphore.availablePermits())
+				.description("실행 중인 DB fallback 조회 수")
+				.register(meterRegistry);
+	}
+
+	public <T> T call(Supplier<T> query) {
+		long startedAt = System.nanoTime();
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(ErrorCode.DB_FALLBACK_BUSY);
+		} finally {
+			waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+		if (!acquired) {
+			rejectedCounter.increment();
+			throw new BusinessException(ErrorCode.DB_FALLBACK_BUSY);
+		}
+		try {
+			return query.get();
+		} finally {
+			permits.release();
+		}
+	}
+
+}
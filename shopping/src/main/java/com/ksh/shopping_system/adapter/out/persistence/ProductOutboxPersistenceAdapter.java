@@ -0,0 +1,113 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.cache.DomainInterner;
+import com.ksh.shopping_system.adapter.out.persistence.entity.ProductOutboxEntity;
+import com.ksh.shopping_system.adapter.out.persistence.repository.ProductOutboxRepository;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxPort;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxRecord;
+import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductChange;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * product_outbox 기록/조회
+ * 기록은 SEQUENCE(pooled) 식별자라 청크 단위 변경도 INSERT 배치로 나감
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductOutboxPersistenceAdapter implements ProductOutboxPort {
+
+	private static final int APPEND_CHUNK_SIZE = 1000;
+
+	private final ProductOutboxRepository productOutboxRepository;
+	private final EntityManager entityManager;
+	private final DomainInterner interner;
+
+	@Override
+	public void append(List<ProductChange> changes) {
+		if (changes.isEmpty()) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		// 대량 변경(가격 일괄 수정, 가져오기)에서 영속성 컨텍스트에 행이 쌓이지 않도록 구간별로 INSERT 배치 실행 후 분리
+		// clear() 대신 detach 로 outbox 행만 분리해 같은 트랜잭션에서 호출한 쪽의 엔티티는 그대로 둠
+		for (int from = 0; from < changes.size(); from += APPEND_CHUNK_SIZE) {
+			List<ProductOutboxEntity> chunk = changes.subList(from, Math.min(from + APPEND_CHUNK_SIZE, changes.size()))
+					.stream()
+					.map(change -> toEntity(change, now))
+					.toList();
+			productOutboxRepository.saveAll(chunk);
+			entityManager.flush();
+			chunk.forEach(entityManager::detach);
+		}
+	}
+
+	@Override
+	public List<ProductOutboxRecord> findPending(int limit) {
+		return productOutboxRepository.findPending(PageRequest.of(0, limit)).stream()
+				.map(entity -> new ProductOutboxRecord(entity.getId(), toChange(entity)))
+				.toList();
+	}
+
+	@Override
+	public long countPending() {
+		return productOutboxRepository.countByAppliedAtIsNull();
+	}
+
+	@Override
+	public List<Long> findPendingIds() {
+		return productOutboxRepository.findPendingIds();
+	}
+
+	@Override
+	public int markApplied(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return productOutboxRepository.markApplied(ids, LocalDateTime.now());
+	}
+
+	@Override
+	public int markAllApplied() {
+		return productOutboxRepository.markAllApplied(LocalDateTime.now());
+	}
+
+	@Override
+	public int deleteAppliedBefore(LocalDateTime appliedBefore) {
+		return productOutboxRepository.deleteAppliedBefore(appliedBefore);
+	}
+
+	private ProductOutboxEntity toEntity(ProductChange change, LocalDateTime createdAt) {
+		Product before = change.before();
+		Product after = change.after();
+		return new ProductOutboxEntity(change.productId(),
+				before == null ? null : before.getBrand().getId(),
+				before == null ? null : before.getBrand().getName(),
+				before == null ? null : before.getCategory().getName(),
+				before == null ? null : before.getPriceValue(),
+				after == null ? null : after.getBrand().getId(),
+				after == null ? null : after.getBrand().getName(),
+				after == null ? null : after.getCategory().getName(),
+				after == null ? null : after.getPriceValue(),
+				createdAt);
+	}
+
+	private ProductChange toChange(ProductOutboxEntity entity) {
+		Product before = entity.getBeforePrice() == null ? null : new Product(entity.getProductId(),
+				interner.brand(entity.getBeforeBrandId(), entity.getBeforeBrandName()),
+				interner.category(entity.getBeforeCategoryName()),
+				entity.getBeforePrice());
+		Product after = entity.getAfterPrice() == null ? null : new Product(entity.getProductId(),
+				interner.brand(entity.getAfterBrandId(), entity.getAfterBrandName()),
+				interner.category(entity.getAfterCategoryName()),
+				entity.getAfterPrice());
+		return new ProductChange(before, after);
+	}
+
+}
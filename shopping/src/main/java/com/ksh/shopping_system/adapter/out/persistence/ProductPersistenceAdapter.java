@@ -1,65 +1,90 @@
 package com.ksh.shopping_system.adapter.out.persistence;
 
 import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
-import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryMinPriceProjection;
+import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryPriceSummaryProjection;
 import com.ksh.shopping_system.adapter.out.persistence.entity.BrandEntity;
 import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
 import com.ksh.shopping_system.adapter.out.persistence.entity.ProductEntity;
 import com.ksh.shopping_system.adapter.out.persistence.mapper.ProductMapper;
+import com.ksh.shopping_system.adapter.out.persistence.repository.BrandPriceTotalRepository;
 import com.ksh.shopping_system.adapter.out.persistence.repository.BrandRepository;
 import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
 import com.ksh.shopping_system.adapter.out.persistence.repository.ProductRepository;
 import com.ksh.shopping_system.application.port.out.product.DeleteProductPort;
+import com.ksh.shopping_system.application.port.out.product.ProductUpsertResult;
 import com.ksh.shopping_system.application.port.out.product.SaveProductPort;
 import com.ksh.shopping_system.application.port.out.product.SelectProductPort;
 import com.ksh.shopping_system.application.port.out.product.UpdateProductPort;
+import com.ksh.shopping_system.application.port.out.product.UpsertProductPort;
 import com.ksh.shopping_system.common.response.ErrorCode;
+import com.ksh.shopping_system.domain.CatalogRow;
 import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductPriceChange;
 import com.ksh.shopping_system.exception.DataNotFoundException;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ProductPersistenceAdapter
-		implements SelectProductPort, SaveProductPort, UpdateProductPort, DeleteProductPort {
+		implements SelectProductPort, SaveProductPort, UpdateProductPort, DeleteProductPort, UpsertProductPort {
+
+	private static final int PRICE_UPDATE_SLICE_SIZE = 1000;
 
 	private final ProductRepository productRepository;
 	private final BrandRepository brandRepository;
+	private final BrandPriceTotalRepository brandPriceTotalRepository;
 	private final CategoryRepository categoryRepository;
 	private final ProductMapper productMapper;
+	private final EntityManager entityManager;
+	private final DbFallbackLimiter dbFallbackLimiter;
 
 	@Override
 	public List<Product> findAllProducts() {
-		return productRepository.findAll().stream()
-				.map(productMapper::toDomain)
+		return productRepository.findAllProductRows().stream()
+				.map(productMapper::productRowToDomain)
 				.toList();
 	}
 
 	@Override
 	public List<Product> findByCategoryName(String categoryName) {
-		return productRepository.findByCategoryName(categoryName).stream()
-				.map(productMapper::toDomain)
+		return productRepository.findProductRowsByCategoryName(categoryName).stream()
+				.map(productMapper::productRowToDomain)
 				.toList();
 	}
 
 	@Override
 	public Product findById(Long productId) {
-		ProductEntity productEntity = productRepository.findById(productId)
+		return productRepository.findProductRowById(productId)
+				.map(productMapper::productRowToDomain)
 				.orElseThrow(() -> new DataNotFoundException(
 						ErrorCode.PRODUCT_NOT_FOUND,
 						"product not found: " + productId
 				));
-		return productMapper.toDomain(productEntity);
 	}
 
 	@Override
-	public List<CategoryMinPriceProjection> findCategoryMinPrice() {
-		return productRepository.findCategoryMinPrice();
+	public List<Product> findByCategoryNames(Collection<String> categoryNames) {
+		if (categoryNames.isEmpty()) {
+			return List.of();
+		}
+		return dbFallbackLimiter.call(() -> productRepository.findProductRowsByCategoryNameIn(categoryNames)).stream()
+				.map(productMapper::productRowToDomain)
+				.toList();
 	}
 
 	@Override
@@ -84,10 +109,127 @@ public class ProductPersistenceAdapter
 		return productMapper.toDomain(save);
 	}
 
+	@Override
+	public List<Product> saveProducts(List<Product> products) {
+		// 브랜드/카테고리는 이름별로 한 번씩만 조회
+		Set<String> brandNames = products.stream()
+				.map(p -> p.getBrand().getName())
+				.collect(Collectors.toSet());
+		Set<String> categoryNames = products.stream()
+				.map(p -> p.getCategory().getName())
+				.collect(Collectors.toSet());
+		Map<String, BrandEntity> brands = brandRepository.findByNameIn(brandNames).stream()
+				.collect(Collectors.toMap(BrandEntity::getName, Function.identity()));
+		Map<String, CategoryEntity> categories = categoryRepository.findByNameIn(categoryNames).stream()
+				.collect(Collectors.toMap(CategoryEntity::getName, Function.identity()));
+
+		List<ProductEntity> entities = products.stream()
+				.map(p -> new ProductEntity(
+						findResolved(brands, p.getBrand().getName(), ErrorCode.BRAND_NOT_FOUND, "brand not found: "),
+						findResolved(categories, p.getCategory().getName(), ErrorCode.CATEGORY_NOT_FOUND, "category not found: "),
+						p.getPriceValue()))
+				.toList();
+
+		// SEQUENCE 식별자 + hibernate.jdbc.batch_size 로 INSERT 가 배치 실행됨
+		return productRepository.saveAll(entities).stream()
+				.map(productMapper::toDomain)
+				.toList();
+	}
+
+	@Override
+	public ProductUpsertResult upsertProducts(List<CatalogRow> rows) {
+		// 한 청크 안에서 같은 (브랜드, 카테고리) 가 반복되면 마지막 행 기준
+		Map<CatalogKey, CatalogRow> latestRows = new LinkedHashMap<>();
+		for (CatalogRow row : rows) {
+			latestRows.put(new CatalogKey(row.brandName(), row.categoryName()), row);
+		}
+
+		Set<String> categoryNames = latestRows.keySet().stream()
+				.map(CatalogKey::categoryName)
+				.collect(Collectors.toSet());
+		Map<String, CategoryEntity> categories = categoryRepository.findByNameIn(categoryNames).stream()
+				.collect(Collectors.toMap(CategoryEntity::getName, Function.identity()));
+
+		// 없는 카테고리는 거부 (카테고리는 운영자가 관리)
+		List<String> rejections = new ArrayList<>();
+		List<CatalogRow> acceptedRows = new ArrayList<>(latestRows.size());
+		for (CatalogRow row : latestRows.values()) {
+			if (categories.containsKey(row.categoryName())) {
+				acceptedRows.add(row);
+			} else {
+				rejections.add("line " + row.lineNumber() + ": category not found: " + row.categoryName());
+			}
+		}
+
+		// 없는 브랜드는 생성 (공급사 가격표로 신규 브랜드 입점)
+		// 다른 가져오기가 같은 브랜드를 먼저 커밋하면 unique 제약 위반으로 청크가 롤백되고, 재시도에서 위 조회로 찾음
+		Set<String> brandNames = acceptedRows.stream()
+				.map(CatalogRow::brandName)
+				.collect(Collectors.toSet());
+		Map<String, BrandEntity> brands = brandRepository.findByNameIn(brandNames).stream()
+				.collect(Collectors.toMap(BrandEntity::getName, Function.identity()));
+		List<BrandEntity> newBrands = brandNames.stream()
+				.filter(name -> !brands.containsKey(name))
+				.map(BrandEntity::new)
+				.toList();
+		for (BrandEntity brand : brandRepository.saveAll(newBrands)) {
+			brands.put(brand.getName(), brand);
+			// 총액 행은 브랜드와 함께 생성 (BrandPriceTotalPort.createBrand 와 같음)
+			brandPriceTotalRepository.insert(brand.getId(), 0, 0);
+		}
+
+		Map<ProductKey, ProductEntity> existing = new HashMap<>();
+		if (!acceptedRows.isEmpty()) {
+			List<Long> brandIds = brands.values().stream().map(BrandEntity::getId).toList();
+			List<Long> categoryIds = categories.values().stream().map(CategoryEntity::getId).toList();
+			for (ProductEntity entity : productRepository.findByBrandIdsAndCategoryIds(brandIds, categoryIds)) {
+				existing.putIfAbsent(new ProductKey(entity.getBrand().getId(), entity.getCategory().getId()), entity);
+			}
+		}
+
+		List<ProductEntity> inserts = new ArrayList<>();
+		List<ProductPriceChange> updated = new ArrayList<>();
+		int unchanged = 0;
+		for (CatalogRow row : acceptedRows) {
+			BrandEntity brand = brands.get(row.brandName());
+			CategoryEntity category = categories.get(row.categoryName());
+			ProductEntity current = existing.get(new ProductKey(brand.getId(), category.getId()));
+			if (current == null) {
+				inserts.add(new ProductEntity(brand, category, row.price()));
+			} else if (current.getPrice() != row.price()) {
+				Product oldProduct = productMapper.toDomain(current);
+				// dirty checking 으로 커밋 시 UPDATE
+				current.changePrice(row.price());
+				updated.add(new ProductPriceChange(oldProduct, productMapper.toDomain(current)));
+			} else {
+				unchanged++;
+			}
+		}
+
+		List<Product> created = productRepository.saveAll(inserts).stream()
+				.map(productMapper::toDomain)
+				.toList();
+		return new ProductUpsertResult(created, updated, unchanged, rejections);
+	}
+
+	private record CatalogKey(String brandName, String categoryName) {
+	}
+
+	private record ProductKey(long brandId, long categoryId) {
+	}
+
+	private <T> T findResolved(Map<String, T> resolved, String name, ErrorCode errorCode, String message) {
+		T entity = resolved.get(name);
+		if (entity == null) {
+			throw new DataNotFoundException(errorCode, message + name);
+		}
+		return entity;
+	}
+
 	@Override
 	public Product updateProduct(Product product) {
 		// DB에서 기존 엔티티 조회
-		ProductEntity oldEntity = productRepository.findById(product.getId())
+		ProductEntity oldEntity = productRepository.findWithBrandAndCategoryById(product.getId())
 				.orElseThrow(() -> new DataNotFoundException(
 						ErrorCode.PRODUCT_NOT_FOUND,
 						"product not found: " + product.getId()
@@ -99,14 +241,44 @@ public class ProductPersistenceAdapter
 	}
 
 	@Override
-	public Product updateProductPrice(Long productId, Long price) {
-		ProductEntity oldEntity = productRepository.findById(productId)
+	public ProductPriceChange updateProductPrice(Long productId, Long price) {
+		ProductEntity oldEntity = productRepository.findWithBrandAndCategoryById(productId)
 				.orElseThrow(() -> new DataNotFoundException(
 						ErrorCode.PRODUCT_NOT_FOUND,
 						"product not found: " + productId
 				));
+		Product oldProduct = productMapper.toDomain(oldEntity);
 		oldEntity.changePrice(price);
-		return productMapper.toDomain(oldEntity);
+		return new ProductPriceChange(oldProduct, productMapper.toDomain(oldEntity));
+	}
+
+	@Override
+	public List<ProductPriceChange> updateProductPrices(Map<Long, Long> newPrices) {
+		List<Long> productIds = List.copyOf(newPrices.keySet());
+		List<ProductPriceChange> changes = new ArrayList<>();
+		// IN 절 크기와 영속성 컨텍스트 크기를 제한하기 위해 구간별로 조회 -> 변경 -> flush/clear
+		for (int from = 0; from < productIds.size(); from += PRICE_UPDATE_SLICE_SIZE) {
+			List<Long> slice = productIds.subList(from, Math.min(from + PRICE_UPDATE_SLICE_SIZE, productIds.size()));
+			List<ProductEntity> entities = productRepository.findWithBrandAndCategoryByIdIn(slice);
+			if (entities.size() != slice.size()) {
+				Set<Long> found = entities.stream().map(ProductEntity::getId).collect(Collectors.toSet());
+				List<Long> missing = slice.stream().filter(id -> !found.contains(id)).toList();
+				throw new DataNotFoundException(ErrorCode.PRODUCT_NOT_FOUND, "product not found: " + missing);
+			}
+			for (ProductEntity entity : entities) {
+				Long newPrice = newPrices.get(entity.getId());
+				if (entity.getPrice().equals(newPrice)) {
+					continue;
+				}
+				Product oldProduct = productMapper.toDomain(entity);
+				entity.changePrice(newPrice);
+				changes.add(new ProductPriceChange(oldProduct, productMapper.toDomain(entity)));
+			}
+			// hibernate.jdbc.batch_size + order_updates 로 UPDATE 가 배치 실행됨
+			entityManager.flush();
+			entityManager.clear();
+		}
+		return changes;
 	}
 
 	@Override
@@ -120,35 +292,25 @@ public class ProductPersistenceAdapter
 	}
 
 	@Override
-	public Product findLowestPriceByCategory(String categoryName) {
-		ProductEntity productEntity = productRepository.findLowestPriceByCategoryName(categoryName)
-				.orElseThrow(() -> new DataNotFoundException(
-						ErrorCode.PRODUCT_NOT_FOUND,
-						"category not found or no products: " + categoryName
-				));
-		return productMapper.toDomain(productEntity);
+	public List<Product> findByBrandName(String brandName) {
+		return dbFallbackLimiter.call(() -> productRepository.findProductRowsByBrandName(brandName)).stream()
+				.map(productMapper::productRowToDomain)
+				.toList();
 	}
 
 	@Override
-	public Product findHighestPriceByCategory(String categoryName) {
-		ProductEntity productEntity = productRepository.findHighestPriceByCategoryName(categoryName)
-				.orElseThrow(() -> new DataNotFoundException(
-						ErrorCode.PRODUCT_NOT_FOUND,
-						"category not found or no products: " + categoryName
-				));
-		return productMapper.toDomain(productEntity);
+	public List<BrandSumProjection> findBrandSum() {
+		return brandPriceTotalRepository.findWithProducts();
 	}
 
 	@Override
-	public List<Product> findByBrandName(String brandName) {
-		return productRepository.findByBrandName(brandName).stream()
-				.map(productMapper::toDomain)
-				.toList();
+	public List<CategoryPriceSummaryProjection> findCategoryPriceSummariesAfter(long afterCategoryId, int limit) {
+		return productRepository.findCategoryPriceSummariesAfter(afterCategoryId, PageRequest.of(0, limit));
 	}
 
 	@Override
-	public List<BrandSumProjection> findBrandSum() {
-		return productRepository.findBrandSum();
+	public List<BrandSumProjection> findBrandSumsAfter(long afterBrandId, int limit) {
+		return productRepository.findBrandSumsAfter(afterBrandId, PageRequest.of(0, limit));
 	}
 
 }
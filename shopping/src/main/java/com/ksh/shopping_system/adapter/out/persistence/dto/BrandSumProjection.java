@@ -1,6 +1,8 @@
 package com.ksh.shopping_system.adapter.out.persistence.dto;
 
 public interface BrandSumProjection {
+	Long getBrandId();
 	String getBrandName();
 	Long getTotalPrice();
+	Long getProductCount();
 }
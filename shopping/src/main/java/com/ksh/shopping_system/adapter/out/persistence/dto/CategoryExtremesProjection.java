@@ -0,0 +1,15 @@
+package com.ksh.shopping_system.adapter.out.persistence.dto;
+
+public interface CategoryExtremesProjection {
+	Long getCategoryId();
+	String getCategoryName();
+	Long getMinProductId();
+	Long getMinBrandId();
+	String getMinBrandName();
+	Long getMinPrice();
+	Long getMaxProductId();
+	Long getMaxBrandId();
+	String getMaxBrandName();
+	Long getMaxPrice();
+	Long getProductCount();
+}
@@ -1,8 +0,0 @@
-package com.ksh.shopping_system.adapter.out.persistence.dto;
-
-
-public interface CategoryMinPriceProjection {
-	String getCategoryName();
-	String getBrandName();
-	long getMinPrice();
-}
@@ -0,0 +1,9 @@
+package com.ksh.shopping_system.adapter.out.persistence.dto;
+
+public interface CategoryPriceSummaryProjection {
+	Long getCategoryId();
+	String getCategoryName();
+	Long getMinPrice();
+	Long getMaxPrice();
+	Long getProductCount();
+}
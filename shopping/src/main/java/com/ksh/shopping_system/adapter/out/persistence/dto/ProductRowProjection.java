@@ -0,0 +1,12 @@
+package com.ksh.shopping_system.adapter.out.persistence.dto;
+
+/**
+ * 상품 조회 한 행 (브랜드/카테고리 컬럼까지 한 번에 조회, 엔티티 지연 로딩 없이 도메인으로 매핑)
+ */
+public interface ProductRowProjection {
+	Long getProductId();
+	Long getBrandId();
+	String getBrandName();
+	String getCategoryName();
+	Long getPrice();
+}
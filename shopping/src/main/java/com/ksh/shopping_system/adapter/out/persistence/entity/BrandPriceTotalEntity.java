@@ -0,0 +1,30 @@
+package com.ksh.shopping_system.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 브랜드별 상품 총액/상품 수 (조회 전용)
+ * 값은 BrandPriceTotalRepository 의 증감 UPDATE 로만 바뀌므로 변경 메서드를 두지 않음
+ */
+@Entity
+@Table(name = "brand_price_total")
+@Getter
+@NoArgsConstructor
+public class BrandPriceTotalEntity {
+
+	@Id
+	private Long brandId;
+
+	@Column(nullable = false)
+	private Long totalPrice;
+
+	@Column(nullable = false)
+	private Long productCount;
+
+	// product_count > 0 인 생성 컬럼 (총액 최저 브랜드 조회 인덱스의 앞 컬럼)
+	@Column(insertable = false, updatable = false)
+	private Boolean hasProducts;
+
+}
@@ -1,11 +1,13 @@
 package com.ksh.shopping_system.adapter.out.persistence.entity;
 
+import com.ksh.shopping_system.adapter.out.persistence.CategoryEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "categories")
+@EntityListeners(CategoryEntityListener.class)
 @Getter
 @NoArgsConstructor
 public class CategoryEntity {
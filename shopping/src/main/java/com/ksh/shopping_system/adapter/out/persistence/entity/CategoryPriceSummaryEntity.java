@@ -0,0 +1,77 @@
+package com.ksh.shopping_system.adapter.out.persistence.entity;
+
+import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryExtremesProjection;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 가격 요약 (조회 전용)
+ * - 상품 생성/가격 변경/삭제와 같은 트랜잭션에서 갱신
+ * - 카테고리당 한 행이라 최저가/최고가 조회가 기본 키 조회 한 번으로 끝남
+ */
+@Entity
+@Table(name = "category_price_summary")
+@Getter
+@NoArgsConstructor
+public class CategoryPriceSummaryEntity {
+
+	@Id
+	private Long categoryId;
+
+	@Column(nullable = false)
+	private Long minProductId;
+
+	@Column(nullable = false)
+	private Long minBrandId;
+
+	@Column(nullable = false)
+	private Long minPrice;
+
+	@Column(nullable = false)
+	private Long maxProductId;
+
+	@Column(nullable = false)
+	private Long maxBrandId;
+
+	@Column(nullable = false)
+	private Long maxPrice;
+
+	@Column(nullable = false)
+	private Long productCount;
+
+	public CategoryPriceSummaryEntity(CategoryExtremesProjection row) {
+		this.categoryId = row.getCategoryId();
+		replace(row);
+	}
+
+	/**
+	 * products 에서 다시 계산한 값으로 교체
+	 */
+	public void replace(CategoryExtremesProjection row) {
+		this.minProductId = row.getMinProductId();
+		this.minBrandId = row.getMinBrandId();
+		this.minPrice = row.getMinPrice();
+		this.maxProductId = row.getMaxProductId();
+		this.maxBrandId = row.getMaxBrandId();
+		this.maxPrice = row.getMaxPrice();
+		this.productCount = row.getProductCount();
+	}
+
+	public void changeMin(long productId, long brandId, long price) {
+		this.minProductId = productId;
+		this.minBrandId = brandId;
+		this.minPrice = price;
+	}
+
+	public void changeMax(long productId, long brandId, long price) {
+		this.maxProductId = productId;
+		this.maxBrandId = brandId;
+		this.maxPrice = price;
+	}
+
+	public void addProductCount(long delta) {
+		this.productCount += delta;
+	}
+
+}
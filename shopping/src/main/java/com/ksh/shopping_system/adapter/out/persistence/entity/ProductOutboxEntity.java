@@ -0,0 +1,58 @@
+package com.ksh.shopping_system.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 변경 outbox 한 행 (변경 전/후 상품, 생성이면 before_*, 삭제면 after_* 가 비어 있음)
+ * applied_at 은 ProductOutboxRepository 의 일괄 UPDATE 로만 채움
+ */
+@Entity
+@Table(name = "product_outbox")
+@Getter
+@NoArgsConstructor
+public class ProductOutboxEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_outbox_seq")
+	@SequenceGenerator(name = "product_outbox_seq", sequenceName = "product_outbox_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long productId;
+
+	private Long beforeBrandId;
+	private String beforeBrandName;
+	private String beforeCategoryName;
+	private Long beforePrice;
+
+	private Long afterBrandId;
+	private String afterBrandName;
+	private String afterCategoryName;
+	private Long afterPrice;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	private LocalDateTime appliedAt;
+
+	public ProductOutboxEntity(Long productId,
+							   Long beforeBrandId, String beforeBrandName, String beforeCategoryName, Long beforePrice,
+							   Long afterBrandId, String afterBrandName, String afterCategoryName, Long afterPrice,
+							   LocalDateTime createdAt) {
+		this.productId = productId;
+		this.beforeBrandId = beforeBrandId;
+		this.beforeBrandName = beforeBrandName;
+		this.beforeCategoryName = beforeCategoryName;
+		this.beforePrice = beforePrice;
+		this.afterBrandId = afterBrandId;
+		this.afterBrandName = afterBrandName;
+		this.afterCategoryName = afterCategoryName;
+		this.afterPrice = afterPrice;
+		this.createdAt = createdAt;
+	}
+
+}
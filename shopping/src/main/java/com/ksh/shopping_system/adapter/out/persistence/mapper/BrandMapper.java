@@ -9,7 +9,7 @@ public class BrandMapper {
 
 	public Brand toDomain(BrandEntity entity) {
 		if (entity == null) return null;
-		return new Brand(entity.getName());
+		return new Brand(entity.getId(), entity.getName());
 	}
 
 	public BrandEntity toEntity(Brand domain) {
@@ -1,10 +1,9 @@
 package com.ksh.shopping_system.adapter.out.persistence.mapper;
 
 
-import com.ksh.shopping_system.adapter.out.cache.dto.MaxPriceCacheValue;
-import com.ksh.shopping_system.adapter.out.cache.dto.MinPriceCacheValue;
+import com.ksh.shopping_system.adapter.out.cache.DomainInterner;
+import com.ksh.shopping_system.adapter.out.persistence.dto.ProductRowProjection;
 import com.ksh.shopping_system.adapter.out.persistence.entity.ProductEntity;
-import com.ksh.shopping_system.common.type.Price;
 import com.ksh.shopping_system.domain.Brand;
 import com.ksh.shopping_system.domain.Category;
 import com.ksh.shopping_system.domain.Product;
@@ -17,16 +16,18 @@ public class ProductMapper {
 
 	private final BrandMapper brandMapper;
 	private final CategoryMapper categoryMapper;
+	private final DomainInterner interner;
 
+	/**
+	 * 브랜드/카테고리는 공유 인스턴스 사용 (캐시에 보관할 때 Product 를 다시 만들지 않도록)
+	 */
 	public Product toDomain(ProductEntity entity) {
 		if (entity == null)
 			return null;
 
-		Brand Brand = brandMapper.toDomain(entity.getBrand());
-		Category Category = categoryMapper.toDomain(entity.getCategory());
-		Price price = new Price(entity.getPrice().longValue()); // BigDecimal -> long 변환 등 정책에 맞게
-
-		return new Product(entity.getId(), Brand, Category, price);
+		Brand brand = interner.brand(entity.getBrand().getId(), entity.getBrand().getName());
+		Category category = interner.category(entity.getCategory().getName());
+		return new Product(entity.getId(), brand, category, entity.getPrice());
 	}
 
 	public ProductEntity toEntity(Product domain) {
@@ -42,20 +43,9 @@ public class ProductMapper {
 		);
 	}
 
-	public Product minPriceCacheToDomain(MinPriceCacheValue cacheValue, Category category) {
-		if (cacheValue == null)
-			return null;
-		Brand brand = new Brand(cacheValue.getBrandName());
-		Price price = new Price(cacheValue.getPrice());
-		return new Product(cacheValue.getPrdouctId(), brand, category, price);
-	}
-
-	public Product maxPriceCacheToDomain(MaxPriceCacheValue cacheValue, Category category) {
-		if (cacheValue == null)
-			return null;
-		Brand brand = new Brand(cacheValue.getBrandName());
-		Price price = new Price(cacheValue.getPrice());
-		return new Product(cacheValue.getPrdouctId(), brand, category, price);
+	public Product productRowToDomain(ProductRowProjection row) {
+		return new Product(row.getProductId(), interner.brand(row.getBrandId(), row.getBrandName()),
+				interner.category(row.getCategoryName()), row.getPrice());
 	}
 
 }
@@ -0,0 +1,84 @@
+package com.ksh.shopping_system.adapter.out.persistence.repository;
+
+import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
+import com.ksh.shopping_system.adapter.out.persistence.entity.BrandPriceTotalEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BrandPriceTotalRepository extends JpaRepository<BrandPriceTotalEntity, Long> {
+
+	// 같은 브랜드의 동시 쓰기는 행 잠금으로 직렬화되고, 읽고-쓰기가 아니라 증감이라 갱신이 유실되지 않음
+	@Modifying
+	@Query("""
+       UPDATE BrandPriceTotalEntity t
+          SET t.totalPrice = t.totalPrice + :priceDelta,
+              t.productCount = t.productCount + :productCountDelta
+        WHERE t.brandId = :brandId
+    """)
+	int addDelta(Long brandId, long priceDelta, long productCountDelta);
+
+	// 브랜드 생성 시 (0, 0) 행
+	@Modifying
+	@Query(value = "INSERT INTO brand_price_total (brand_id, total_price, product_count) " +
+			"VALUES (:brandId, :totalPrice, :productCount)", nativeQuery = true)
+	void insert(Long brandId, long totalPrice, long productCount);
+
+	@Modifying
+	@Query("DELETE FROM BrandPriceTotalEntity t WHERE t.brandId = :brandId")
+	void deleteByBrandId(Long brandId);
+
+	// 상품이 있는 브랜드의 총액/상품 수 (브랜드 총액 원장 적재용, products 는 읽지 않음)
+	@Query("""
+       SELECT t.brandId       AS brandId,
+              b.name          AS brandName,
+              t.totalPrice    AS totalPrice,
+              t.productCount  AS productCount
+         FROM BrandPriceTotalEntity t
+         JOIN BrandEntity b ON b.id = t.brandId
+        WHERE t.hasProducts = true
+    """)
+	List<BrandSumProjection> findWithProducts();
+
+	// 상품이 있는 브랜드의 최저 총액, (has_products, total_price) 인덱스 앞에서 한 행만 읽음
+	@Query("""
+       SELECT t.totalPrice
+         FROM BrandPriceTotalEntity t
+        WHERE t.hasProducts = true
+        ORDER BY t.totalPrice
+    """)
+	List<Long> findMinTotalPrice(Pageable pageable);
+
+	// 총액이 같은 브랜드만 인덱스로 찾아 브랜드명 순 정렬
+	@Query("""
+       SELECT t.brandId       AS brandId,
+              b.name          AS brandName,
+              t.totalPrice    AS totalPrice,
+              t.productCount  AS productCount
+         FROM BrandPriceTotalEntity t
+         JOIN BrandEntity b ON b.id = t.brandId
+        WHERE t.hasProducts = true AND t.totalPrice = :totalPrice
+        ORDER BY b.name
+    """)
+	List<BrandSumProjection> findWithProductsByTotalPrice(long totalPrice, Pageable pageable);
+
+	// 전체 재계산 (명시적인 재구축 명령에서만 사용, products 전체 GROUP BY)
+	@Modifying
+	@Query(value = "DELETE FROM brand_price_total", nativeQuery = true)
+	void deleteAllRows();
+
+	@Modifying
+	@Query(value = """
+       INSERT INTO brand_price_total (brand_id, total_price, product_count)
+       SELECT b.id, COALESCE(SUM(p.price), 0), COUNT(p.id)
+         FROM brands b LEFT JOIN products p ON p.brand_id = b.id
+        GROUP BY b.id
+    """, nativeQuery = true)
+	int insertFromProducts();
+
+}
@@ -4,10 +4,14 @@ import com.ksh.shopping_system.adapter.out.persistence.entity.BrandEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BrandRepository extends JpaRepository<BrandEntity, Long> {
 	Optional<BrandEntity> findByName(String name);
+
+	List<BrandEntity> findByNameIn(Collection<String> names);
 }
 
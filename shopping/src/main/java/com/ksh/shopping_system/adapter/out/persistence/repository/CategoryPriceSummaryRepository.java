@@ -0,0 +1,43 @@
+package com.ksh.shopping_system.adapter.out.persistence.repository;
+
+import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryExtremesProjection;
+import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryPriceSummaryEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CategoryPriceSummaryRepository extends JpaRepository<CategoryPriceSummaryEntity, Long> {
+
+	// 카테고리 요약 + 카테고리명/브랜드명 (모두 기본 키 조인, products 는 읽지 않음)
+	String SUMMARY_EXTREMES_SELECT = """
+       SELECT c.id            AS categoryId,
+              c.name          AS categoryName,
+              s.minProductId  AS minProductId,
+              mb.id           AS minBrandId,
+              mb.name         AS minBrandName,
+              s.minPrice      AS minPrice,
+              s.maxProductId  AS maxProductId,
+              xb.id           AS maxBrandId,
+              xb.name         AS maxBrandName,
+              s.maxPrice      AS maxPrice,
+              s.productCount  AS productCount
+         FROM CategoryPriceSummaryEntity s
+         JOIN CategoryEntity c ON c.id = s.categoryId
+         JOIN BrandEntity mb ON mb.id = s.minBrandId
+         JOIN BrandEntity xb ON xb.id = s.maxBrandId
+    """;
+
+	@Query(SUMMARY_EXTREMES_SELECT)
+	List<CategoryExtremesProjection> findAllExtremes();
+
+	// 같은 카테고리를 갱신하는 트랜잭션끼리 직렬화 (여러 카테고리는 ID 순으로 잠가 교착을 피함)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	List<CategoryPriceSummaryEntity> findByCategoryIdInOrderByCategoryId(Collection<Long> categoryIds);
+
+}
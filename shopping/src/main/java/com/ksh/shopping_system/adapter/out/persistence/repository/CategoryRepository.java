@@ -1,12 +1,22 @@
 package com.ksh.shopping_system.adapter.out.persistence.repository;
 
 import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<CategoryEntity, Long> {
 	Optional<CategoryEntity> findByName(String name);
+
+	List<CategoryEntity> findByNameIn(Collection<String> names);
+
+	// 가격 요약 행이 없는 카테고리의 요약 생성을 직렬화 (요약 행 대신 항상 있는 카테고리 행을 ID 순으로 잠금)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	List<CategoryEntity> findByIdInOrderById(Collection<Long> ids);
 }
@@ -0,0 +1,44 @@
+package com.ksh.shopping_system.adapter.out.persistence.repository;
+
+import com.ksh.shopping_system.adapter.out.persistence.entity.ProductOutboxEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProductOutboxRepository extends JpaRepository<ProductOutboxEntity, Long> {
+
+	// 미반영 행을 기록 순서(ID)대로 (applied_at, id) 인덱스로 앞에서부터 읽음
+	@Query("""
+       SELECT o
+         FROM ProductOutboxEntity o
+        WHERE o.appliedAt IS NULL
+        ORDER BY o.id
+    """)
+	List<ProductOutboxEntity> findPending(Pageable pageable);
+
+	long countByAppliedAtIsNull();
+
+	@Query("SELECT o.id FROM ProductOutboxEntity o WHERE o.appliedAt IS NULL ORDER BY o.id")
+	List<Long> findPendingIds();
+
+	// 한 번의 UPDATE 로 반영 완료 표시
+	@Modifying
+	@Query("UPDATE ProductOutboxEntity o SET o.appliedAt = :appliedAt WHERE o.id IN :ids AND o.appliedAt IS NULL")
+	int markApplied(Collection<Long> ids, LocalDateTime appliedAt);
+
+	@Modifying
+	@Query("UPDATE ProductOutboxEntity o SET o.appliedAt = :appliedAt WHERE o.appliedAt IS NULL")
+	int markAllApplied(LocalDateTime appliedAt);
+
+	@Modifying
+	@Query("DELETE FROM ProductOutboxEntity o WHERE o.appliedAt < :appliedBefore")
+	int deleteAppliedBefore(LocalDateTime appliedBefore);
+
+}
@@ -1,47 +1,135 @@
 package com.ksh.shopping_system.adapter.out.persistence.repository;
 
 import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
-import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryMinPriceProjection;
+import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryExtremesProjection;
+import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryPriceSummaryProjection;
+import com.ksh.shopping_system.adapter.out.persistence.dto.ProductRowProjection;
 import com.ksh.shopping_system.adapter.out.persistence.entity.ProductEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
 
+	// 조회 전용 상품 행 (엔티티 대신 필요한 컬럼만 한 번의 조인으로 조회해 지연 로딩 N+1 을 막음)
+	String PRODUCT_ROW_SELECT = """
+       SELECT p.id     AS productId,
+              b.id     AS brandId,
+              b.name   AS brandName,
+              c.name   AS categoryName,
+              p.price  AS price
+         FROM ProductEntity p
+         JOIN p.brand b
+         JOIN p.category c
+    """;
+
+	// 전체 상품 (캐시 워밍업용)
+	@Query(PRODUCT_ROW_SELECT)
+	List<ProductRowProjection> findAllProductRows();
+
 	// 특정 카테고리에 대한 모든 상품
-	List<ProductEntity> findByCategoryName(String categoryName);
+	@Query(PRODUCT_ROW_SELECT + "WHERE c.name = :categoryName")
+	List<ProductRowProjection> findProductRowsByCategoryName(String categoryName);
 
-	// 특정 카데고리에 상품 중 최저가
-	@Query("SELECT p FROM ProductEntity p " +
-			"WHERE p.category.name = :categoryName " +
-			"ORDER BY p.price ASC LIMIT 1")
-	Optional<ProductEntity> findLowestPriceByCategoryName(String categoryName);
+	// 여러 카테고리의 모든 상품 (인덱스가 없는 카테고리를 한 번의 쿼리로 적재)
+	@Query(PRODUCT_ROW_SELECT + "WHERE c.name IN :categoryNames")
+	List<ProductRowProjection> findProductRowsByCategoryNameIn(Collection<String> categoryNames);
 
-	// 특정 카데고리에 상품 중 최고가
-	@Query("SELECT p FROM ProductEntity p " +
-			"WHERE p.category.name = :categoryName " +
-			"ORDER BY p.price DESC LIMIT 1")
-	Optional<ProductEntity> findHighestPriceByCategoryName(String categoryName);
+	// 특정 브랜드의 모든 상품 (캐시 백그라운드 갱신처럼 호출자 트랜잭션 밖에서도 매핑 가능)
+	@Query(PRODUCT_ROW_SELECT + "WHERE b.name = :brandName")
+	List<ProductRowProjection> findProductRowsByBrandName(String brandName);
+
+	@Query(PRODUCT_ROW_SELECT + "WHERE p.id = :productId")
+	Optional<ProductRowProjection> findProductRowById(Long productId);
+
+	// 카테고리별 최저가/최고가 상품을 한 번의 스캔으로 조회 (동일 가격이면 최저가는 브랜드명 앞, 최고가는 브랜드명 뒤)
+	String CATEGORY_EXTREMES_SELECT = """
+       SELECT r.category_id                                        AS "categoryId",
+              r.category_name                                      AS "categoryName",
+              MAX(CASE WHEN r.min_rank = 1 THEN r.product_id END)  AS "minProductId",
+              MAX(CASE WHEN r.min_rank = 1 THEN r.brand_id END)    AS "minBrandId",
+              MAX(CASE WHEN r.min_rank = 1 THEN r.brand_name END)  AS "minBrandName",
+              MAX(CASE WHEN r.min_rank = 1 THEN r.price END)       AS "minPrice",
+              MAX(CASE WHEN r.max_rank = 1 THEN r.product_id END)  AS "maxProductId",
+              MAX(CASE WHEN r.max_rank = 1 THEN r.brand_id END)    AS "maxBrandId",
+              MAX(CASE WHEN r.max_rank = 1 THEN r.brand_name END)  AS "maxBrandName",
+              MAX(CASE WHEN r.max_rank = 1 THEN r.price END)       AS "maxPrice",
+              MAX(r.product_count)                                 AS "productCount"
+         FROM (SELECT p.id AS product_id, p.price, b.id AS brand_id, b.name AS brand_name,
+                      c.id AS category_id, c.name AS category_name,
+                      COUNT(*) OVER (PARTITION BY p.category_id) AS product_count,
+                      ROW_NUMBER() OVER (PARTITION BY p.category_id ORDER BY p.price ASC, b.name ASC, p.id ASC)   AS min_rank,
+                      ROW_NUMBER() OVER (PARTITION BY p.category_id ORDER BY p.price DESC, b.name DESC, p.id ASC) AS max_rank
+                 FROM products p
+                 JOIN brands b ON b.id = p.brand_id
+                 JOIN categories c ON c.id = p.category_id
+    """;
+	String CATEGORY_EXTREMES_GROUP = """
+              ) r
+        WHERE r.min_rank = 1 OR r.max_rank = 1
+        GROUP BY r.category_id, r.category_name
+    """;
+
+	@Query(value = CATEGORY_EXTREMES_SELECT + CATEGORY_EXTREMES_GROUP, nativeQuery = true)
+	List<CategoryExtremesProjection> findCategoryExtremes();
+
+	@Query(value = CATEGORY_EXTREMES_SELECT + "WHERE c.name IN (:categoryNames)" + CATEGORY_EXTREMES_GROUP,
+			nativeQuery = true)
+	List<CategoryExtremesProjection> findCategoryExtremesByCategoryNameIn(Collection<String> categoryNames);
 
-	// 카데고리별 최저가
-	@Query("SELECT p.category.name AS categoryName, p.brand.name, MIN(p.price) AS minPrice " +
-			"FROM ProductEntity p " +
-			"GROUP BY p.category.name")
-	List<CategoryMinPriceProjection> findCategoryMinPrice();
+	// 브랜드 상품이 있는 카테고리 (브랜드명 변경 시 가격 요약 재계산 대상)
+	@Query("SELECT DISTINCT c.name FROM ProductEntity p JOIN p.category c WHERE p.brand.id = :brandId")
+	List<String> findCategoryNamesByBrandId(Long brandId);
 
+	// 정합성 점검용, 카테고리 ID keyset 구간별 최저가/최고가/상품 수 (상품 없는 카테고리 포함)
 	@Query("""
-       SELECT p.brand.name AS brandName,
-              SUM(p.price)  AS totalPrice
-         FROM ProductEntity p
-        GROUP BY p.brand.name
+       SELECT c.id          AS categoryId,
+              c.name        AS categoryName,
+              MIN(p.price)  AS minPrice,
+              MAX(p.price)  AS maxPrice,
+              COUNT(p)      AS productCount
+         FROM CategoryEntity c LEFT JOIN ProductEntity p ON p.category = c
+        WHERE c.id > :afterCategoryId
+        GROUP BY c.id, c.name
+        ORDER BY c.id
+    """)
+	List<CategoryPriceSummaryProjection> findCategoryPriceSummariesAfter(Long afterCategoryId, Pageable pageable);
+
+	// 정합성 점검용, 브랜드 ID keyset 구간별 상품 총액/상품 수 (상품 없는 브랜드 포함)
+	// 파생 값인 brand_price_total 이 아니라 products 를 (brand_id, category_id, price) 인덱스로 집계
+	@Query("""
+       SELECT b.id                       AS brandId,
+              b.name                     AS brandName,
+              COALESCE(SUM(p.price), 0L) AS totalPrice,
+              COUNT(p)                   AS productCount
+         FROM BrandEntity b LEFT JOIN ProductEntity p ON p.brand = b
+        WHERE b.id > :afterBrandId
+        GROUP BY b.id, b.name
+        ORDER BY b.id
     """)
-	List<BrandSumProjection> findBrandSum();
+	List<BrandSumProjection> findBrandSumsAfter(Long afterBrandId, Pageable pageable);
 
-	List<ProductEntity> findByBrandName(String cheapestBrand);
+	// 가격 변경용, 이벤트에 필요한 브랜드/카테고리까지 한 번에 조회
+	@Query("SELECT p FROM ProductEntity p JOIN FETCH p.brand JOIN FETCH p.category WHERE p.id = :id")
+	Optional<ProductEntity> findWithBrandAndCategoryById(Long id);
+
+	// 가격 일괄 변경용, 이벤트에 필요한 브랜드/카테고리까지 한 번에 조회
+	@Query("SELECT p FROM ProductEntity p " +
+			"JOIN FETCH p.brand JOIN FETCH p.category " +
+			"WHERE p.id IN :ids")
+	List<ProductEntity> findWithBrandAndCategoryByIdIn(Collection<Long> ids);
+
+	// 가격표 upsert 용, 브랜드 x 카테고리 조합의 기존 상품 (같은 조합이 여러 개면 id 가 작은 상품 기준)
+	@Query("SELECT p FROM ProductEntity p " +
+			"JOIN FETCH p.brand b JOIN FETCH p.category c " +
+			"WHERE b.id IN :brandIds AND c.id IN :categoryIds " +
+			"ORDER BY p.id")
+	List<ProductEntity> findByBrandIdsAndCategoryIds(Collection<Long> brandIds, Collection<Long> categoryIds);
 
 }
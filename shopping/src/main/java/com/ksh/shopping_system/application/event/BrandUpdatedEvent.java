@@ -0,0 +1,16 @@
+package com.ksh.shopping_system.application.event;
+
+import com.ksh.shopping_system.domain.Brand;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class BrandUpdatedEvent extends ApplicationEvent {
+	private final Brand brand;
+
+	public BrandUpdatedEvent(Object source, Brand brand) {
+		super(source);
+		this.brand = brand;
+	}
+
+}
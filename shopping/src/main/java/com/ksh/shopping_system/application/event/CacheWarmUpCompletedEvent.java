@@ -0,0 +1,23 @@
+package com.ksh.shopping_system.application.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * 기동 시 캐시 워밍업 종료 이벤트 (ProductOutboxRelay 가 이 이벤트를 받은 뒤에 poll 시작)
+ * appliedOutboxIds: 워밍업 스냅샷에 이미 반영된 미반영 outbox 행
+ * null 이면 워밍업을 하지 않았거나 실패해 캐시를 조회 시 DB 에서 적재하므로 미반영 행을 모두 반영 완료로 표시
+ */
+@Getter
+public class CacheWarmUpCompletedEvent extends ApplicationEvent {
+
+	private final List<Long> appliedOutboxIds;
+
+	public CacheWarmUpCompletedEvent(Object source, List<Long> appliedOutboxIds) {
+		super(source);
+		this.appliedOutboxIds = appliedOutboxIds;
+	}
+
+}
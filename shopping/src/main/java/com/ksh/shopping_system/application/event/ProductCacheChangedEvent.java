@@ -0,0 +1,30 @@
+package com.ksh.shopping_system.application.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 상품/브랜드 캐시에 변경이 반영된 뒤 발행되는 이벤트
+ * categoryName 이 null 이면 모든 카테고리가 영향을 받음 (예: 브랜드명 변경)
+ * brandTotalsOnly 이면 브랜드 원장/브랜드 상품 목록만 바뀐 것 (최저가 브랜드 응답만 영향)
+ */
+@Getter
+public class ProductCacheChangedEvent extends ApplicationEvent {
+	private final String categoryName;
+	private final boolean brandTotalsOnly;
+
+	public ProductCacheChangedEvent(Object source, String categoryName) {
+		this(source, categoryName, false);
+	}
+
+	private ProductCacheChangedEvent(Object source, String categoryName, boolean brandTotalsOnly) {
+		super(source);
+		this.categoryName = categoryName;
+		this.brandTotalsOnly = brandTotalsOnly;
+	}
+
+	public static ProductCacheChangedEvent brandTotals(Object source) {
+		return new ProductCacheChangedEvent(source, null, true);
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.ksh.shopping_system.application.event;
+
+import com.ksh.shopping_system.domain.Product;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 생성 이벤트 (커밋 후 캐시에 한 번에 반영)
+ */
+@Getter
+public class ProductsCreatedEvent extends ApplicationEvent {
+
+	private final List<Product> products;
+
+	public ProductsCreatedEvent(Object source, List<Product> products) {
+		super(source);
+		this.products = products;
+	}
+
+}
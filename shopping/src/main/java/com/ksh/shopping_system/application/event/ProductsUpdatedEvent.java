@@ -0,0 +1,22 @@
+package com.ksh.shopping_system.application.event;
+
+import com.ksh.shopping_system.domain.ProductPriceChange;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * 상품 가격 일괄 변경 이벤트 (커밋 후 캐시에 한 번에 반영)
+ */
+@Getter
+public class ProductsUpdatedEvent extends ApplicationEvent {
+
+	private final List<ProductPriceChange> changes;
+
+	public ProductsUpdatedEvent(Object source, List<ProductPriceChange> changes) {
+		super(source);
+		this.changes = changes;
+	}
+
+}
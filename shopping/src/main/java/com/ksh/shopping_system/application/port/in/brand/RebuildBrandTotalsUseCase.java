@@ -0,0 +1,8 @@
+package com.ksh.shopping_system.application.port.in.brand;
+
+public interface RebuildBrandTotalsUseCase {
+	/**
+	 * 브랜드 총액 테이블을 products 전체 집계로 다시 계산, 재계산된 브랜드 수
+	 */
+	int rebuildBrandTotals();
+}
@@ -0,0 +1,125 @@
+package com.ksh.shopping_system.application.port.in.catalog;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가격표 가져오기 작업 진행 상황
+ */
+public class CatalogImportJob {
+
+	private static final int MAX_REJECTION_SAMPLES = 100;
+
+	public enum Status {
+		RUNNING, COMPLETED, FAILED
+	}
+
+	@Getter
+	private final String jobId;
+	@Getter
+	private final String sourceName;
+	@Getter
+	private final Instant startedAt = Instant.now();
+	@Getter
+	private volatile Instant finishedAt;
+	@Getter
+	private volatile Status status = Status.RUNNING;
+	@Getter
+	private volatile String errorMessage;
+
+	private final AtomicLong rowsRead = new AtomicLong();
+	private final AtomicLong rowsCreated = new AtomicLong();
+	private final AtomicLong rowsUpdated = new AtomicLong();
+	private final AtomicLong rowsUnchanged = new AtomicLong();
+	private final AtomicLong rowsRejected = new AtomicLong();
+	private final AtomicLong chunksCommitted = new AtomicLong();
+	// 거부 사유는 앞의 일부만 보관
+	private final Queue<String> rejectionSamples = new ConcurrentLinkedQueue<>();
+
+	public CatalogImportJob(String jobId, String sourceName) {
+		this.jobId = jobId;
+		this.sourceName = sourceName;
+	}
+
+	public void rowRead() {
+		rowsRead.incrementAndGet();
+	}
+
+	public void reject(String reason) {
+		if (rowsRejected.incrementAndGet() <= MAX_REJECTION_SAMPLES) {
+			rejectionSamples.add(reason);
+		}
+	}
+
+	public void chunkCommitted(int created, int updated, int unchanged, List<String> rejections) {
+		rowsCreated.addAndGet(created);
+		rowsUpdated.addAndGet(updated);
+		rowsUnchanged.addAndGet(unchanged);
+		rejections.forEach(this::reject);
+		chunksCommitted.incrementAndGet();
+	}
+
+	public void complete() {
+		finishedAt = Instant.now();
+		status = Status.COMPLETED;
+	}
+
+	public void fail(String errorMessage) {
+		this.errorMessage = errorMessage;
+		finishedAt = Instant.now();
+		status = Status.FAILED;
+	}
+
+	public long getRowsRead() {
+		return rowsRead.get();
+	}
+
+	public long getRowsCreated() {
+		return rowsCreated.get();
+	}
+
+	public long getRowsUpdated() {
+		return rowsUpdated.get();
+	}
+
+	public long getRowsUnchanged() {
+		return rowsUnchanged.get();
+	}
+
+	public long getRowsRejected() {
+		return rowsRejected.get();
+	}
+
+	public long getChunksCommitted() {
+		return chunksCommitted.get();
+	}
+
+	public List<String> getRejectionSamples() {
+		return List.copyOf(rejectionSamples);
+	}
+
+	public long getElapsedMillis() {
+		Instant end = finishedAt != null ? finishedAt : Instant.now();
+		return Duration.between(startedAt, end).toMillis();
+	}
+
+	/**
+	 * 반영(생성/변경/유지)된 행 기준 처리량
+	 */
+	public double getRowsPerSecond() {
+		long elapsedMillis = Math.max(getElapsedMillis(), 1);
+		long applied = rowsCreated.get() + rowsUpdated.get() + rowsUnchanged.get();
+		return applied * 1000.0 / elapsedMillis;
+	}
+
+	public boolean isFinished() {
+		return status != Status.RUNNING;
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.ksh.shopping_system.application.port.in.catalog;
+
+import com.ksh.shopping_system.domain.CatalogRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 가격표를 한 행씩 읽는 스트리밍 리더
+ */
+public interface CatalogRowReader extends Closeable {
+
+	/**
+	 * 다음 행, 파일 끝이면 null
+	 * 형식이 잘못된 행은 InvalidValueException (해당 행만 건너뛰고 계속 읽을 수 있음)
+	 */
+	CatalogRow next() throws IOException;
+
+}
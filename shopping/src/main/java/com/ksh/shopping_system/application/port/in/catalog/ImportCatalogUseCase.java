@@ -0,0 +1,12 @@
+package com.ksh.shopping_system.application.port.in.catalog;
+
+public interface ImportCatalogUseCase {
+
+	/**
+	 * 가격표 가져오기 비동기 시작, reader 는 작업 종료 시 닫힘
+	 */
+	CatalogImportJob startImport(String sourceName, CatalogRowReader reader);
+
+	CatalogImportJob getImportJob(String jobId);
+
+}
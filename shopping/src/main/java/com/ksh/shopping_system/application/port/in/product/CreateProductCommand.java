@@ -0,0 +1,4 @@
+package com.ksh.shopping_system.application.port.in.product;
+
+public record CreateProductCommand(String brandName, String categoryName, long priceValue) {
+}
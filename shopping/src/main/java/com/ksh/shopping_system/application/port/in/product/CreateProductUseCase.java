@@ -2,6 +2,10 @@ package com.ksh.shopping_system.application.port.in.product;
 
 import com.ksh.shopping_system.domain.Product;
 
+import java.util.List;
+
 public interface CreateProductUseCase {
 	Product createProduct(String brandName, String categoryName, long priceValue);
+
+	List<Product> createProducts(List<CreateProductCommand> commands);
 }
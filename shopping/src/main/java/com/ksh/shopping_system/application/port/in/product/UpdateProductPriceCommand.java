@@ -0,0 +1,4 @@
+package com.ksh.shopping_system.application.port.in.product;
+
+public record UpdateProductPriceCommand(Long productId, long newPriceValue) {
+}
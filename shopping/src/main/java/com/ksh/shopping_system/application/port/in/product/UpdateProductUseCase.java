@@ -1,7 +1,15 @@
 package com.ksh.shopping_system.application.port.in.product;
 
 import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductPriceChange;
+
+import java.util.List;
 
 public interface UpdateProductUseCase {
 	Product updateProduct(Long productId, long newPriceValue);
+
+	/**
+	 * 가격 일괄 변경, 실제로 가격이 바뀐 상품만 반환
+	 */
+	List<ProductPriceChange> updateProductPrices(List<UpdateProductPriceCommand> commands);
 }
@@ -1,18 +1,51 @@
 package com.ksh.shopping_system.application.port.out.brand;
 
-import java.util.Map;
+import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
+import com.ksh.shopping_system.domain.BrandTotalPrice;
+
+import java.util.List;
+import java.util.OptionalLong;
 
 public interface BrandCachePort {
-	void putBrandTotal(String brandName, Long totalPrice);
 
-	Long getBrandTotal(String brandName);
+	/**
+	 * 브랜드 총액/상품 수 증감 (atomic), 원장 적재 전이면 버림
+	 */
+	void addBrandTotal(long brandId, String brandName, long priceDelta, long productCountDelta);
 
-	void removeBrand(String brandName);
+	/**
+	 * 브랜드 총액, 상품이 없는 브랜드면 empty
+	 */
+	OptionalLong getBrandTotal(long brandId);
 
-	void clearAll();
+	long getProductCount(long brandId);
 
 	/**
-	 * 캐시에 저장된 (brandName -> totalPrice) 전체 Map
+	 * 총액/상품 수를 DB 기준 값으로 교체 (정합성 복구용)
 	 */
-	Map<String, Long> asMap();
+	void resetBrandTotal(long brandId, String brandName, long totalPrice, long productCount);
+
+	/**
+	 * 총액 최저 브랜드 (동일 총액이면 알파벳 순 앞 브랜드)
+	 * 상품이 있는 브랜드가 없으면 null
+	 */
+	BrandTotalPrice getCheapestBrand();
+
+	void renameBrand(long brandId, String newBrandName);
+
+	/**
+	 * (brandId, brandName, totalPrice, productCount) 집계로 전체 재구축
+	 */
+	void rebuild(List<BrandSumProjection> sums);
+
+	/**
+	 * rebuild 로 전체 적재가 끝났는지, 그 전에는 증감/이름 변경을 버리므로 원장 값으로 답하면 안 됨
+	 */
+	boolean isWarmedUp();
+
+	/**
+	 * 원장을 비우고 적재 전 상태로 되돌림
+	 */
+	void clearAll();
+
 }
@@ -0,0 +1,39 @@
+package com.ksh.shopping_system.application.port.out.brand;
+
+import com.ksh.shopping_system.domain.BrandTotalPrice;
+import com.ksh.shopping_system.domain.ProductChange;
+
+import java.util.List;
+
+/**
+ * 브랜드 총액 테이블 (brand_price_total)
+ * 상품을 바꾸는 트랜잭션 안에서 호출해야 총액과 상품이 함께 커밋/롤백됨
+ */
+public interface BrandPriceTotalPort {
+	/**
+	 * 상품 생성/가격 변경/삭제를 브랜드별 증감으로 반영
+	 */
+	void apply(List<ProductChange> changes);
+
+	/**
+	 * 브랜드 생성과 같은 트랜잭션에서 (총액 0, 상품 수 0) 행 생성
+	 * 상품 쓰기는 이 행을 증감 UPDATE 로만 바꾸므로 첫 상품이 동시에 생겨도 행 잠금으로 직렬화됨
+	 */
+	void createBrand(long brandId);
+
+	/**
+	 * 총액 최저 브랜드 (동일 총액이면 알파벳 순 앞 브랜드), 총액 인덱스로 조회
+	 * 상품이 있는 브랜드가 없으면 null
+	 */
+	BrandTotalPrice findCheapestBrand();
+
+	/**
+	 * 브랜드 삭제 전 총액 행 삭제
+	 */
+	void deleteBrand(long brandId);
+
+	/**
+	 * products 전체 집계로 다시 계산 (상품 없는 브랜드는 0 행), 재계산된 브랜드 수
+	 */
+	int rebuild();
+}
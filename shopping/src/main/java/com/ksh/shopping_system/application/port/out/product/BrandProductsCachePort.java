@@ -0,0 +1,28 @@
+package com.ksh.shopping_system.application.port.out.product;
+
+import com.ksh.shopping_system.domain.Product;
+
+import java.util.List;
+
+/**
+ * 브랜드명 -> 브랜드 상품 목록 (최저가 브랜드 응답용)
+ */
+public interface BrandProductsCachePort {
+
+	/**
+	 * 브랜드 상품 목록 get(key)
+	 * 없으면 한 번만 DB 에서 적재하고, 같은 브랜드의 동시 요청은 그 적재 결과를 함께 기다림
+	 */
+	List<Product> getBrandProducts(String brandName);
+
+	/**
+	 * 브랜드 상품이 바뀌었을 때 무효화
+	 */
+	void invalidate(String brandName);
+
+	/**
+	 * 브랜드명 변경 등 키를 특정할 수 없을 때 전체 무효화
+	 */
+	void invalidateAll();
+
+}
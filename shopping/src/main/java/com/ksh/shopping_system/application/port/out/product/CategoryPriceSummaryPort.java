@@ -0,0 +1,28 @@
+package com.ksh.shopping_system.application.port.out.product;
+
+import com.ksh.shopping_system.domain.ProductChange;
+
+import java.util.List;
+
+/**
+ * 카테고리 가격 요약 테이블 갱신
+ * 상품을 바꾸는 트랜잭션 안에서 호출해야 요약과 상품이 함께 커밋/롤백됨
+ */
+public interface CategoryPriceSummaryPort {
+	/**
+	 * 상품 생성/가격 변경/삭제 반영
+	 * 최저가/최고가가 바뀌지 않았거나 새 상품이 더 싸거나 비싼 경우는 요약 행만 고치고,
+	 * 최저가/최고가 상품이 더 비싸지거나 싸져서 다음 상품을 알 수 없으면 해당 카테고리만 products 에서 다시 계산
+	 */
+	void apply(List<ProductChange> changes);
+
+	/**
+	 * 브랜드명 변경 반영 (동일 가격 시 브랜드명 우선순위가 바뀌므로 해당 브랜드 상품이 있는 카테고리를 다시 계산)
+	 */
+	void refreshBrand(long brandId);
+
+	/**
+	 * 전체 카테고리를 products 에서 다시 계산 (초기 데이터 적재 등 요약을 거치지 않은 쓰기 이후)
+	 */
+	void rebuildAll();
+}
@@ -3,35 +3,73 @@ package com.ksh.shopping_system.application.port.out.product;
 import com.ksh.shopping_system.domain.Category;
 import com.ksh.shopping_system.domain.Product;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 public interface ProductCachePort {
 	/**
-	 * 카테고리 최저가 put(key, value)
+	 * 카테고리 가격 인덱스 적재
+	 * 이미 적재된 카테고리면 loader 를 호출하지 않음
 	 */
-	void putMinPrice(String categoryName, Product product);
+	void loadCategory(String categoryName, Supplier<List<Product>> loader);
 
 	/**
-	 * 카테고리 최저가 get(key)
+	 * 여러 카테고리 가격 인덱스를 한 번의 loader 호출로 적재 (loader 결과는 카테고리별로 나눠 인덱스 생성)
+	 * 이미 적재된 카테고리는 제외하고, 다른 요청이 적재 중인 카테고리는 그 적재가 끝날 때까지 대기
+	 * loader 가 실패하면 예외를 그대로 던지고 다음 호출에서 다시 적재
 	 */
-	Product getMinPrice(Category category);
+	void loadCategories(Collection<String> categoryNames, Function<Collection<String>, List<Product>> loader);
 
 	/**
-	 * 카테고리 최저가 삭제
+	 * 카테고리 가격 인덱스를 loader 결과로 교체 (정합성 복구용)
+	 * 교체하는 동안 같은 카테고리의 갱신은 대기했다가 새 인덱스에 반영됨
 	 */
-	void removeMinPrice(String categoryName);
+	void reloadCategory(String categoryName, Supplier<List<Product>> loader);
 
 	/**
-	 * 카데고리 최고가 put(key, value)
+	 * 카테고리 가격 인덱스 적재 여부
 	 */
-	void putMaxPrice(String categoryName, Product product);
+	boolean isLoaded(String categoryName);
+
+	/**
+	 * 카테고리 최저가 get(key)
+	 * 적재되지 않았거나 상품이 없으면 null
+	 */
+	Product getMinPrice(Category category);
 
 	/**
 	 * 카테고리 최고가 get(key)
+	 * 적재되지 않았거나 상품이 없으면 null
 	 */
 	Product getMaxPrice(Category category);
 
 	/**
-	 * 카테고리 최고가 삭제
+	 * 적재된 카테고리의 상품 수, 적재되지 않았으면 0
+	 */
+	int getProductCount(String categoryName);
+
+	/**
+	 * 상품 추가 또는 가격 변경 반영
 	 */
-	void removeMaxPrice(String categoryName);
+	void putProduct(Product product);
+
+	/**
+	 * 상품 일괄 추가 반영 (카테고리별로 한 번씩 갱신)
+	 */
+	void putProducts(List<Product> products);
+
+	/**
+	 * 상품 삭제 반영
+	 */
+	void removeProduct(Product product);
+
+	/**
+	 * 브랜드명 변경 반영 (동일 가격 시 브랜드명 우선순위)
+	 */
+	void renameBrand(long brandId, String newBrandName);
+
+	void clearAll();
 
 }
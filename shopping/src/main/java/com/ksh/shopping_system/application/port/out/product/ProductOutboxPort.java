@@ -0,0 +1,41 @@
+package com.ksh.shopping_system.application.port.out.product;
+
+import com.ksh.shopping_system.domain.ProductChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 변경 outbox (product_outbox)
+ * append 는 상품을 바꾸는 트랜잭션 안에서 호출해야 변경과 outbox 행이 함께 커밋/롤백됨
+ */
+public interface ProductOutboxPort {
+	void append(List<ProductChange> changes);
+
+	/**
+	 * 아직 캐시에 반영되지 않은 변경, 기록 순서대로 최대 limit 건
+	 */
+	List<ProductOutboxRecord> findPending(int limit);
+
+	long countPending();
+
+	/**
+	 * 미반영 행 ID 전체 (캐시 워밍업이 같은 트랜잭션에서 읽은 상태에 이미 포함된 행)
+	 */
+	List<Long> findPendingIds();
+
+	/**
+	 * 반영 완료 표시 (UPDATE 한 번)
+	 */
+	int markApplied(List<Long> ids);
+
+	/**
+	 * 미반영 행을 모두 반영 완료로 표시 (캐시를 DB 에서 새로 적재하는 경우)
+	 */
+	int markAllApplied();
+
+	/**
+	 * appliedBefore 이전에 반영된 행 삭제
+	 */
+	int deleteAppliedBefore(LocalDateTime appliedBefore);
+}
@@ -0,0 +1,12 @@
+package com.ksh.shopping_system.application.port.out.product;
+
+import com.ksh.shopping_system.domain.ProductChange;
+
+/**
+ * outbox 에 기록된 상품 변경 (id 는 기록 순서)
+ */
+public record ProductOutboxRecord(
+		long id,
+		ProductChange change
+) {
+}
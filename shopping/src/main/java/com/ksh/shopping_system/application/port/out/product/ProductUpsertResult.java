@@ -0,0 +1,14 @@
+package com.ksh.shopping_system.application.port.out.product;
+
+import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductPriceChange;
+
+import java.util.List;
+
+public record ProductUpsertResult(
+		List<Product> created,
+		List<ProductPriceChange> updated,
+		int unchanged,
+		List<String> rejections
+) {
+}
@@ -2,7 +2,14 @@ package com.ksh.shopping_system.application.port.out.product;
 
 import com.ksh.shopping_system.domain.Product;
 
+import java.util.List;
+
 public interface SaveProductPort {
 	Product saveProduct(Product productDomain);
 	Product saveProduct(String brandName, String categoryName, long priceValue);
+
+	/**
+	 * 상품 일괄 저장 (브랜드/카테고리는 이름별로 한 번씩만 조회, INSERT 는 JDBC 배치)
+	 */
+	List<Product> saveProducts(List<Product> products);
 }
@@ -1,17 +1,22 @@
 package com.ksh.shopping_system.application.port.out.product;
 
 import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
-import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryMinPriceProjection;
+import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryPriceSummaryProjection;
 import com.ksh.shopping_system.domain.Product;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface SelectProductPort {
 	List<Product> findAllProducts();
 	List<Product> findByCategoryName(String categoryName);
 	Product findById(Long productId);
-	List<CategoryMinPriceProjection> findCategoryMinPrice();
-	Product findLowestPriceByCategory(String categoryName);
-	Product findHighestPriceByCategory(String categoryName);
+	// 여러 카테고리의 모든 상품을 한 번에 조회 (요청 중 인덱스 적재용, DbFallbackLimiter 로 동시 수 제한)
+	List<Product> findByCategoryNames(Collection<String> categoryNames);
 	List<Product> findByBrandName(String cheapestBrand);
+	// 상품이 있는 브랜드의 총액/상품 수 (브랜드 총액 테이블, products 집계 없음)
 	List<BrandSumProjection> findBrandSum();
+	// 정합성 점검용 keyset 조회 (ID 가 after 보다 큰 구간, 최대 limit 건, 둘 다 products 를 직접 집계)
+	List<CategoryPriceSummaryProjection> findCategoryPriceSummariesAfter(long afterCategoryId, int limit);
+	List<BrandSumProjection> findBrandSumsAfter(long afterBrandId, int limit);
 }
@@ -1,8 +1,21 @@
 package com.ksh.shopping_system.application.port.out.product;
 
 import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductPriceChange;
+
+import java.util.List;
+import java.util.Map;
 
 public interface UpdateProductPort {
 	Product updateProduct(Product productDomain);
-	Product updateProductPrice(Long productId, Long price);
+
+	/**
+	 * 한 번의 조회로 변경 전/후를 함께 반환
+	 */
+	ProductPriceChange updateProductPrice(Long productId, Long price);
+
+	/**
+	 * 상품 ID -> 새 가격, 가격이 바뀐 상품만 반환 (없는 상품이 있으면 전체 실패)
+	 */
+	List<ProductPriceChange> updateProductPrices(Map<Long, Long> newPrices);
 }
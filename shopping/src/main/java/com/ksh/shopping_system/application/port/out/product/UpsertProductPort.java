@@ -0,0 +1,13 @@
+package com.ksh.shopping_system.application.port.out.product;
+
+import com.ksh.shopping_system.domain.CatalogRow;
+
+import java.util.List;
+
+public interface UpsertProductPort {
+	/**
+	 * (브랜드, 카테고리) 기준 upsert
+	 * 같은 브랜드/카테고리 상품이 있으면 가격 변경, 없으면 생성 (없는 브랜드는 생성, 없는 카테고리는 거부)
+	 */
+	ProductUpsertResult upsertProducts(List<CatalogRow> rows);
+}
@@ -1,26 +1,35 @@
 package com.ksh.shopping_system.application.service;
 
+import com.ksh.shopping_system.application.event.BrandUpdatedEvent;
 import com.ksh.shopping_system.application.port.in.brand.CreateBrandUseCase;
 import com.ksh.shopping_system.application.port.in.brand.DeleteBrandUseCase;
+import com.ksh.shopping_system.application.port.in.brand.RebuildBrandTotalsUseCase;
 import com.ksh.shopping_system.application.port.in.brand.UpdateBrandUseCase;
+import com.ksh.shopping_system.application.port.out.brand.BrandPriceTotalPort;
 import com.ksh.shopping_system.application.port.out.brand.DeleteBrandPort;
 import com.ksh.shopping_system.application.port.out.brand.SaveBrandPort;
 import com.ksh.shopping_system.application.port.out.brand.SelectBrandPort;
 import com.ksh.shopping_system.application.port.out.brand.UpdateBrandPort;
+import com.ksh.shopping_system.application.port.out.product.CategoryPriceSummaryPort;
 import com.ksh.shopping_system.domain.Brand;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class BrandService
-		implements CreateBrandUseCase, UpdateBrandUseCase, DeleteBrandUseCase {
+		implements CreateBrandUseCase, UpdateBrandUseCase, DeleteBrandUseCase, RebuildBrandTotalsUseCase {
 
 	private final SelectBrandPort selectBrandPort;
 	private final SaveBrandPort saveBrandPort;
 	private final DeleteBrandPort deleteBrandPort;
 	private final UpdateBrandPort updateBrandPort;
+	private final CategoryPriceSummaryPort categoryPriceSummaryPort;
+	private final BrandPriceTotalPort brandPriceTotalPort;
+
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	@Transactional
@@ -28,20 +37,32 @@ public class BrandService
 		if (selectBrandPort.existsByName(brandName)) {
 			throw new IllegalArgumentException("이미 존재하는 브랜드입니다: " + brandName);
 		}
-		Brand brand = new Brand(brandName);
-		return saveBrandPort.saveBrand(brand);
+		Brand brand = saveBrandPort.saveBrand(new Brand(brandName));
+		brandPriceTotalPort.createBrand(brand.getId());
+		return brand;
 	}
 
 	@Override
 	@Transactional
 	public Brand updateBrand(Long brandId, String newName) {
-		return updateBrandPort.updateBrand(brandId, newName);
+		Brand brand = updateBrandPort.updateBrand(brandId, newName);
+		categoryPriceSummaryPort.refreshBrand(brandId);
+
+		eventPublisher.publishEvent(new BrandUpdatedEvent(this, brand));
+		return brand;
 	}
 
 	@Override
 	@Transactional
 	public void deleteBrand(Long brandId) {
+		brandPriceTotalPort.deleteBrand(brandId);
 		deleteBrandPort.deleteBrand(brandId);
 	}
 
+	@Override
+	@Transactional
+	public int rebuildBrandTotals() {
+		return brandPriceTotalPort.rebuild();
+	}
+
 }
@@ -0,0 +1,184 @@
+package com.ksh.shopping_system.application.service;
+
+import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
+import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryPriceSummaryProjection;
+import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.application.port.out.product.ProductCachePort;
+import com.ksh.shopping_system.application.port.out.product.SelectProductPort;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * 캐시 <-> DB 정합성 점검/복구
+ * - 카테고리/브랜드를 ID keyset 구간(chunk-size)별로 products 에서 직접 집계해 캐시와 비교, 구간마다 짧은 조회 트랜잭션만 사용
+ *   (brand_price_total 은 캐시와 같은 증감으로 만들어지는 파생 값이라 비교 기준으로 쓰지 않음)
+ * - 카테고리 인덱스는 DB 에서 다시 적재하면 되므로(멱등) 어긋나면 바로 교체
+ * - 브랜드 총액은 증감 방식이라 반영 중인 이벤트와 겹치면 이중 반영될 수 있어,
+ *   직전 점검과 DB/캐시 값이 모두 그대로인 채 어긋나 있을 때만 DB 값으로 교체
+ */
+@Slf4j
+@Service
+public class CacheReconciliationService {
+
+	private final SelectProductPort selectProductPort;
+	private final ProductCachePort productCachePort;
+	private final BrandCachePort brandCachePort;
+	private final int chunkSize;
+	private final boolean enabled;
+
+	private final Counter categoryDriftCounter;
+	private final Counter brandDriftCounter;
+	private final Counter brandRepairCounter;
+	private final Timer durationTimer;
+
+	// 직전 점검에서 어긋난 브랜드 (브랜드 ID -> DB/캐시 값), 점검 스레드에서만 접근
+	private Map<Long, BrandDrift> suspectedBrands = new HashMap<>();
+
+	public CacheReconciliationService(SelectProductPort selectProductPort,
+									  ProductCachePort productCachePort,
+									  BrandCachePort brandCachePort,
+									  MeterRegistry meterRegistry,
+									  @Value("${shopping.cache.reconcile.chunk-size:500}") int chunkSize,
+									  @Value("${shopping.cache.reconcile.enabled:true}") boolean enabled) {
+		this.selectProductPort = selectProductPort;
+		this.productCachePort = productCachePort;
+		this.brandCachePort = brandCachePort;
+		this.chunkSize = chunkSize;
+		this.enabled = enabled;
+		this.categoryDriftCounter = Counter.builder("cache.reconcile.drift")
+				.description("DB 와 어긋난 캐시 항목 수")
+				.tag("cache", "category-index")
+				.register(meterRegistry);
+		this.brandDriftCounter = Counter.builder("cache.reconcile.drift")
+				.description("DB 와 어긋난 캐시 항목 수")
+				.tag("cache", "brand-total")
+				.register(meterRegistry);
+		this.brandRepairCounter = Counter.builder("cache.reconcile.repaired")
+				.description("DB 값으로 복구한 브랜드 총액 수")
+				.tag("cache", "brand-total")
+				.register(meterRegistry);
+		this.durationTimer = Timer.builder("cache.reconcile.duration")
+				.description("정합성 점검 1회 소요 시간")
+				.register(meterRegistry);
+	}
+
+	@Scheduled(initialDelayString = "${shopping.cache.reconcile.interval-ms:300000}",
+			fixedDelayString = "${shopping.cache.reconcile.interval-ms:300000}")
+	public void scheduledReconcile() {
+		if (enabled) {
+			reconcile();
+		}
+	}
+
+	/**
+	 * 1회 점검, 카테고리 인덱스 복구 수 + 브랜드 총액 복구 수 반환
+	 */
+	public int reconcile() {
+		return durationTimer.record(() -> {
+			int repairedCategories = reconcileCategories();
+			int repairedBrands = reconcileBrands();
+			log.info("cache reconciliation finished: repairedCategories={}, repairedBrands={}, suspectedBrands={}",
+					repairedCategories, repairedBrands, suspectedBrands.size());
+			return repairedCategories + repairedBrands;
+		});
+	}
+
+	private int reconcileCategories() {
+		int repaired = 0;
+		long afterId = 0;
+		List<CategoryPriceSummaryProjection> chunk;
+		do {
+			chunk = selectProductPort.findCategoryPriceSummariesAfter(afterId, chunkSize);
+			for (CategoryPriceSummaryProjection row : chunk) {
+				afterId = row.getCategoryId();
+				String categoryName = row.getCategoryName();
+				// 기동 후 추가되었거나 워밍업/조회 시 적재에 실패한 카테고리는 여기서 적재
+				if (!productCachePort.isLoaded(categoryName)) {
+					productCachePort.loadCategory(categoryName, () -> selectProductPort.findByCategoryName(categoryName));
+					repaired++;
+					log.info("category price index loaded: {}", categoryName);
+					continue;
+				}
+				if (matches(row)) {
+					continue;
+				}
+				categoryDriftCounter.increment();
+				productCachePort.reloadCategory(categoryName, () -> selectProductPort.findByCategoryName(categoryName));
+				repaired++;
+				log.warn("category price index drift repaired: {}", categoryName);
+			}
+		} while (chunk.size() == chunkSize);
+		return repaired;
+	}
+
+	private boolean matches(CategoryPriceSummaryProjection row) {
+		Category category = new Category(row.getCategoryName());
+		return productCachePort.getProductCount(row.getCategoryName()) == row.getProductCount()
+				&& Objects.equals(priceOf(productCachePort.getMinPrice(category)), row.getMinPrice())
+				&& Objects.equals(priceOf(productCachePort.getMaxPrice(category)), row.getMaxPrice());
+	}
+
+	private Long priceOf(Product product) {
+		return product == null ? null : product.getPriceValue();
+	}
+
+	private int reconcileBrands() {
+		int repaired = 0;
+		Map<Long, BrandDrift> drifts = new HashMap<>();
+		long afterId = 0;
+		List<BrandSumProjection> chunk;
+		do {
+			chunk = selectProductPort.findBrandSumsAfter(afterId, chunkSize);
+			for (BrandSumProjection row : chunk) {
+				afterId = row.getBrandId();
+				BrandDrift drift = driftOf(row);
+				if (drift == null) {
+					continue;
+				}
+				brandDriftCounter.increment();
+				if (drift.equals(suspectedBrands.get(row.getBrandId()))) {
+					brandCachePort.resetBrandTotal(row.getBrandId(), row.getBrandName(),
+							row.getTotalPrice(), row.getProductCount());
+					brandRepairCounter.increment();
+					repaired++;
+					log.warn("brand total drift repaired: brandId={}, {}", row.getBrandId(), drift);
+				} else {
+					drifts.put(row.getBrandId(), drift);
+				}
+			}
+		} while (chunk.size() == chunkSize);
+		suspectedBrands = drifts;
+		return repaired;
+	}
+
+	private BrandDrift driftOf(BrandSumProjection row) {
+		// 원장이 아직 적재되지 않았으면 조회는 DB 로 답하고 relay 가 통째로 재구축하므로 점검하지 않음
+		if (!brandCachePort.isWarmedUp()) {
+			return null;
+		}
+		long cachedCount = brandCachePort.getProductCount(row.getBrandId());
+		OptionalLong cachedTotal = brandCachePort.getBrandTotal(row.getBrandId());
+		long cachedPrice = cachedTotal.orElse(0);
+		if (cachedCount == row.getProductCount() && cachedPrice == row.getTotalPrice()) {
+			return null;
+		}
+		return new BrandDrift(row.getTotalPrice(), row.getProductCount(), cachedPrice, cachedCount);
+	}
+
+	private record BrandDrift(long dbTotal, long dbCount, long cachedTotal, long cachedCount) {
+	}
+
+}
@@ -0,0 +1,203 @@
+package com.ksh.shopping_system.application.service;
+
+import com.ksh.shopping_system.application.event.ProductsCreatedEvent;
+import com.ksh.shopping_system.application.event.ProductsUpdatedEvent;
+import com.ksh.shopping_system.application.port.in.catalog.CatalogImportJob;
+import com.ksh.shopping_system.application.port.in.catalog.CatalogRowReader;
+import com.ksh.shopping_system.application.port.in.catalog.ImportCatalogUseCase;
+import com.ksh.shopping_system.application.port.out.brand.BrandPriceTotalPort;
+import com.ksh.shopping_system.application.port.out.product.CategoryPriceSummaryPort;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxPort;
+import com.ksh.shopping_system.application.port.out.product.ProductUpsertResult;
+import com.ksh.shopping_system.application.port.out.product.UpsertProductPort;
+import com.ksh.shopping_system.common.response.ErrorCode;
+import com.ksh.shopping_system.domain.CatalogRow;
+import com.ksh.shopping_system.domain.ProductChange;
+import com.ksh.shopping_system.exception.BusinessException;
+import com.ksh.shopping_system.exception.DataNotFoundException;
+import com.ksh.shopping_system.exception.InvalidValueException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 공급사 가격표 스트리밍 가져오기
+ * - 리더에서 chunk-size 만큼만 읽고, 청크를 커밋한 뒤에야 다음 행을 읽음 (pull 방식이라 파일이 커도 힙 사용량 일정)
+ * - 청크마다 별도 트랜잭션, 캐시 반영용 outbox 도 같은 트랜잭션에 기록하고 커밋 후 이벤트는 청크당 한 번
+ * - 동시에 실행 중인 다른 가져오기가 같은 신규 브랜드를 먼저 만들면 브랜드명 unique 제약에 걸리므로,
+ *   청크 트랜잭션을 롤백하고 다시 실행해 이미 커밋된 브랜드를 조회해서 사용
+ */
+@Slf4j
+@Service
+public class CatalogImportService implements ImportCatalogUseCase {
+
+	// 조회용으로 보관하는 최근 작업 수
+	private static final int MAX_RETAINED_JOBS = 100;
+	// 청크 트랜잭션 최대 시도 횟수 (신규 브랜드 동시 생성 충돌 시 재시도)
+	private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+	private final UpsertProductPort upsertProductPort;
+	private final CategoryPriceSummaryPort categoryPriceSummaryPort;
+	private final BrandPriceTotalPort brandPriceTotalPort;
+	private final ProductOutboxPort productOutboxPort;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final Executor catalogImportExecutor;
+	private final int chunkSize;
+
+	private final Map<String, CatalogImportJob> jobs = new ConcurrentHashMap<>();
+	private final Queue<String> jobOrder = new ConcurrentLinkedQueue<>();
+
+	public CatalogImportService(UpsertProductPort upsertProductPort,
+								CategoryPriceSummaryPort categoryPriceSummaryPort,
+								BrandPriceTotalPort brandPriceTotalPort,
+								ProductOutboxPort productOutboxPort,
+								ApplicationEventPublisher eventPublisher,
+								TransactionTemplate transactionTemplate,
+								@Qualifier("catalogImportExecutor") Executor catalogImportExecutor,
+								@Value("${shopping.import.chunk-size:1000}") int chunkSize) {
+		this.upsertProductPort = upsertProductPort;
+		this.categoryPriceSummaryPort = categoryPriceSummaryPort;
+		this.brandPriceTotalPort = brandPriceTotalPort;
+		this.productOutboxPort = productOutboxPort;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = transactionTemplate;
+		this.catalogImportExecutor = catalogImportExecutor;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public CatalogImportJob startImport(String sourceName, CatalogRowReader reader) {
+		CatalogImportJob job = new CatalogImportJob(UUID.randomUUID().toString(), sourceName);
+		try {
+			catalogImportExecutor.execute(() -> run(job, reader));
+		} catch (RejectedExecutionException e) {
+			closeQuietly(reader);
+			throw new BusinessException(ErrorCode.IMPORT_REJECTED);
+		}
+		retain(job);
+		return job;
+	}
+
+	@Override
+	public CatalogImportJob getImportJob(String jobId) {
+		CatalogImportJob job = jobs.get(jobId);
+		if (job == null) {
+			throw new DataNotFoundException(ErrorCode.IMPORT_JOB_NOT_FOUND, "import job not found: " + jobId);
+		}
+		return job;
+	}
+
+	private void run(CatalogImportJob job, CatalogRowReader reader) {
+		log.info("catalog import started: jobId={}, source={}", job.getJobId(), job.getSourceName());
+		try (reader) {
+			List<CatalogRow> chunk = new ArrayList<>(chunkSize);
+			CatalogRow row;
+			while ((row = nextRow(job, reader)) != null) {
+				job.rowRead();
+				chunk.add(row);
+				if (chunk.size() == chunkSize) {
+					writeChunk(job, chunk);
+					chunk.clear();
+				}
+			}
+			if (!chunk.isEmpty()) {
+				writeChunk(job, chunk);
+			}
+			job.complete();
+			log.info("catalog import completed: jobId={}, read={}, created={}, updated={}, unchanged={}, rejected={}, elapsed={}ms, {} rows/s",
+					job.getJobId(), job.getRowsRead(), job.getRowsCreated(), job.getRowsUpdated(),
+					job.getRowsUnchanged(), job.getRowsRejected(), job.getElapsedMillis(),
+					String.format("%.1f", job.getRowsPerSecond()));
+		} catch (Exception e) {
+			// 이미 커밋된 청크는 유지, 실패 지점부터 다시 가져오면 upsert 라 중복 생성되지 않음
+			job.fail(e.getMessage());
+			log.error("catalog import failed: jobId={}, chunksCommitted={}", job.getJobId(), job.getChunksCommitted(), e);
+		}
+	}
+
+	/**
+	 * 형식이 잘못된 행은 거부 사유만 남기고 건너뜀
+	 */
+	private CatalogRow nextRow(CatalogImportJob job, CatalogRowReader reader) throws IOException {
+		while (true) {
+			try {
+				return reader.next();
+			} catch (InvalidValueException e) {
+				job.reject(e.getMessage());
+			}
+		}
+	}
+
+	private void writeChunk(CatalogImportJob job, List<CatalogRow> chunk) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				ProductUpsertResult result = writeChunkInTransaction(chunk);
+				job.chunkCommitted(result.created().size(), result.updated().size(), result.unchanged(), result.rejections());
+				log.debug("catalog import chunk committed: jobId={}, chunk={}, read={}",
+						job.getJobId(), job.getChunksCommitted(), job.getRowsRead());
+				return;
+			} catch (DataIntegrityViolationException e) {
+				if (attempt == MAX_CHUNK_ATTEMPTS) {
+					throw e;
+				}
+				log.info("catalog import chunk conflicted with a concurrent write, retrying: jobId={}, attempt={}",
+						job.getJobId(), attempt);
+			}
+		}
+	}
+
+	private ProductUpsertResult writeChunkInTransaction(List<CatalogRow> chunk) {
+		return transactionTemplate.execute(status -> {
+			ProductUpsertResult upserted = upsertProductPort.upsertProducts(chunk);
+			List<ProductChange> changes = new ArrayList<>();
+			upserted.created().forEach(product -> changes.add(ProductChange.created(product)));
+			upserted.updated().forEach(change -> changes.add(ProductChange.updated(change.oldProduct(), change.newProduct())));
+			categoryPriceSummaryPort.apply(changes);
+			brandPriceTotalPort.apply(changes);
+			productOutboxPort.append(changes);
+			if (!upserted.created().isEmpty()) {
+				eventPublisher.publishEvent(new ProductsCreatedEvent(this, upserted.created()));
+			}
+			if (!upserted.updated().isEmpty()) {
+				eventPublisher.publishEvent(new ProductsUpdatedEvent(this, upserted.updated()));
+			}
+			return upserted;
+		});
+	}
+
+	private void retain(CatalogImportJob job) {
+		jobs.put(job.getJobId(), job);
+		jobOrder.add(job.getJobId());
+		while (jobOrder.size() > MAX_RETAINED_JOBS) {
+			String oldest = jobOrder.poll();
+			if (oldest != null) {
+				jobs.remove(oldest);
+			}
+		}
+	}
+
+	private void closeQuietly(CatalogRowReader reader) {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			log.warn("failed to close catalog reader", e);
+		}
+	}
+
+}
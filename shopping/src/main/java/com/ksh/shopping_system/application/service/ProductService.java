@@ -1,19 +1,25 @@
 package com.ksh.shopping_system.application.service;
 
-import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
 import com.ksh.shopping_system.application.event.ProductCreatedEvent;
 import com.ksh.shopping_system.application.event.ProductDeletedEvent;
 import com.ksh.shopping_system.application.event.ProductUpdatedEvent;
+import com.ksh.shopping_system.application.event.ProductsCreatedEvent;
+import com.ksh.shopping_system.application.event.ProductsUpdatedEvent;
 import com.ksh.shopping_system.application.port.in.product.*;
 import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.application.port.out.brand.BrandPriceTotalPort;
 import com.ksh.shopping_system.application.port.out.category.SelectCategoryPort;
 import com.ksh.shopping_system.application.port.out.product.*;
 import com.ksh.shopping_system.common.response.ErrorCode;
 import com.ksh.shopping_system.common.type.Price;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.BrandTotalPrice;
 import com.ksh.shopping_system.domain.Category;
 import com.ksh.shopping_system.domain.CategoryExtremesResult;
 import com.ksh.shopping_system.domain.CheapestBrandResult;
 import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductChange;
+import com.ksh.shopping_system.domain.ProductPriceChange;
 import com.ksh.shopping_system.exception.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -21,6 +27,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -38,7 +45,11 @@ public class ProductService implements
 	private final SaveProductPort saveProductPort;
 	private final UpdateProductPort updateProductPort;
 	private final DeleteProductPort deleteProductPort;
+	private final CategoryPriceSummaryPort categoryPriceSummaryPort;
+	private final BrandPriceTotalPort brandPriceTotalPort;
+	private final ProductOutboxPort productOutboxPort;
 	private final ProductCachePort productCachePort;
+	private final BrandProductsCachePort brandProductsCachePort;
 
 	private final BrandCachePort brandCachePort;
 
@@ -50,20 +61,67 @@ public class ProductService implements
 	@Transactional
 	public Product createProduct(String brandName, String categoryName, long priceValue) {
 		Product product = saveProductPort.saveProduct(brandName, categoryName, priceValue);
+		applyToReadTables(List.of(ProductChange.created(product)));
 
 		eventPublisher.publishEvent(new ProductCreatedEvent(this, product));
 
 		return product;
 	}
 
+	@Override
+	@Transactional
+	public List<Product> createProducts(List<CreateProductCommand> commands) {
+		if (commands == null || commands.isEmpty()) {
+			throw new IllegalArgumentException("생성할 상품이 없습니다.");
+		}
+		// 도메인 생성자로 이름/가격 검증
+		List<Product> products = commands.stream()
+				.map(command -> new Product(
+						new Brand(command.brandName()),
+						new Category(command.categoryName()),
+						command.priceValue()))
+				.toList();
+
+		List<Product> savedProducts = saveProductPort.saveProducts(products);
+		applyToReadTables(savedProducts.stream().map(ProductChange::created).toList());
+
+		// 상품별 이벤트 대신 한 번의 이벤트로 캐시 갱신
+		eventPublisher.publishEvent(new ProductsCreatedEvent(this, savedProducts));
+		return savedProducts;
+	}
+
 	@Override
 	@Transactional
 	public Product updateProduct(Long productId, long newPriceValue) {
-		Product oldProduct = selectProductPort.findById(productId);
-		Product product = updateProductPort.updateProductPrice(productId, newPriceValue);
+		ProductPriceChange change = updateProductPort.updateProductPrice(productId, newPriceValue);
+		applyToReadTables(List.of(ProductChange.updated(change.oldProduct(), change.newProduct())));
 
-		eventPublisher.publishEvent(new ProductUpdatedEvent(this, oldProduct, product));
-		return product;
+		eventPublisher.publishEvent(new ProductUpdatedEvent(this, change.oldProduct(), change.newProduct()));
+		return change.newProduct();
+	}
+
+	@Override
+	@Transactional
+	public List<ProductPriceChange> updateProductPrices(List<UpdateProductPriceCommand> commands) {
+		if (commands == null || commands.isEmpty()) {
+			throw new IllegalArgumentException("수정할 상품이 없습니다.");
+		}
+		// 같은 상품이 여러 번 오면 마지막 가격 기준, Price 로 가격 검증
+		Map<Long, Long> newPrices = new LinkedHashMap<>();
+		for (UpdateProductPriceCommand command : commands) {
+			newPrices.put(command.productId(), new Price(command.newPriceValue()).getPrice());
+		}
+
+		List<ProductPriceChange> changes = updateProductPort.updateProductPrices(newPrices);
+		applyToReadTables(changes.stream()
+				.map(change -> ProductChange.updated(change.oldProduct(), change.newProduct()))
+				.toList());
+
+		// 상품별 이벤트 대신 한 번의 이벤트로 카테고리/브랜드별 한 번씩 캐시 갱신
+		if (!changes.isEmpty()) {
+			eventPublisher.publishEvent(new ProductsUpdatedEvent(this, changes));
+		}
+		return changes;
 	}
 
 	@Override
@@ -72,72 +130,74 @@ public class ProductService implements
 		Product product = selectProductPort.findById(productId);
 
 		deleteProductPort.deleteProduct(productId);
+		applyToReadTables(List.of(ProductChange.deleted(product)));
 
 		eventPublisher.publishEvent(new ProductDeletedEvent(this, product));
 	}
 
+	/**
+	 * 조회용 테이블(카테고리 가격 요약, 브랜드 총액)과 캐시 반영용 outbox 를 상품 쓰기와 같은 트랜잭션에서 갱신
+	 */
+	private void applyToReadTables(List<ProductChange> changes) {
+		categoryPriceSummaryPort.apply(changes);
+		brandPriceTotalPort.apply(changes);
+		productOutboxPort.append(changes);
+	}
+
+	/**
+	 * 캐시 우선 조회 3종(카테고리 최저가, 최저가 브랜드, 카테고리 최저/최고가)은 트랜잭션 없이 실행
+	 * 캐시 hit 이면 커넥션을 빌리지 않고, DB fallback 조회만 repository 의 읽기 전용 트랜잭션으로 잠깐 사용 (DbFallbackLimiter 로 동시 수 제한)
+	 */
 	@Override
-	@Transactional(readOnly = true)
 	public List<Product> getMinPriceByCategory() {
 		// 카테고리 목록
 		List<Category> categories = selectCategoryPort.findAllCategoryNames();
 
-		// 각 카테고리에 대해 캐시 조회
-		List<Product> result = new ArrayList<>();
+		// 인덱스가 없는 카테고리만 모아 한 번의 쿼리로 적재한 뒤 모두 캐시에서 조회
+		List<String> coldCategoryNames = categories.stream()
+				.map(Category::getName)
+				.filter(categoryName -> !productCachePort.isLoaded(categoryName))
+				.toList();
+		if (!coldCategoryNames.isEmpty()) {
+			productCachePort.loadCategories(coldCategoryNames, selectProductPort::findByCategoryNames);
+		}
+		Map<String, Product> minProducts = new LinkedHashMap<>();
 		for (Category category : categories) {
-			String categoryName = category.getName();
-			Product minPriceProduct = productCachePort.getMinPrice(category);
-			if (minPriceProduct != null) {
-				result.add(minPriceProduct);
-			} else {
-				// 캐시에 없으면 DB조회(MIN 찾기) 후 put
-				Product minProduct = selectProductPort.findLowestPriceByCategory(categoryName);
-				result.add(minProduct);
-				// put cache
-				productCachePort.putMinPrice(categoryName, minProduct);
+			minProducts.put(category.getName(), productCachePort.getMinPrice(category));
+		}
+
+		List<Product> result = new ArrayList<>();
+		for (Map.Entry<String, Product> entry : minProducts.entrySet()) {
+			if (entry.getValue() == null) {
+				throw new DataNotFoundException(
+						ErrorCode.PRODUCT_NOT_FOUND,
+						"category not found or no products: " + entry.getKey()
+				);
 			}
+			result.add(entry.getValue());
 		}
 		return result;
 	}
 
-	@Transactional(readOnly = true)
 	public CheapestBrandResult getMinBrandCombination() {
-		// 캐시에서 모든 (brand, totalPrice) 조회
-		Map<String, Long> brandMap = brandCachePort.asMap();
-
-		if (brandMap.isEmpty()) {
-			List<BrandSumProjection> sums = selectProductPort.findBrandSum();
-
-			// 캐시에 put
-			for (BrandSumProjection row : sums) {
-				brandCachePort.putBrandTotal(row.getBrandName(), row.getTotalPrice());
-			}
-			// 다시 가져오기
-			brandMap = brandCachePort.asMap();
+		// 총액 최저 -> 동일 총액이면 알파벳 순 앞 브랜드
+		// 원장은 기동 시 적재된 뒤 이벤트로만 갱신됨 (이벤트마다 갱신되는 순위의 첫 원소),
+		// 아직 적재되지 않았으면(워밍업 실패 등, relay 가 brand_price_total 로 재구축할 때까지)
+		// 브랜드 총액 테이블의 총액 인덱스로 한 행만 조회 (products 전체 집계는 재구축 명령에서만)
+		BrandTotalPrice cheapest = brandCachePort.isWarmedUp()
+				? brandCachePort.getCheapestBrand()
+				: brandPriceTotalPort.findCheapestBrand();
+		if (cheapest == null) {
+			throw new IllegalStateException("No brands found");
 		}
 
-		// minTotal 찾기
-		long minTotal = brandMap.values().stream()
-				.min(Long::compare)
-				.orElseThrow(() -> new IllegalStateException("No brands found"));
-
-		// minTotal을 가진 브랜드들 추출 -> 알파벳 순 정렬 -> 첫 번째
-		List<String> tiedBrands = brandMap.entrySet().stream()
-				.filter(e -> e.getValue() == minTotal)
-				.map(Map.Entry::getKey)
-				.sorted() // 알파벳 순
-				.toList();
-
-		// 알파벳 순으로 첫 브랜드
-		String cheapestBrand = tiedBrands.get(0);
-
-		// 해당 브랜드 상품 목록 DB 조회
-		List<Product> products = selectProductPort.findByBrandName(cheapestBrand);
+		// 해당 브랜드 상품 목록 (캐시에 없을 때만 DB 조회)
+		List<Product> products = brandProductsCachePort.getBrandProducts(cheapest.brandName());
 
 		// 결과 객체 구성
 		return new CheapestBrandResult(
-				cheapestBrand,
-				new Price(minTotal), // Price VO
+				cheapest.brandName(),
+				new Price(cheapest.totalPrice()), // Price VO
 				products
 		);
 	}
@@ -146,31 +206,17 @@ public class ProductService implements
 	public CategoryExtremesResult getCategoryExtremes(String categoryName) {
 		Category category = selectCategoryPort.findByName(categoryName);
 
+		if (!productCachePort.isLoaded(categoryName)) {
+			// 인덱스가 없으면 적재 후 인덱스에서 응답, 동시에 들어온 cold 요청은 진행 중인 적재를 기다려 DB 조회는 한 번
+			productCachePort.loadCategories(List.of(categoryName), selectProductPort::findByCategoryNames);
+		}
 		Product maxPriceProduct = productCachePort.getMaxPrice(category);
 		Product minPriceProduct = productCachePort.getMinPrice(category);
-
-		// 캐시 값이 없다면 DB fallback
-		if (maxPriceProduct == null || minPriceProduct == null) {
-			// DB에서 최저/최고가 조회
-			Product dbMinProduct = selectProductPort.findLowestPriceByCategory(categoryName);
-			Product dbMaxProduct = selectProductPort.findHighestPriceByCategory(categoryName);
-			if (dbMinProduct == null || dbMaxProduct == null) {
-				// DB에서도 상품이 없으면 -> 카테고리에 상품이 없는 상황
-				throw new DataNotFoundException(
-		     				ErrorCode.PRODUCT_NOT_FOUND,
-						"No products found for category: " + categoryName
-				);
-			}
-
-			// 캐시에 put
-			productCachePort.putMinPrice(categoryName, dbMinProduct);
-			productCachePort.putMaxPrice(categoryName, dbMaxProduct);
-
-			// 결과 객체 반환
-			return new CategoryExtremesResult(
-					categoryName,
-					dbMinProduct.getBrand().getName(), dbMinProduct.getPriceValue(),
-					dbMaxProduct.getBrand().getName(), dbMaxProduct.getPriceValue()
+		if (minPriceProduct == null || maxPriceProduct == null) {
+			// 적재된 인덱스가 비어 있음 (카테고리에 상품이 없는 상황)
+			throw new DataNotFoundException(
+					ErrorCode.PRODUCT_NOT_FOUND,
+					"No products found for category: " + categoryName
 			);
 		}
 
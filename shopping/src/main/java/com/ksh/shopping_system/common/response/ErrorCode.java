@@ -19,6 +19,13 @@ public enum ErrorCode {
 	BRAND_CACHE_NOT_FOUND("4004", "브랜드 캐시에 해당 브랜드가 없습니다."),
 	CATEGORY_EXTREMES_CACHE_MISSING("4005", "카테고리 최저가/최고가 정보를 캐시에서 찾을 수 없습니다."),
 
+	// 가격표 가져오기 관련 에러코드
+	INVALID_CATALOG_ROW("4006", "가격표 행 형식이 올바르지 않습니다."),
+	IMPORT_JOB_NOT_FOUND("4007", "해당 가져오기 작업이 존재하지 않습니다."),
+	IMPORT_REJECTED("4008", "가져오기 작업이 너무 많아 요청을 처리할 수 없습니다."),
+	DB_FALLBACK_BUSY("4009", "DB 조회 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+	IMPORT_FILE_TOO_LARGE("4010", "업로드 가능한 가격표 크기를 넘었습니다. 서버 파일 가져오기를 사용해 주세요."),
+
 	// 기타오류, 추후 필요하다면 ErrorCode 분리
 	DATA_NOT_FOUND("9999", "entity not found"),
 	DEFAULT_ERROR("9999", "default error");
@@ -1,27 +1,185 @@
 package com.ksh.shopping_system.config;
 
-
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 작업 스레드 풀
+ * 이벤트 처리 풀(product-cache, brand-event)은 이벤트 종류별로 크기/큐/포화 시 처리 방식(SaturationPolicy)을 설정하고
+ * event.executor.* 지표(큐 길이, 실행 중 스레드, 포화/거절 횟수, 대기/실행 시간)를 executor 태그로 노출
+ * spring.threads.virtual.enabled=true 이면 모든 풀이 가상 스레드로 작업을 실행 (Tomcat 요청 처리, @Scheduled 는 Spring Boot 가 전환)
+ * 가상 스레드여도 풀 크기/큐/포화 처리는 그대로 두어 동시 실행 수 제한과 backpressure 를 유지
+ */
 @EnableAsync
 @Configuration
 public class AsyncConfig {
 
+	private final boolean virtualThreads;
+
+	public AsyncConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
+	/**
+	 * 상품 캐시 반영 (ProductOutboxRelay -> PoolProductCacheDispatcher)
+	 * 제출하는 쪽이 relay 스레드 하나라 block 이면 relay 가 기다리고, 거절돼도 outbox 행이 남아 다음 poll 에서 다시 반영
+	 * 메모리 안 캐시 갱신이라 CPU 코어 수(pool-size = 0) 이상의 스레드는 요청 스레드와 CPU 만 다툼
+	 */
 	@Bean(name = "productTaskExecutor")
-	public ThreadPoolTaskExecutor notificationTaskExecutor() {
+	public ThreadPoolTaskExecutor productTaskExecutor(
+			MeterRegistry meterRegistry,
+			@Value("${shopping.executor.product-cache.pool-size:0}") int poolSize,
+			@Value("${shopping.executor.product-cache.queue-capacity:1000}") int queueCapacity,
+			@Value("${shopping.executor.product-cache.saturation-policy:block}") String saturationPolicy,
+			@Value("${shopping.executor.product-cache.block-timeout:5s}") Duration blockTimeout) {
+		return eventExecutor("product-cache", poolSize, queueCapacity,
+				SaturationPolicy.of(saturationPolicy), blockTimeout, virtualThreads, meterRegistry);
+	}
+
+	/**
+	 * 브랜드 변경 이벤트 (BrandEventListener, 커밋 직후 요청 스레드에서 제출)
+	 * 거절되면 되살릴 곳이 없으므로 caller-runs 로 요청 스레드에서 처리, 스레드 하나라 브랜드명 변경 순서가 유지됨
+	 */
+	@Bean(name = "brandEventExecutor")
+	public ThreadPoolTaskExecutor brandEventExecutor(
+			MeterRegistry meterRegistry,
+			@Value("${shopping.executor.brand-event.pool-size:1}") int poolSize,
+			@Value("${shopping.executor.brand-event.queue-capacity:100}") int queueCapacity,
+			@Value("${shopping.executor.brand-event.saturation-policy:caller-runs}") String saturationPolicy,
+			@Value("${shopping.executor.brand-event.block-timeout:5s}") Duration blockTimeout) {
+		return eventExecutor("brand-event", poolSize, queueCapacity,
+				SaturationPolicy.of(saturationPolicy), blockTimeout, virtualThreads, meterRegistry);
+	}
+
+	/**
+	 * 고정 크기(pool-size = 0 이면 코어 수) + 제한 큐 + 포화 시 policy, 지표 등록까지 한 풀
+	 */
+	static ThreadPoolTaskExecutor eventExecutor(String name, int poolSize, int queueCapacity,
+												SaturationPolicy policy, Duration blockTimeout,
+												boolean virtualThreads, MeterRegistry meterRegistry) {
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		Timer waitTimer = Timer.builder("event.executor.wait")
+				.description("제출부터 실행 시작까지 대기 시간")
+				.tag("executor", name)
+				.register(meterRegistry);
+		Timer durationTimer = Timer.builder("event.executor.duration")
+				.description("작업 실행 시간")
+				.tag("executor", name)
+				.register(meterRegistry);
+		Counter saturatedCounter = Counter.builder("event.executor.saturated")
+				.description("큐가 가득 차 saturation policy 가 적용된 횟수")
+				.tags("executor", name, "policy", policy.tagValue())
+				.register(meterRegistry);
+		Counter rejectedCounter = Counter.builder("event.executor.rejected")
+				.description("실행되지 못하고 거절된 작업 수")
+				.tags("executor", name, "policy", policy.tagValue())
+				.register(meterRegistry);
+		RejectedExecutionHandler policyHandler = policy.handler(blockTimeout);
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		applyThreads(executor, name + "-", virtualThreads);
+		executor.setTaskDecorator(task -> {
+			long submittedAt = System.nanoTime();
+			return () -> {
+				long startedAt = System.nanoTime();
+				waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+				try {
+					task.run();
+				} finally {
+					durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+				}
+			};
+		});
+		executor.setRejectedExecutionHandler((task, pool) -> {
+			saturatedCounter.increment();
+			try {
+				policyHandler.rejectedExecution(task, pool);
+			} catch (RejectedExecutionException e) {
+				rejectedCounter.increment();
+				throw e;
+			}
+		});
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+
+		Gauge.builder("event.executor.queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+				.description("큐에서 대기 중인 작업 수")
+				.tag("executor", name)
+				.register(meterRegistry);
+		Gauge.builder("event.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+				.description("작업을 실행 중인 스레드 수")
+				.tag("executor", name)
+				.register(meterRegistry);
+		return executor;
+	}
+
+	/**
+	 * 가격표 가져오기 전용, 대용량 작업이 캐시 이벤트 풀을 점유하지 않도록 분리
+	 */
+	@Bean(name = "catalogImportExecutor")
+	public ThreadPoolTaskExecutor catalogImportExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		executor.setCorePoolSize(100);
-		executor.setMaxPoolSize(200);
-		executor.setQueueCapacity(500);
-		executor.setKeepAliveSeconds(60);
-		executor.setThreadNamePrefix("product-async-");
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(10);
+		applyThreads(executor, "catalog-import-", virtualThreads);
 		executor.setWaitForTasksToCompleteOnShutdown(true);
 		executor.setAwaitTerminationSeconds(30);
 		executor.initialize();
 		return executor;
 	}
 
+	/**
+	 * 응답 스냅샷 백그라운드 렌더링 전용 (stale-while-revalidate)
+	 * 키별로 한 번만 렌더링하므로 키 수(카테고리 + 2) 이상의 스레드는 필요 없음
+	 */
+	@Bean(name = "snapshotRefreshExecutor")
+	public ThreadPoolTaskExecutor snapshotRefreshExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(100);
+		applyThreads(executor, "snapshot-refresh-", virtualThreads);
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 브랜드 상품 목록 캐시 적재 (BrandProductsCacheAdapter)
+	 * 키별 single-flight 라 동시 적재 수는 브랜드 키 수 이하, DB 동시 조회는 DbFallbackLimiter 가 제한
+	 */
+	@Bean(name = "cacheLoadExecutor")
+	public SimpleAsyncTaskExecutor cacheLoadExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("cache-load-");
+		executor.setVirtualThreads(virtualThreads);
+		return executor;
+	}
+
+	/**
+	 * 가상 스레드 모드면 작업마다 새 가상 스레드(이름 prefix + 번호), 아니면 prefix 만 지정한 플랫폼 스레드
+	 */
+	private static void applyThreads(ThreadPoolTaskExecutor executor, String threadNamePrefix, boolean virtualThreads) {
+		executor.setThreadNamePrefix(threadNamePrefix);
+		if (virtualThreads) {
+			executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+		}
+	}
+
 }
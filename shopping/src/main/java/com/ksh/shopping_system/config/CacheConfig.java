@@ -1,46 +1,32 @@
 package com.ksh.shopping_system.config;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.ksh.shopping_system.adapter.out.cache.dto.MaxPriceCacheValue;
-import com.ksh.shopping_system.adapter.out.cache.dto.MinPriceCacheValue;
+import com.ksh.shopping_system.adapter.out.cache.BrandTotalLedger;
+import com.ksh.shopping_system.adapter.out.cache.CheapestBrandTracker;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
-
+/**
+ * 카테고리별 최저가/최고가는 ProductCacheAdapter 의 카테고리 가격 인덱스가 담당
+ */
 @Configuration
 public class CacheConfig {
 
 	/**
-	 *   MinPriceCacheValue = {categoryName, brandName, price}
+	 * 브랜드 ID -> 총액 원장
+	 * 모든 브랜드를 보관해야 최저가 브랜드 계산이 정확하므로 크기 제한/만료 없음
 	 */
 	@Bean
-	public Cache<String, MinPriceCacheValue> minPriceByCategoryCache() {
-		return Caffeine.newBuilder()
-				.expireAfterWrite(10, TimeUnit.MINUTES)
-				// 브랜드 개수 최대 100_000
-				.maximumSize(100_000)
-				.build();
+	public BrandTotalLedger brandTotalLedger() {
+		return new BrandTotalLedger();
 	}
 
 	/**
-	 *   MaxPriceCacheValue = {categoryName, brandName, price}
+	 * (총액, 브랜드명) 순 브랜드 순위, 최저가 브랜드 조회 시 전체 순회/정렬 없이 첫 원소를 사용
+	 * 브랜드별 현재 순위 원소는 원장의 청크 배열에 함께 보관
 	 */
 	@Bean
-	public Cache<String, MaxPriceCacheValue> maxPriceByCategoryCache() {
-		return Caffeine.newBuilder()
-				.expireAfterWrite(10, TimeUnit.MINUTES)
-				.maximumSize(100_000)
-				.build();
-	}
-
-	@Bean
-	public Cache<String, Long> brandTotalPriceCache() {
-		return Caffeine.newBuilder()
-				.expireAfterWrite(10, TimeUnit.MINUTES)
-				.maximumSize(50_000)
-				.build();
+	public CheapestBrandTracker cheapestBrandTracker(BrandTotalLedger brandTotalLedger) {
+		return new CheapestBrandTracker(brandTotalLedger);
 	}
 
 }
@@ -0,0 +1,150 @@
+package com.ksh.shopping_system.config;
+
+import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
+import com.ksh.shopping_system.application.event.CacheWarmUpCompletedEvent;
+import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.application.port.out.category.SelectCategoryPort;
+import com.ksh.shopping_system.application.port.out.product.ProductCachePort;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxPort;
+import com.ksh.shopping_system.application.port.out.product.SelectProductPort;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 시 캐시 워밍업
+ * - 미반영 outbox 행 ID, 전체 상품, 브랜드 총액(brand_price_total), 카테고리 목록을 REPEATABLE_READ 읽기 전용 트랜잭션 하나에서 조회
+ * - 카테고리 가격 인덱스: 조회한 상품을 카테고리별로 적재
+ * - 브랜드 총액 원장: 조회한 총액으로 재구성 (상품 테이블 집계 없음)
+ * 끝나면 CacheWarmUpCompletedEvent 로 스냅샷에 이미 포함된 outbox 행을 넘기고, ProductOutboxRelay 는 그 행만 반영 완료로 표시한 뒤 poll 시작
+ * (스냅샷 이후 커밋된 변경만 relay 가 반영하므로 브랜드 총액이 두 번 더해지지 않음)
+ * DataInitializer(CommandLineRunner) 이후 ApplicationReadyEvent 에서 동기로 실행되므로
+ * 끝나기 전에는 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌지 않음 (/actuator/health/readiness)
+ */
+@Slf4j
+@Component
+public class CacheWarmUpInitializer {
+
+	private final SelectProductPort selectProductPort;
+	private final SelectCategoryPort selectCategoryPort;
+	private final ProductCachePort productCachePort;
+	private final BrandCachePort brandCachePort;
+	private final ProductOutboxPort productOutboxPort;
+	private final TransactionTemplate snapshotTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+
+	public CacheWarmUpInitializer(SelectProductPort selectProductPort,
+								  SelectCategoryPort selectCategoryPort,
+								  ProductCachePort productCachePort,
+								  BrandCachePort brandCachePort,
+								  ProductOutboxPort productOutboxPort,
+								  PlatformTransactionManager transactionManager,
+								  ApplicationEventPublisher eventPublisher,
+								  MeterRegistry meterRegistry,
+								  @Value("${shopping.cache.warm-up.enabled:true}") boolean enabled) {
+		this.selectProductPort = selectProductPort;
+		this.selectCategoryPort = selectCategoryPort;
+		this.productCachePort = productCachePort;
+		this.brandCachePort = brandCachePort;
+		this.productOutboxPort = productOutboxPort;
+		this.snapshotTemplate = new TransactionTemplate(transactionManager);
+		this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+		this.snapshotTemplate.setReadOnly(true);
+		this.eventPublisher = eventPublisher;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		List<Long> appliedOutboxIds = enabled ? warmUpSafely() : null;
+		eventPublisher.publishEvent(new CacheWarmUpCompletedEvent(this, appliedOutboxIds));
+	}
+
+	/**
+	 * 스냅샷에 포함된 미반영 outbox 행 ID, 실패하면 null
+	 */
+	private List<Long> warmUpSafely() {
+		long start = System.nanoTime();
+		try {
+			Snapshot snapshot = readSnapshot();
+			timed("category-index", () -> warmUpCategoryIndexes(snapshot));
+			timed("brand-total", () -> warmUpBrandTotals(snapshot));
+			long elapsedNanos = System.nanoTime() - start;
+			record("total", elapsedNanos);
+			log.info("cache warm-up completed in {} ms, {} pending outbox rows already included",
+					TimeUnit.NANOSECONDS.toMillis(elapsedNanos), snapshot.pendingOutboxIds().size());
+			return snapshot.pendingOutboxIds();
+		} catch (RuntimeException e) {
+			// 워밍업이 실패해도 카테고리 인덱스는 조회 시(ProductService) 카테고리별로 적재하고,
+			// 브랜드 원장은 적재 전 증감을 버리다가 relay 가 brand_price_total 로 재구축하므로 기동은 계속
+			log.warn("cache warm-up failed, caches will be loaded on demand", e);
+			return null;
+		}
+	}
+
+	private Snapshot readSnapshot() {
+		long start = System.nanoTime();
+		Snapshot snapshot = snapshotTemplate.execute(status -> new Snapshot(
+				productOutboxPort.findPendingIds(),
+				selectProductPort.findAllProducts(),
+				selectProductPort.findBrandSum(),
+				selectCategoryPort.findAllCategoryNames()));
+		record("snapshot", System.nanoTime() - start);
+		return snapshot;
+	}
+
+	private void warmUpCategoryIndexes(Snapshot snapshot) {
+		Map<String, List<Product>> productsByCategory = snapshot.products().stream()
+				.collect(Collectors.groupingBy(p -> p.getCategory().getName()));
+		// 상품이 없는 카테고리도 빈 인덱스로 적재해 조회 시 DB 로 내려가지 않도록 함
+		for (Category category : snapshot.categories()) {
+			List<Product> products = productsByCategory.getOrDefault(category.getName(), List.of());
+			productCachePort.loadCategory(category.getName(), () -> products);
+		}
+		log.info("category price indexes warmed up: {} categories", snapshot.categories().size());
+	}
+
+	private void warmUpBrandTotals(Snapshot snapshot) {
+		brandCachePort.rebuild(snapshot.brandSums());
+		log.info("brand total ledger warmed up");
+	}
+
+	private void timed(String phase, Runnable task) {
+		long start = System.nanoTime();
+		task.run();
+		record(phase, System.nanoTime() - start);
+	}
+
+	private void record(String phase, long elapsedNanos) {
+		Timer.builder("cache.warmup")
+				.description("기동 시 캐시 워밍업 소요 시간")
+				.tag("phase", phase)
+				.register(meterRegistry)
+				.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private record Snapshot(List<Long> pendingOutboxIds,
+							List<Product> products,
+							List<BrandSumProjection> brandSums,
+							List<Category> categories) {
+	}
+
+}
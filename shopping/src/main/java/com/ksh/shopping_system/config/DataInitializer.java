@@ -11,6 +11,8 @@ import com.ksh.shopping_system.adapter.out.persistence.entity.ProductEntity;
 import com.ksh.shopping_system.adapter.out.persistence.repository.BrandRepository;
 import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
 import com.ksh.shopping_system.adapter.out.persistence.repository.ProductRepository;
+import com.ksh.shopping_system.application.port.out.brand.BrandPriceTotalPort;
+import com.ksh.shopping_system.application.port.out.product.CategoryPriceSummaryPort;
 
 import jakarta.transaction.Transactional;
 import java.util.HashMap;
@@ -29,6 +31,12 @@ public class DataInitializer implements CommandLineRunner {
 	@Autowired
 	private ProductRepository productRepository;
 
+	@Autowired
+	private CategoryPriceSummaryPort categoryPriceSummaryPort;
+
+	@Autowired
+	private BrandPriceTotalPort brandPriceTotalPort;
+
 	@Override
 	@Transactional
 	public void run(String... args) throws Exception {
@@ -77,6 +85,9 @@ public class DataInitializer implements CommandLineRunner {
 				productRepository.save(product);
 			}
 		}
+		// 리포지토리로 직접 넣은 상품이므로 카테고리 가격 요약/브랜드 총액을 한 번에 계산
+		categoryPriceSummaryPort.rebuildAll();
+		brandPriceTotalPort.rebuild();
 
 		System.out.println("Data initialization completed: " +
 				brandNames.length + " brands, " +
@@ -0,0 +1,60 @@
+package com.ksh.shopping_system.config;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 처리 스레드 풀의 큐가 가득 찼을 때의 처리 방식
+ * - abort      : 바로 RejectedExecutionException (호출 측이 직접 재시도/보관해야 함)
+ * - caller-runs: 제출한 스레드에서 실행 (쓰기 요청 스레드가 느려지는 방식으로 backpressure)
+ * - block      : 큐에 자리가 날 때까지 block-timeout 만큼 제출 스레드가 대기, 넘으면 거절
+ * 풀이 종료 중이면 모든 방식이 거절
+ */
+public enum SaturationPolicy {
+
+	ABORT,
+	CALLER_RUNS,
+	BLOCK;
+
+	public static SaturationPolicy of(String value) {
+		return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+	}
+
+	public String tagValue() {
+		return name().toLowerCase(Locale.ROOT).replace('_', '-');
+	}
+
+	public RejectedExecutionHandler handler(Duration blockTimeout) {
+		return switch (this) {
+			case ABORT -> (task, executor) -> {
+				throw new RejectedExecutionException("executor queue is full");
+			};
+			case CALLER_RUNS -> (task, executor) -> {
+				rejectIfShutdown(executor);
+				task.run();
+			};
+			case BLOCK -> (task, executor) -> {
+				rejectIfShutdown(executor);
+				try {
+					if (!executor.getQueue().offer(task, blockTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+						throw new RejectedExecutionException("executor queue is still full after " + blockTimeout);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RejectedExecutionException("interrupted while waiting for executor capacity", e);
+				}
+			};
+		};
+	}
+
+	private static void rejectIfShutdown(ThreadPoolExecutor executor) {
+		if (executor.isShutdown()) {
+			throw new RejectedExecutionException("executor is shut down");
+		}
+	}
+
+}
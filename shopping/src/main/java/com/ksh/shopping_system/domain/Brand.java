@@ -2,14 +2,24 @@ package com.ksh.shopping_system.domain;
 
 import lombok.Getter;
 
+/**
+ * 브랜드 (불변)
+ */
 @Getter
-public class Brand {
+public final class Brand {
+	// 저장 전 브랜드는 null
+	private final Long id;
 	private final String name;
 
 	public Brand(String name) {
+		this(null, name);
+	}
+
+	public Brand(Long id, String name) {
 		if (name == null || name.isBlank()) {
 			throw new IllegalArgumentException("브랜드 이름은 필수입니다.");
 		}
+		this.id = id;
 		this.name = name;
 	}
 
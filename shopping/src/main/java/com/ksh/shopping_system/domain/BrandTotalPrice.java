@@ -0,0 +1,11 @@
+package com.ksh.shopping_system.domain;
+
+/**
+ * 브랜드별 상품 총액
+ */
+public record BrandTotalPrice(
+		long brandId,
+		String brandName,
+		long totalPrice
+) {
+}
@@ -0,0 +1,12 @@
+package com.ksh.shopping_system.domain;
+
+/**
+ * 공급사 가격표의 한 행 (브랜드, 카테고리, 가격)
+ */
+public record CatalogRow(
+		long lineNumber,
+		String brandName,
+		String categoryName,
+		long price
+) {
+}
@@ -2,18 +2,22 @@ package com.ksh.shopping_system.domain;
 
 import com.ksh.shopping_system.common.type.Title;
 
-public class Category {
-	private final Title name;
+/**
+ * 카테고리 (불변)
+ */
+public final class Category {
+	private final String name;
 
 	public Category(String name) {
 		if (name == null || name.isBlank()) {
 			throw new IllegalArgumentException("카테고리 이름은 필수입니다.");
 		}
-		this.name = new Title(name);
+		// Title 규칙으로 검증하고 문자열만 보관
+		this.name = new Title(name).getTitle();
 	}
 
 	public String getName() {
-		return name.getTitle();
+		return name;
 	}
 
 }
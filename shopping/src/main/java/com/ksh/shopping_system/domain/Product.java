@@ -1,33 +1,47 @@
 package com.ksh.shopping_system.domain;
 
-import com.ksh.shopping_system.common.type.Price;
-import lombok.Getter;
+/**
+ * 상품 (불변)
+ * 가격은 Price 래퍼 대신 long 으로 보관 (브랜드/카테고리 인스턴스 공유는 매핑 시점에 DomainInterner 가 담당)
+ * 가격 변경은 withPrice 로 새 인스턴스를 만듦
+ */
+public final class Product {
+	private final long id;
+	private final Brand brand;
+	private final Category category;
+	private final long price;
 
-
-@Getter
-public class Product {
-	private long id;
-	private Brand brand;
-	private Category category;
-	private Price price;
-
-	public Product(long id, Brand brand, Category category, Price price) {
+	public Product(long id, Brand brand, Category category, long price) {
 		if (brand == null || category == null) {
 			throw new IllegalArgumentException("브랜드와 카테고리는 필수입니다.");
 		}
+		if (price < 0) {
+			throw new IllegalArgumentException("가격은 0 이상이어야 합니다.");
+		}
 		this.id = id;
 		this.brand = brand;
 		this.category = category;
 		this.price = price;
 	}
 
-	public Product(Brand brand, Category category, Price price) {
-		if (brand == null || category == null) {
-			throw new IllegalArgumentException("브랜드와 카테고리는 필수입니다.");
-		}
-		this.brand = brand;
-		this.category = category;
-		this.price = price;
+	public Product(Brand brand, Category category, long price) {
+		this(0L, brand, category, price);
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public Brand getBrand() {
+		return brand;
+	}
+
+	public Category getCategory() {
+		return category;
+	}
+
+	public long getPriceValue() {
+		return price;
 	}
 
 	/**
@@ -35,11 +49,11 @@ public class Product {
 	 * 가격이 같은 경우 알파벳 순으로 뒤에 오는 브랜드가 우선됨
 	 */
 	public boolean isPreferredForMaxPrice(Product other) {
-		if (this.getPriceValue() != other.getPriceValue()) {
-			return this.getPriceValue() > other.getPriceValue();
+		if (this.price != other.price) {
+			return this.price > other.price;
 		}
 		// 가격이 같으면 알파벳 순으로 뒤에 오는 브랜드가 우선
-		return this.getBrand().getName().compareTo(other.getBrand().getName()) > 0;
+		return this.brand.getName().compareTo(other.brand.getName()) > 0;
 	}
 
 	/**
@@ -47,19 +61,19 @@ public class Product {
 	 * 가격이 같은 경우 알파벳 순으로 앞에 오는 브랜드가 우선됨
 	 */
 	public boolean isPreferredForMinPrice(Product other) {
-		if (this.getPriceValue() != other.getPriceValue()) {
-			return this.getPriceValue() < other.getPriceValue();
+		if (this.price != other.price) {
+			return this.price < other.price;
 		}
 		// 가격이 같으면 알파벳 순으로 앞에 오는 브랜드가 우선
-		return this.getBrand().getName().compareTo(other.getBrand().getName()) < 0;
+		return this.brand.getName().compareTo(other.brand.getName()) < 0;
 	}
 
-	public void changePrice(Price newPrice) {
-		this.price = newPrice;
+	public Product withPrice(long newPrice) {
+		return new Product(id, brand, category, newPrice);
 	}
 
-	public long getPriceValue() {
-		return price.getPrice();
+	public Product withBrand(Brand newBrand) {
+		return new Product(id, newBrand, category, price);
 	}
 
 	public boolean isSameProduct(long productId) {
@@ -0,0 +1,46 @@
+package com.ksh.shopping_system.domain;
+
+/**
+ * 캐시 반영 단위의 상품 변경 (생성: before 없음, 삭제: after 없음)
+ */
+public record ProductChange(
+		Product before,
+		Product after
+) {
+
+	public static ProductChange created(Product product) {
+		return new ProductChange(null, product);
+	}
+
+	public static ProductChange updated(Product oldProduct, Product newProduct) {
+		return new ProductChange(oldProduct, newProduct);
+	}
+
+	public static ProductChange deleted(Product product) {
+		return new ProductChange(product, null);
+	}
+
+	public long productId() {
+		return after != null ? after.getId() : before.getId();
+	}
+
+	/**
+	 * 같은 상품의 다음 변경과 합친 순변경 (처음 before -> 마지막 after)
+	 */
+	public ProductChange then(ProductChange next) {
+		return new ProductChange(before, next.after);
+	}
+
+	/**
+	 * 생성 후 삭제, 또는 가격이 원래대로 돌아온 변경은 캐시에 반영할 것이 없음
+	 */
+	public boolean isNoop() {
+		if (before == null || after == null) {
+			return before == after;
+		}
+		return before.getPriceValue() == after.getPriceValue()
+				&& before.getCategory().getName().equals(after.getCategory().getName())
+				&& before.getBrand().getName().equals(after.getBrand().getName());
+	}
+
+}
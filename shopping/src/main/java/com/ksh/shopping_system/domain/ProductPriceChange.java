@@ -0,0 +1,10 @@
+package com.ksh.shopping_system.domain;
+
+/**
+ * 상품 가격 변경 전/후
+ */
+public record ProductPriceChange(
+		Product oldProduct,
+		Product newProduct
+) {
+}
@@ -0,0 +1,27 @@
+-- 기존 ddl-auto=create 로 생성되던 스키마
+CREATE TABLE brands
+(
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_brands_name UNIQUE (name)
+);
+
+CREATE TABLE categories
+(
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_categories_name UNIQUE (name)
+);
+
+-- ProductEntity 의 SEQUENCE(pooled, allocationSize = 50) 와 증가 폭을 맞춤
+CREATE SEQUENCE products_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE products
+(
+    id          BIGINT NOT NULL PRIMARY KEY,
+    brand_id    BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    price       BIGINT NOT NULL,
+    CONSTRAINT fk_products_brand FOREIGN KEY (brand_id) REFERENCES brands (id),
+    CONSTRAINT fk_products_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
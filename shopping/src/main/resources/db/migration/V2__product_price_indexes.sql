@@ -0,0 +1,7 @@
+-- 카테고리별 최저가/최고가 (category_id 동등 조건 + price 정렬/범위)
+-- 카테고리 최저가 NOT EXISTS, window function 순위, 정합성 점검 MIN/MAX 집계가 사용
+CREATE INDEX idx_products_category_price ON products (category_id, price, brand_id);
+
+-- 브랜드 상품 목록/브랜드 총액 (brand_id 동등 조건 + SUM(price))
+-- 가격표 upsert 의 브랜드 x 카테고리 조회도 같은 인덱스 사용
+CREATE INDEX idx_products_brand_category_price ON products (brand_id, category_id, price);
@@ -0,0 +1,34 @@
+-- 카테고리별 최저가/최고가 상품과 상품 수 (상품 쓰기 트랜잭션 안에서 함께 갱신되는 조회 전용 테이블)
+-- 브랜드명은 조회 시 brands 기본 키로 조인, 상품 ID 는 같은 트랜잭션 안의 삭제 순서와 무관하도록 FK 를 두지 않음
+CREATE TABLE category_price_summary
+(
+    category_id    BIGINT NOT NULL PRIMARY KEY,
+    min_product_id BIGINT NOT NULL,
+    min_brand_id   BIGINT NOT NULL,
+    min_price      BIGINT NOT NULL,
+    max_product_id BIGINT NOT NULL,
+    max_brand_id   BIGINT NOT NULL,
+    max_price      BIGINT NOT NULL,
+    product_count  BIGINT NOT NULL,
+    CONSTRAINT fk_category_price_summary_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+-- 기존 상품으로 채움 (동일 가격이면 최저가는 브랜드명 앞, 최고가는 브랜드명 뒤, 같은 브랜드면 ID 가 작은 상품)
+INSERT INTO category_price_summary
+    (category_id, min_product_id, min_brand_id, min_price, max_product_id, max_brand_id, max_price, product_count)
+SELECT r.category_id,
+       MAX(CASE WHEN r.min_rank = 1 THEN r.product_id END),
+       MAX(CASE WHEN r.min_rank = 1 THEN r.brand_id END),
+       MAX(CASE WHEN r.min_rank = 1 THEN r.price END),
+       MAX(CASE WHEN r.max_rank = 1 THEN r.product_id END),
+       MAX(CASE WHEN r.max_rank = 1 THEN r.brand_id END),
+       MAX(CASE WHEN r.max_rank = 1 THEN r.price END),
+       MAX(r.product_count)
+  FROM (SELECT p.id AS product_id, p.brand_id, p.category_id, p.price,
+               COUNT(*) OVER (PARTITION BY p.category_id) AS product_count,
+               ROW_NUMBER() OVER (PARTITION BY p.category_id ORDER BY p.price ASC, b.name ASC, p.id ASC)   AS min_rank,
+               ROW_NUMBER() OVER (PARTITION BY p.category_id ORDER BY p.price DESC, b.name DESC, p.id ASC) AS max_rank
+          FROM products p
+          JOIN brands b ON b.id = p.brand_id) r
+ WHERE r.min_rank = 1 OR r.max_rank = 1
+ GROUP BY r.category_id;
@@ -0,0 +1,18 @@
+-- 브랜드별 상품 총액/상품 수 (상품 쓰기 트랜잭션 안에서 증감 UPDATE 로 갱신)
+-- 상품이 모두 삭제된 브랜드는 product_count = 0 인 행으로 남김
+CREATE TABLE brand_price_total
+(
+    brand_id      BIGINT NOT NULL PRIMARY KEY,
+    total_price   BIGINT NOT NULL,
+    product_count BIGINT NOT NULL,
+    CONSTRAINT fk_brand_price_total_brand FOREIGN KEY (brand_id) REFERENCES brands (id)
+);
+
+-- 총액 최저 브랜드 조회 (total_price 오름차순으로 앞에서부터 읽음)
+CREATE INDEX idx_brand_price_total_total ON brand_price_total (total_price, brand_id);
+
+-- 기존 상품으로 채움
+INSERT INTO brand_price_total (brand_id, total_price, product_count)
+SELECT brand_id, SUM(price), COUNT(*)
+  FROM products
+ GROUP BY brand_id;
@@ -0,0 +1,23 @@
+-- 상품 변경 outbox (상품 쓰기와 같은 트랜잭션에 기록, ProductOutboxRelay 가 ID 순으로 읽어 캐시에 반영)
+-- 변경 전/후 상품을 그대로 남겨 브랜드/카테고리가 바뀌거나 삭제된 뒤에도 반영 가능
+-- ProductOutboxEntity 의 SEQUENCE(pooled, allocationSize = 50) 와 증가 폭을 맞춤
+CREATE SEQUENCE product_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE product_outbox
+(
+    id                   BIGINT       NOT NULL PRIMARY KEY,
+    product_id           BIGINT       NOT NULL,
+    before_brand_id      BIGINT,
+    before_brand_name    VARCHAR(255),
+    before_category_name VARCHAR(255),
+    before_price         BIGINT,
+    after_brand_id       BIGINT,
+    after_brand_name     VARCHAR(255),
+    after_category_name  VARCHAR(255),
+    after_price          BIGINT,
+    created_at           TIMESTAMP    NOT NULL,
+    applied_at           TIMESTAMP
+);
+
+-- 미반영 행 조회(applied_at IS NULL ORDER BY id)와 반영 완료 행 정리(applied_at < ?)
+CREATE INDEX idx_product_outbox_applied ON product_outbox (applied_at, id);
@@ -0,0 +1,6 @@
+-- 총액 행을 브랜드 생성 시 (0, 0) 으로 만들도록 바꾸면서, 상품이 없어 행이 없던 브랜드를 채움
+-- 이후 상품 쓰기는 증감 UPDATE 만 하므로 같은 브랜드의 첫 상품이 동시에 생겨도 행 잠금으로 직렬화됨
+INSERT INTO brand_price_total (brand_id, total_price, product_count)
+SELECT b.id, 0, 0
+  FROM brands b
+ WHERE NOT EXISTS (SELECT 1 FROM brand_price_total t WHERE t.brand_id = b.id);
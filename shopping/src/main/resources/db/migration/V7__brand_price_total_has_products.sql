@@ -0,0 +1,7 @@
+-- 총액 최저 브랜드 조회용 인덱스에 상품 유무를 앞에 둠
+-- 상품이 없는 브랜드도 (0, 0) 행이 있어 total_price 만으로 정렬하면 그 행들을 먼저 지나가야 했음
+-- has_products = TRUE 동등 조건 + total_price 정렬로 첫 행에서 최저 총액을 읽고, 같은 총액만 브랜드명으로 정렬
+ALTER TABLE brand_price_total ADD COLUMN has_products BOOLEAN GENERATED ALWAYS AS (product_count > 0);
+
+DROP INDEX idx_brand_price_total_total;
+CREATE INDEX idx_brand_price_total_total ON brand_price_total (has_products, total_price, brand_id);
@@ -0,0 +1,77 @@
+package com.ksh.shopping_system.adapter.in.event;
+
+import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.application.port.out.product.ProductCachePort;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxRecord;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductChange;
+import com.ksh.shopping_system.exception.CacheConnectionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+
+/**
+ * outbox 반영 + Retry test
+ * 다른 테스트 컨텍스트의 relay 가 같은 H2 의 행을 가져가지 않도록 DB 를 거치지 않고 읽은 묶음을 바로 반영
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductOutboxRelayRetryTest {
+
+	@MockitoBean
+	private ProductCachePort productCachePort;
+
+	@MockitoBean
+	private BrandCachePort brandCachePort;
+
+	@Autowired
+	private ProductOutboxRelay productOutboxRelay;
+
+	@Test
+	void relayCreated_cacheRetry() {
+		// given
+		Product product = new Product(1L, new Brand(1L, "Nike"), new Category("상의"), 10000);
+
+		willThrow(new CacheConnectionException("cache fail #1"))
+				.willThrow(new CacheConnectionException("cache fail #2"))
+				.willDoNothing()
+				.given(brandCachePort).addBrandTotal(1L, "Nike", 10000L, 1L);
+
+		// when: 반영 작업이 끝날 때까지 기다린 뒤 반환, 재시도는 ProductCacheUpdater 의 @Retryable
+		boolean relayed = productOutboxRelay.relay(List.of(new ProductOutboxRecord(-1L, ProductChange.created(product))));
+
+		// then
+		assertThat(relayed).isTrue();
+		verify(brandCachePort, times(3)).addBrandTotal(1L, "Nike", 10000L, 1L);
+	}
+
+	@Test
+	void relayUpdated_brandTotalOncePerBrand() {
+		// given
+		Brand nike = new Brand(1L, "Nike");
+		ProductChange top = ProductChange.updated(
+				new Product(1L, nike, new Category("상의"), 10000),
+				new Product(1L, nike, new Category("상의"), 8000));
+		ProductChange pants = ProductChange.updated(
+				new Product(2L, nike, new Category("바지"), 5000),
+				new Product(2L, nike, new Category("바지"), 5500));
+
+		// when
+		productOutboxRelay.relay(List.of(new ProductOutboxRecord(-2L, top), new ProductOutboxRecord(-1L, pants)));
+
+		// then: 두 상품의 순변동(-1500)이 브랜드 원장에 한 번만 반영
+		verify(productCachePort, times(2)).putProducts(anyList());
+		verify(brandCachePort, times(1)).addBrandTotal(1L, "Nike", -1500L, 0L);
+	}
+
+}
@@ -0,0 +1,214 @@
+package com.ksh.shopping_system.adapter.in.event;
+
+import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
+import com.ksh.shopping_system.application.event.CacheWarmUpCompletedEvent;
+import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxPort;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxRecord;
+import com.ksh.shopping_system.application.port.out.product.SelectProductPort;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+class ProductOutboxRelayTest {
+
+	private final ProductOutboxPort productOutboxPort = mock(ProductOutboxPort.class);
+	private final ProductCacheDispatcher productCacheDispatcher = mock(ProductCacheDispatcher.class);
+	private final BrandCachePort brandCachePort = mock(BrandCachePort.class);
+	private final SelectProductPort selectProductPort = mock(SelectProductPort.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	// 스케줄러는 시작하지 않고 drain 을 직접 호출
+	private final ProductOutboxRelay relay = new ProductOutboxRelay(productOutboxPort, productCacheDispatcher,
+			brandCachePort, selectProductPort, new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry,
+			2, 1000, 0, Duration.ofHours(1), true);
+
+	@Test
+	@DisplayName("같은 상품의 생성/수정은 처음 before -> 마지막 after 한 건으로 반영하고 읽은 행을 한 번에 표시한다")
+	void mergePerProduct() {
+		Product created = product(1L, 10000);
+		given(productOutboxPort.findPending(2)).willReturn(
+				List.of(record(1L, ProductChange.created(created)),
+						record(2L, ProductChange.updated(created, product(1L, 9000)))),
+				List.of(record(3L, ProductChange.updated(product(1L, 9000), product(1L, 8000)))));
+		given(productCacheDispatcher.dispatch(anyList())).willReturn(CompletableFuture.completedFuture(null));
+
+		int relayed = relay.drain();
+
+		// 두 번째 묶음이 batch-size 보다 작으므로 더 읽지 않음
+		assertThat(relayed).isEqualTo(3);
+		verify(productOutboxPort, times(2)).findPending(2);
+		verify(productOutboxPort).markApplied(List.of(1L, 2L));
+		verify(productOutboxPort).markApplied(List.of(3L));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<ProductChange>> captor = ArgumentCaptor.forClass(List.class);
+		verify(productCacheDispatcher, times(2)).dispatch(captor.capture());
+		ProductChange first = captor.getAllValues().get(0).get(0);
+		assertThat(first.before()).isNull();
+		assertThat(first.after().getPriceValue()).isEqualTo(9000);
+
+		assertThat(meterRegistry.counter("product.cache.events.received").count()).isEqualTo(3);
+		assertThat(meterRegistry.counter("product.cache.events.applied").count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("생성 후 삭제, 원래 가격으로 되돌린 변경은 캐시에 반영하지 않고 표시만 한다")
+	void dropNoopChanges() {
+		Product created = product(1L, 10000);
+		List<ProductOutboxRecord> batch = List.of(
+				record(1L, ProductChange.created(created)),
+				record(2L, ProductChange.deleted(created)),
+				record(3L, ProductChange.updated(product(2L, 5000), product(2L, 6000))),
+				record(4L, ProductChange.updated(product(2L, 6000), product(2L, 5000))));
+
+		assertThat(relay.relay(batch)).isTrue();
+
+		verify(productCacheDispatcher, never()).dispatch(anyList());
+		verify(productOutboxPort).markApplied(List.of(1L, 2L, 3L, 4L));
+		assertThat(meterRegistry.counter("product.cache.events.applied").count()).isZero();
+	}
+
+	@Test
+	@DisplayName("반영 작업 제출이 거절되면 표시하지 않아 다음 poll 에서 다시 반영한다")
+	void rejectedBatchStaysPending() {
+		List<ProductOutboxRecord> batch = List.of(record(1L, ProductChange.created(product(1L, 10000))));
+		given(productOutboxPort.findPending(2)).willReturn(batch);
+		given(productCacheDispatcher.dispatch(anyList()))
+				.willThrow(new RejectedExecutionException("queue full"))
+				.willReturn(CompletableFuture.completedFuture(null));
+
+		assertThat(relay.drain()).isZero();
+		verify(productOutboxPort, never()).markApplied(anyList());
+
+		assertThat(relay.drain()).isEqualTo(1);
+		verify(productOutboxPort).markApplied(List.of(1L));
+	}
+
+	@Test
+	@DisplayName("제출된 반영 작업이 실패하면 이중 반영을 막기 위해 표시하고 실패 건수를 남긴다")
+	void failedBatchIsMarkedAndCounted() {
+		given(productCacheDispatcher.dispatch(anyList()))
+				.willReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+		assertThat(relay.relay(List.of(record(1L, ProductChange.created(product(1L, 10000)))))).isTrue();
+
+		verify(productOutboxPort).markApplied(List.of(1L));
+		assertThat(meterRegistry.counter("product.cache.events.failed").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("기동 시 워밍업 스냅샷에 포함된 행만 반영 완료로 표시하고, 이후 커밋된 행은 poll 에서 반영하도록 남긴다")
+	void startMarksOnlySnapshotRows() {
+		try {
+			relay.start(new CacheWarmUpCompletedEvent(this, List.of(1L, 2L)));
+
+			verify(productOutboxPort).markApplied(List.of(1L, 2L));
+			verify(productOutboxPort, never()).markAllApplied();
+		} finally {
+			relay.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("워밍업을 하지 않았으면 미반영 행을 모두 반영 완료로 표시한다")
+	void startWithoutWarmUpMarksAll() {
+		try {
+			relay.start(new CacheWarmUpCompletedEvent(this, null));
+
+			verify(productOutboxPort).markAllApplied();
+			verify(productOutboxPort, never()).markApplied(anyList());
+		} finally {
+			relay.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("병합 구간 안에 들어온 깨우기는 한 번의 drain 으로 합쳐 같은 상품의 변경을 한 번만 반영한다")
+	void wakeUpsWithinWindowAreCoalesced() {
+		ProductOutboxRelay windowed = new ProductOutboxRelay(productOutboxPort, productCacheDispatcher,
+				brandCachePort, selectProductPort, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+				meterRegistry, 2, 60_000, 200, Duration.ofHours(1), true);
+		Product created = product(1L, 10000);
+		given(productOutboxPort.findPending(2)).willReturn(
+				List.of(record(1L, ProductChange.created(created)),
+						record(2L, ProductChange.updated(created, product(1L, 9000)))),
+				List.of());
+		given(productCacheDispatcher.dispatch(anyList())).willReturn(CompletableFuture.completedFuture(null));
+		try {
+			windowed.start(new CacheWarmUpCompletedEvent(this, List.of()));
+			windowed.wakeUp();
+			windowed.wakeUp();
+			windowed.wakeUp();
+
+			verify(productOutboxPort, timeout(2000)).markApplied(List.of(1L, 2L));
+			verify(productOutboxPort, after(300).times(2)).findPending(2);
+			assertThat(meterRegistry.counter("product.cache.events.received").count()).isEqualTo(2);
+			assertThat(meterRegistry.counter("product.cache.events.applied").count()).isEqualTo(1);
+		} finally {
+			windowed.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("워밍업이 원장을 적재하지 못했으면 drain 전에 brand_price_total 로 재구축하고 미반영 행의 순변동은 뺀다")
+	void rebuildBrandTotalsWhenWarmUpFailed() {
+		BrandSumProjection nike = mock(BrandSumProjection.class);
+		given(nike.getBrandId()).willReturn(1L);
+		given(nike.getBrandName()).willReturn("Nike");
+		given(nike.getTotalPrice()).willReturn(30000L);
+		given(nike.getProductCount()).willReturn(3L);
+		List<ProductOutboxRecord> pending = List.of(record(1L, ProductChange.created(product(1L, 10000))));
+		given(productOutboxPort.findPending(Integer.MAX_VALUE)).willReturn(pending);
+		given(productOutboxPort.findPending(2)).willReturn(pending);
+		given(selectProductPort.findBrandSum()).willReturn(List.of(nike));
+		given(productCacheDispatcher.dispatch(anyList())).willReturn(CompletableFuture.completedFuture(null));
+		try {
+			relay.start(new CacheWarmUpCompletedEvent(this, null));
+			relay.drain();
+			relay.drain();
+
+			// 재구축은 한 번, 스냅샷의 미반영 행은 뺐다가 drain 이 다시 더함
+			verify(brandCachePort, times(1)).rebuild(List.of(nike));
+			verify(brandCachePort).addBrandTotal(1L, "Nike", -10000L, -1L);
+		} finally {
+			relay.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("워밍업 스냅샷으로 원장을 적재했으면 다시 재구축하지 않는다")
+	void noRebuildAfterWarmUp() {
+		try {
+			relay.start(new CacheWarmUpCompletedEvent(this, List.of()));
+			relay.drain();
+
+			verify(brandCachePort, never()).rebuild(anyList());
+		} finally {
+			relay.stop();
+		}
+	}
+
+	private ProductOutboxRecord record(long id, ProductChange change) {
+		return new ProductOutboxRecord(id, change);
+	}
+
+	private Product product(long id, long price) {
+		return new Product(id, new Brand(1L, "Nike"), new Category("상의"), price);
+	}
+
+}
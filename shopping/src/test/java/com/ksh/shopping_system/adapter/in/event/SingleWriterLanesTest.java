@@ -0,0 +1,42 @@
+package com.ksh.shopping_system.adapter.in.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleWriterLanesTest {
+
+	@Test
+	@DisplayName("같은 키의 작업은 한 스레드에서 제출 순서대로 실행된다")
+	void perKeyOrdering() throws InterruptedException {
+		SingleWriterLanes lanes = new SingleWriterLanes("test-lane-", 4, 8);
+		Map<Integer, List<Integer>> executed = new ConcurrentHashMap<>();
+		Map<Integer, String> threads = new ConcurrentHashMap<>();
+
+		for (int seq = 0; seq < 1_000; seq++) {
+			for (int key = 0; key < 16; key++) {
+				int k = key;
+				int s = seq;
+				lanes.execute(k, () -> {
+					executed.computeIfAbsent(k, x -> Collections.synchronizedList(new ArrayList<>())).add(s);
+					threads.merge(k, Thread.currentThread().getName(), (a, b) -> a.equals(b) ? a : "mixed");
+				});
+			}
+		}
+		assertThat(lanes.shutdown(10, TimeUnit.SECONDS)).isTrue();
+
+		for (int key = 0; key < 16; key++) {
+			assertThat(executed.get(key)).hasSize(1_000).isSorted();
+			assertThat(threads.get(key)).isEqualTo("test-lane-" + lanes.laneOf(key));
+		}
+	}
+
+}
@@ -0,0 +1,89 @@
+package com.ksh.shopping_system.adapter.in.file;
+
+import com.ksh.shopping_system.domain.CatalogRow;
+import com.ksh.shopping_system.exception.InvalidValueException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvCatalogRowReaderTest {
+
+	@Test
+	@DisplayName("세로형 CSV 는 헤더를 건너뛰고 한 줄에 한 행")
+	void longFormat() throws IOException {
+		CsvCatalogRowReader reader = reader("""
+				brandName,categoryName,price
+				A,상의,11200
+				"B,Co",아우터,5500
+				""");
+
+		List<CatalogRow> rows = readAll(reader);
+
+		assertThat(rows).containsExactly(
+				new CatalogRow(2, "A", "상의", 11200),
+				new CatalogRow(3, "B,Co", "아우터", 5500)
+		);
+	}
+
+	@Test
+	@DisplayName("가로형 CSV 는 한 줄이 카테고리 수만큼의 행으로 펼쳐진다")
+	void wideFormat() throws IOException {
+		CsvCatalogRowReader reader = reader("""
+				brand,상의,아우터,바지
+				A,11200,5500,4200
+				B,10500,,3800
+				""");
+
+		List<CatalogRow> rows = readAll(reader);
+
+		assertThat(rows).containsExactly(
+				new CatalogRow(2, "A", "상의", 11200),
+				new CatalogRow(2, "A", "아우터", 5500),
+				new CatalogRow(2, "A", "바지", 4200),
+				new CatalogRow(3, "B", "상의", 10500),
+				new CatalogRow(3, "B", "바지", 3800)
+		);
+	}
+
+	@Test
+	@DisplayName("잘못된 행은 예외가 나지만 다음 행부터 계속 읽을 수 있다")
+	void invalidRowIsSkippable() throws IOException {
+		CsvCatalogRowReader reader = reader("""
+				A,상의,abc
+				A,아우터,-1
+				A,바지,4200
+				""");
+
+		assertThatThrownBy(reader::next)
+				.isInstanceOf(InvalidValueException.class)
+				.hasMessageContaining("line 1");
+		assertThatThrownBy(reader::next)
+				.isInstanceOf(InvalidValueException.class)
+				.hasMessageContaining("line 2");
+		assertThat(reader.next()).isEqualTo(new CatalogRow(3, "A", "바지", 4200));
+		assertThat(reader.next()).isNull();
+	}
+
+	private CsvCatalogRowReader reader(String csv) {
+		return new CsvCatalogRowReader(new BufferedReader(new StringReader(csv)), () -> {
+		});
+	}
+
+	private List<CatalogRow> readAll(CsvCatalogRowReader reader) throws IOException {
+		List<CatalogRow> rows = new ArrayList<>();
+		CatalogRow row;
+		while ((row = reader.next()) != null) {
+			rows.add(row);
+		}
+		return rows;
+	}
+
+}
@@ -3,9 +3,9 @@ package com.ksh.shopping_system.adapter.in.rest.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ksh.shopping_system.application.port.in.brand.CreateBrandUseCase;
 import com.ksh.shopping_system.application.port.in.brand.DeleteBrandUseCase;
+import com.ksh.shopping_system.application.port.in.brand.RebuildBrandTotalsUseCase;
 import com.ksh.shopping_system.application.port.in.brand.UpdateBrandUseCase;
 import com.ksh.shopping_system.application.port.in.product.*;
-import com.ksh.shopping_system.common.type.Price;
 import com.ksh.shopping_system.domain.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,6 +42,8 @@ class ProductControllerTest {
 	private UpdateBrandUseCase updateBrandUseCase;
 	@MockitoBean
 	private DeleteBrandUseCase deleteBrandUseCase;
+	@MockitoBean
+	private RebuildBrandTotalsUseCase rebuildBrandTotalsUseCase;
 
 	// Product
 	@MockitoBean
@@ -98,13 +100,24 @@ class ProductControllerTest {
 				.andExpect(jsonPath("$.resultMessage").value("브랜드 삭제 완료"));
 	}
 
+	@Test
+	@DisplayName("브랜드 총액 재계산 API - 정상")
+	void rebuildBrandTotals_ok() throws Exception {
+		given(rebuildBrandTotalsUseCase.rebuildBrandTotals()).willReturn(3);
+
+		mockMvc.perform(post("/api/products/brand/totals/rebuild"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.resultCode").value("0000"))
+				.andExpect(jsonPath("$.resultMessage").value("브랜드 총액 재계산 완료: 3개 브랜드"));
+	}
+
 	@Test
 	@DisplayName("상품 생성 API - 정상")
 	void createProduct_ok() throws Exception {
 		// given
 		Brand brand = new Brand("Nike");
 		Category category = new Category("상의");
-		Product mockProduct = new Product(brand, category, new Price(10000));
+		Product mockProduct = new Product(brand, category, 10000);
 		given(createProductUseCase.createProduct("Nike", "상의", 10000))
 				.willReturn(mockProduct);
 
@@ -123,7 +136,7 @@ class ProductControllerTest {
 	void updateProduct_ok() throws Exception {
 		Brand brand = new Brand("Nike");
 		Category category = new Category("상의");
-		Product updated = new Product(brand, category, new Price(12000));
+		Product updated = new Product(brand, category, 12000);
 
 		given(updateProductUseCase.updateProduct(1L, 12000))
 				.willReturn(updated);
@@ -152,7 +165,7 @@ class ProductControllerTest {
 	void getMinPriceByCategory_ok() throws Exception {
 		Brand brandA = new Brand("A");
 		Category catTop = new Category("상의");
-		Product product1 = new Product(brandA, catTop, new Price(5000));
+		Product product1 = new Product(brandA, catTop, 5000);
 
 		// mock
 		given(getMinPriceByCategoryUseCase.getMinPriceByCategory())
@@ -173,11 +186,11 @@ class ProductControllerTest {
 	void getMinBrandCombination_ok() throws Exception {
 		Brand brandD = new Brand("D");
 		Category catTop = new Category("상의");
-		Product p1 = new Product(101L, brandD, catTop, new Price(5100));
+		Product p1 = new Product(101L, brandD, catTop, 5100);
 
 		CheapestBrandResult mockResult = new CheapestBrandResult(
 				"D",
-				new Price(5100),
+				5100,
 				List.of(p1)
 		);
 		given(getMinBrandCombinationUseCase.getMinBrandCombination())
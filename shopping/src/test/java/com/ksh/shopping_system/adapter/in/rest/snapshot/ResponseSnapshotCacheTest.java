@@ -0,0 +1,252 @@
+package com.ksh.shopping_system.adapter.in.rest.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksh.shopping_system.adapter.in.rest.dto.MinPriceByCategoryResponse;
+import com.ksh.shopping_system.application.event.ProductCacheChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResponseSnapshotCacheTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor();
+	private final ResponseSnapshotCache snapshotCache = snapshotCache(0);
+
+	private ResponseSnapshotCache snapshotCache(long staleBudgetMillis) {
+		return new ResponseSnapshotCache(new ObjectMapper(), meterRegistry, refreshExecutor, true, staleBudgetMillis,
+				Duration.ofMinutes(10));
+	}
+
+	@AfterEach
+	void tearDown() {
+		refreshExecutor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("캐시 변경 이벤트 전까지는 한 번 직렬화한 byte[] 를 재사용한다")
+	void reuseUntilCacheChanged() {
+		AtomicInteger renderCount = new AtomicInteger();
+		String key = ResponseSnapshotCache.categoryExtremesKey("상의");
+
+		byte[] first = snapshotCache.get(key, () -> {
+			renderCount.incrementAndGet();
+			return new MinPriceByCategoryResponse("상의", "C", 10000);
+		}).body();
+		byte[] second = snapshotCache.get(key, () -> {
+			renderCount.incrementAndGet();
+			return new MinPriceByCategoryResponse("상의", "C", 10000);
+		}).body();
+
+		assertThat(second).isSameAs(first);
+		assertThat(renderCount).hasValue(1);
+
+		// 다른 카테고리 변경은 영향 없음
+		snapshotCache.handleProductCacheChanged(new ProductCacheChangedEvent(this, "바지"));
+		assertThat(snapshotCache.get(key, () -> new MinPriceByCategoryResponse("상의", "A", 1)).body()).isSameAs(first);
+
+		// 같은 카테고리 변경 시 다시 직렬화
+		snapshotCache.handleProductCacheChanged(new ProductCacheChangedEvent(this, "상의"));
+		byte[] third = snapshotCache.get(key, () -> new MinPriceByCategoryResponse("상의", "A", 9000)).body();
+		assertThat(new String(third)).contains("\"price\":9000");
+	}
+
+	@Test
+	@DisplayName("모든 카테고리에 영향을 주는 변경은 전체 스냅샷을 무효화한다")
+	void invalidateAll() {
+		byte[] minPrice = snapshotCache.get(ResponseSnapshotCache.MIN_PRICE_BY_CATEGORY,
+				() -> new MinPriceByCategoryResponse("총액", "", 100)).body();
+
+		snapshotCache.handleProductCacheChanged(new ProductCacheChangedEvent(this, null));
+
+		assertThat(snapshotCache.get(ResponseSnapshotCache.MIN_PRICE_BY_CATEGORY,
+				() -> new MinPriceByCategoryResponse("총액", "", 200)).body()).isNotSameAs(minPrice);
+	}
+
+	@Test
+	@DisplayName("렌더링 도중 같은 키가 무효화되면 렌더링 결과를 저장하지 않는다")
+	void skipStoreWhenSameKeyInvalidatedDuringRender() {
+		String key = ResponseSnapshotCache.categoryExtremesKey("상의");
+		snapshotCache.get(key, () -> {
+			snapshotCache.handleProductCacheChanged(new ProductCacheChangedEvent(this, "상의"));
+			return new MinPriceByCategoryResponse("상의", "C", 10000);
+		});
+
+		byte[] next = snapshotCache.get(key, () -> new MinPriceByCategoryResponse("상의", "A", 9000)).body();
+		assertThat(new String(next)).contains("\"price\":9000");
+	}
+
+	@Test
+	@DisplayName("렌더링 도중 다른 카테고리가 무효화되어도 렌더링 결과를 저장한다")
+	void storeWhenOtherKeyInvalidatedDuringRender() {
+		String key = ResponseSnapshotCache.categoryExtremesKey("상의");
+		byte[] first = snapshotCache.get(key, () -> {
+			snapshotCache.handleProductCacheChanged(new ProductCacheChangedEvent(this, "바지"));
+			return new MinPriceByCategoryResponse("상의", "C", 10000);
+		}).body();
+
+		assertThat(snapshotCache.get(key, () -> new MinPriceByCategoryResponse("상의", "A", 9000)).body()).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("렌더링에 실패한 키(없는 카테고리 등)는 슬롯을 남기지 않는다")
+	void failedRenderLeavesNoSlot() {
+		for (int i = 0; i < 100; i++) {
+			String key = ResponseSnapshotCache.categoryExtremesKey("없는카테고리-" + i);
+			assertThatThrownBy(() -> snapshotCache.get(key, () -> {
+				throw new IllegalArgumentException("category not found");
+			})).isInstanceOf(IllegalArgumentException.class);
+		}
+		assertThat(meterRegistry.get("response.snapshot.keys").gauge().value()).isZero();
+
+		// 무효화로 비워진 슬롯도 다시 렌더링이 실패하면 지움 (삭제된 카테고리)
+		String key = ResponseSnapshotCache.categoryExtremesKey("상의");
+		snapshotCache.get(key, () -> new MinPriceByCategoryResponse("상의", "C", 10000));
+		snapshotCache.handleProductCacheChanged(new ProductCacheChangedEvent(this, "상의"));
+		assertThatThrownBy(() -> snapshotCache.get(key, () -> {
+			throw new IllegalArgumentException("category not found");
+		})).isInstanceOf(IllegalArgumentException.class);
+		assertThat(meterRegistry.get("response.snapshot.keys").gauge().value()).isZero();
+	}
+
+	@Test
+	@DisplayName("브랜드 원장 반영 이벤트는 최저가 브랜드 스냅샷만 무효화한다")
+	void brandTotalsInvalidateCheapestBrandOnly() {
+		String extremesKey = ResponseSnapshotCache.categoryExtremesKey("상의");
+		byte[] extremes = snapshotCache.get(extremesKey, () -> new MinPriceByCategoryResponse("상의", "C", 10000)).body();
+		byte[] cheapest = snapshotCache.get(ResponseSnapshotCache.CHEAPEST_BRAND,
+				() -> new MinPriceByCategoryResponse("총액", "", 100)).body();
+
+		snapshotCache.handleProductCacheChanged(ProductCacheChangedEvent.brandTotals(this));
+
+		assertThat(snapshotCache.get(extremesKey, () -> new MinPriceByCategoryResponse("상의", "A", 1)).body())
+				.isSameAs(extremes);
+		byte[] rerendered = snapshotCache.get(ResponseSnapshotCache.CHEAPEST_BRAND,
+				() -> new MinPriceByCategoryResponse("총액", "", 200)).body();
+		assertThat(rerendered).isNotSameAs(cheapest);
+		assertThat(new String(rerendered)).contains("\"price\":200");
+	}
+
+	@Test
+	@DisplayName("다시 렌더링이 지연 예산을 넘으면 마지막 값을 stale 로 응답하고, 렌더링이 끝나면 새 값을 응답한다")
+	void serveStaleWhenRefreshExceedsBudget() throws Exception {
+		ResponseSnapshotCache staleCache = snapshotCache(50);
+		String key = ResponseSnapshotCache.categoryExtremesKey("상의");
+		byte[] first = staleCache.get(key, () -> new MinPriceByCategoryResponse("상의", "C", 10000)).body();
+		staleCache.handleProductCacheChanged(new ProductCacheChangedEvent(this, "상의"));
+
+		CountDownLatch slowQuery = new CountDownLatch(1);
+		AtomicInteger renderCount = new AtomicInteger();
+		Supplier<MinPriceByCategoryResponse> slowSupplier = () -> {
+			renderCount.incrementAndGet();
+			try {
+				slowQuery.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new MinPriceByCategoryResponse("상의", "A", 9000);
+		};
+
+		ResponseSnapshot stale = staleCache.get(key, slowSupplier);
+		ResponseSnapshot staleAgain = staleCache.get(key, slowSupplier);
+
+		assertThat(stale.stale()).isTrue();
+		assertThat(stale.body()).isSameAs(first);
+		assertThat(staleAgain.stale()).isTrue();
+		// 진행 중인 렌더링은 키별로 하나
+		assertThat(renderCount).hasValue(1);
+		assertThat(meterRegistry.get("response.snapshot.stale").tag("endpoint", "category-extremes").counter().count())
+				.isEqualTo(2);
+
+		slowQuery.countDown();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		ResponseSnapshot fresh = staleCache.get(key, slowSupplier);
+		while (fresh.stale() && System.nanoTime() < deadline) {
+			fresh = staleCache.get(key, slowSupplier);
+		}
+		assertThat(fresh.stale()).isFalse();
+		assertThat(new String(fresh.body())).contains("\"price\":9000");
+	}
+
+	@Test
+	@DisplayName("끝난 백그라운드 렌더링은 정리되어 다음 무효화 뒤에 다시 렌더링한다")
+	void completedRefreshIsCleanedUp() throws Exception {
+		ResponseSnapshotCache staleCache = snapshotCache(1_000);
+		String key = ResponseSnapshotCache.categoryExtremesKey("상의");
+		staleCache.get(key, () -> new MinPriceByCategoryResponse("상의", "C", 10000));
+
+		for (int price = 9000; price > 6000; price -= 1000) {
+			staleCache.handleProductCacheChanged(new ProductCacheChangedEvent(this, "상의"));
+			int expected = price;
+			ResponseSnapshot snapshot = staleCache.get(key, () -> new MinPriceByCategoryResponse("상의", "A", expected));
+
+			assertThat(snapshot.stale()).isFalse();
+			assertThat(new String(snapshot.body())).contains("\"price\":" + expected);
+		}
+	}
+
+	@Test
+	@DisplayName("백그라운드 렌더링 제출이 거절되면 마지막 값을 stale 로 응답한다")
+	void serveStaleWhenRefreshRejected() {
+		ResponseSnapshotCache rejectingCache = new ResponseSnapshotCache(new ObjectMapper(), meterRegistry,
+				task -> {
+					throw new RejectedExecutionException("queue full");
+				}, true, 50, Duration.ofMinutes(10));
+		String key = ResponseSnapshotCache.categoryExtremesKey("상의");
+		byte[] first = rejectingCache.get(key, () -> new MinPriceByCategoryResponse("상의", "C", 10000)).body();
+		rejectingCache.handleProductCacheChanged(new ProductCacheChangedEvent(this, "상의"));
+
+		ResponseSnapshot stale = rejectingCache.get(key, () -> new MinPriceByCategoryResponse("상의", "A", 9000));
+
+		assertThat(stale.stale()).isTrue();
+		assertThat(stale.body()).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("stale-max-age 가 지난 마지막 값은 응답하지 않고 요청 스레드에서 다시 렌더링한다")
+	void expiredLastKnownIsDropped() throws Exception {
+		ResponseSnapshotCache staleCache = new ResponseSnapshotCache(new ObjectMapper(), meterRegistry,
+				refreshExecutor, true, 50, Duration.ZERO);
+		String key = ResponseSnapshotCache.categoryExtremesKey("상의");
+		staleCache.get(key, () -> new MinPriceByCategoryResponse("상의", "C", 10000));
+		staleCache.handleProductCacheChanged(new ProductCacheChangedEvent(this, "상의"));
+		Thread.sleep(2);
+
+		ResponseSnapshot snapshot = staleCache.get(key, () -> new MinPriceByCategoryResponse("상의", "A", 9000));
+
+		assertThat(snapshot.stale()).isFalse();
+		assertThat(new String(snapshot.body())).contains("\"price\":9000");
+	}
+
+	@Test
+	@DisplayName("마지막 값이 없는 최초 조회는 예산과 관계없이 렌더링이 끝날 때까지 기다린다")
+	void firstRenderIsNotStale() {
+		ResponseSnapshotCache staleCache = snapshotCache(1);
+
+		ResponseSnapshot snapshot = staleCache.get(ResponseSnapshotCache.CHEAPEST_BRAND, () -> {
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new MinPriceByCategoryResponse("총액", "", 100);
+		});
+
+		assertThat(snapshot.stale()).isFalse();
+		assertThat(new String(snapshot.body())).contains("\"price\":100");
+	}
+
+}
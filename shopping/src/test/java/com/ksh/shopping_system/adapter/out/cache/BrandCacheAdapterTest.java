@@ -0,0 +1,35 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BrandCacheAdapterTest {
+
+	private final BrandTotalLedger ledger = new BrandTotalLedger();
+	private final BrandCacheAdapter adapter = new BrandCacheAdapter(ledger, new CheapestBrandTracker(ledger));
+
+	@Test
+	@DisplayName("재구축 전의 증감/이름 변경은 버려 일부 브랜드만 담긴 원장이 만들어지지 않는다")
+	void dropDeltasUntilWarmedUp() {
+		adapter.addBrandTotal(1L, "Nike", 10000, 1);
+		adapter.renameBrand(1L, "Adidas");
+
+		assertThat(adapter.isWarmedUp()).isFalse();
+		assertThat(adapter.getBrandTotal(1L)).isEmpty();
+		assertThat(adapter.getCheapestBrand()).isNull();
+
+		adapter.rebuild(List.of());
+		adapter.addBrandTotal(1L, "Nike", 10000, 1);
+
+		assertThat(adapter.isWarmedUp()).isTrue();
+		assertThat(adapter.getCheapestBrand().brandName()).isEqualTo("Nike");
+
+		adapter.clearAll();
+		assertThat(adapter.isWarmedUp()).isFalse();
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import com.ksh.shopping_system.application.port.out.product.SelectProductPort;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BrandProductsCacheAdapterTest {
+
+	private static List<Product> products(long price) {
+		return List.of(new Product(1L, new Brand(1L, "A"), new Category("상의"), price));
+	}
+
+	@Test
+	@DisplayName("없는 키를 동시에 조회해도 DB 적재는 한 번만 일어난다")
+	void singleFlightOnMiss() throws Exception {
+		SelectProductPort selectProductPort = mock(SelectProductPort.class);
+		CountDownLatch loading = new CountDownLatch(1);
+		given(selectProductPort.findByBrandName("A")).willAnswer(invocation -> {
+			loading.await(5, TimeUnit.SECONDS);
+			return products(10000);
+		});
+		BrandProductsCacheAdapter cache = new BrandProductsCacheAdapter(
+				selectProductPort, ForkJoinPool.commonPool(), 100, Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<List<Product>>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> cache.getBrandProducts("A")));
+			}
+			loading.countDown();
+
+			for (Future<List<Product>> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS)).hasSize(1);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		verify(selectProductPort, times(1)).findByBrandName("A");
+	}
+
+	@Test
+	@DisplayName("갱신 시점이 지나면 기존 값을 응답하고 백그라운드에서 다시 적재한다")
+	void refreshAheadServesStaleValue() throws Exception {
+		SelectProductPort selectProductPort = mock(SelectProductPort.class);
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch refreshing = new CountDownLatch(1);
+		given(selectProductPort.findByBrandName("A")).willAnswer(invocation -> {
+			if (loads.incrementAndGet() == 1) {
+				return products(10000);
+			}
+			refreshing.await(5, TimeUnit.SECONDS);
+			return products(20000);
+		});
+		BrandProductsCacheAdapter cache = new BrandProductsCacheAdapter(
+				selectProductPort, ForkJoinPool.commonPool(), 100, Duration.ofMillis(10), Duration.ofMinutes(10));
+
+		assertThat(cache.getBrandProducts("A").get(0).getPriceValue()).isEqualTo(10000);
+		Thread.sleep(50);
+
+		// 백그라운드 적재가 끝나기 전에는 기존 값
+		assertThat(cache.getBrandProducts("A").get(0).getPriceValue()).isEqualTo(10000);
+		assertThat(cache.getBrandProducts("A").get(0).getPriceValue()).isEqualTo(10000);
+		refreshing.countDown();
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (cache.getBrandProducts("A").get(0).getPriceValue() != 20000 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(cache.getBrandProducts("A").get(0).getPriceValue()).isEqualTo(20000);
+	}
+
+	@Test
+	@DisplayName("무효화하면 다음 조회에서 다시 적재한다")
+	void invalidateReloads() {
+		SelectProductPort selectProductPort = mock(SelectProductPort.class);
+		given(selectProductPort.findByBrandName("A")).willReturn(products(10000), products(20000));
+		BrandProductsCacheAdapter cache = new BrandProductsCacheAdapter(
+				selectProductPort, ForkJoinPool.commonPool(), 100, Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+		assertThat(cache.getBrandProducts("A").get(0).getPriceValue()).isEqualTo(10000);
+		cache.invalidate("A");
+
+		assertThat(cache.getBrandProducts("A").get(0).getPriceValue()).isEqualTo(20000);
+	}
+
+}
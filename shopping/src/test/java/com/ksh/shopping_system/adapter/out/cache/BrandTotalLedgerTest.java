@@ -0,0 +1,83 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BrandTotalLedgerTest {
+
+	@Test
+	@DisplayName("상품 추가/가격 변경/삭제 증감이 브랜드 총액에 반영된다")
+	void addDeltas() {
+		BrandTotalLedger ledger = new BrandTotalLedger();
+
+		ledger.add(1L, "A", 10000, 1);
+		ledger.add(1L, "A", 5000, 1);
+		ledger.add(1L, "A", -2000, 0);
+
+		assertThat(ledger.total(1L)).hasValue(13000);
+		assertThat(ledger.size()).isEqualTo(1);
+
+		ledger.add(1L, "A", -8000, -1);
+		ledger.add(1L, "A", -5000, -1);
+
+		assertThat(ledger.total(1L)).isEmpty();
+		assertThat(ledger.isEmpty()).isTrue();
+	}
+
+	@Test
+	@DisplayName("브랜드명이 바뀌어도 총액은 브랜드 ID 기준으로 유지된다")
+	void renameKeepsTotal() {
+		BrandTotalLedger ledger = new BrandTotalLedger();
+		ledger.add(7L, "Nike", 10000, 1);
+
+		ledger.rename(7L, "NIKE");
+		// 변경 전 이름을 가진 지연 이벤트가 와도 이름을 되돌리지 않음
+		ledger.add(7L, "Nike", 1000, 1);
+
+		assertThat(ledger.name(7L)).isEqualTo("NIKE");
+		assertThat(ledger.total(7L)).hasValue(11000);
+	}
+
+	@Test
+	@DisplayName("청크 경계를 넘는 브랜드 ID 도 모두 보관된다 (eviction 없음)")
+	void keepsAllBrands() {
+		BrandTotalLedger ledger = new BrandTotalLedger();
+		int brandCount = 100_000;
+
+		IntStream.rangeClosed(1, brandCount)
+				.parallel()
+				.forEach(id -> ledger.add(id, "brand-" + id, id, 1));
+
+		List<Long> visited = new ArrayList<>();
+		ledger.forEach((brandId, brandName, totalPrice) -> {
+			assertThat(totalPrice).isEqualTo(brandId);
+			visited.add(brandId);
+		});
+
+		assertThat(ledger.size()).isEqualTo(brandCount);
+		assertThat(visited).hasSize(brandCount);
+	}
+
+	@Test
+	@DisplayName("set 은 총액/상품 수를 교체하고 브랜드 수를 맞춘다")
+	void setReplacesTotals() {
+		BrandTotalLedger ledger = new BrandTotalLedger();
+		ledger.add(3L, "A", 5000, 1);
+
+		ledger.set(3L, "A", 12000, 2);
+		assertThat(ledger.total(3L)).hasValue(12000);
+		assertThat(ledger.productCount(3L)).isEqualTo(2);
+		assertThat(ledger.size()).isEqualTo(1);
+
+		ledger.set(3L, "A", 0, 0);
+		assertThat(ledger.total(3L)).isEmpty();
+		assertThat(ledger.isEmpty()).isTrue();
+	}
+
+}
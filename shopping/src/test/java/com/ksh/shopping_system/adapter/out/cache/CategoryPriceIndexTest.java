@@ -0,0 +1,70 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import com.ksh.shopping_system.adapter.out.cache.dto.PriceIndexEntry;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryPriceIndexTest {
+
+	private static PriceIndexEntry entry(long productId, long brandId, String brandName, long price) {
+		return new PriceIndexEntry(new Product(productId, new Brand(brandId, brandName), new Category("상의"), price));
+	}
+
+	@Test
+	@DisplayName("가격이 같으면 최저가는 알파벳 순 앞 브랜드, 최고가는 알파벳 순 뒤 브랜드")
+	void minMaxTieBreakByBrandName() {
+		CategoryPriceIndex index = CategoryPriceIndex.of(List.of(
+				entry(1L, 2L, "B", 10000),
+				entry(2L, 1L, "A", 10000),
+				entry(3L, 3L, "C", 10000)
+		));
+
+		assertThat(index.min().getBrandName()).isEqualTo("A");
+		assertThat(index.max().getBrandName()).isEqualTo("C");
+	}
+
+	@Test
+	@DisplayName("최저가/최고가 상품을 삭제하면 다음 후보가 바로 반환된다")
+	void removeExtremes() {
+		CategoryPriceIndex index = CategoryPriceIndex.of(List.of(
+				entry(1L, 1L, "A", 5000),
+				entry(2L, 2L, "B", 7000),
+				entry(3L, 3L, "C", 9000)
+		));
+
+		index.remove(1L);
+		index.remove(3L);
+
+		assertThat(index.min().getProductId()).isEqualTo(2L);
+		assertThat(index.max().getProductId()).isEqualTo(2L);
+
+		index.remove(2L);
+		assertThat(index.min()).isNull();
+		assertThat(index.max()).isNull();
+	}
+
+	@Test
+	@DisplayName("가격 변경 시 기존 원소가 교체되어 최저가/최고가가 재계산된다")
+	void changePrice() {
+		CategoryPriceIndex index = CategoryPriceIndex.of(List.of(
+				entry(1L, 1L, "A", 5000),
+				entry(2L, 2L, "B", 7000)
+		));
+
+		// 최저가 상품의 가격이 올라 최고가가 됨
+		index.put(entry(1L, 1L, "A", 8000));
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.min().getProductId()).isEqualTo(2L);
+		assertThat(index.max().getProductId()).isEqualTo(1L);
+		assertThat(index.max().getPrice()).isEqualTo(8000);
+	}
+
+}
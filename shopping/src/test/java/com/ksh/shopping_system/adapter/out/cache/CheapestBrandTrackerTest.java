@@ -0,0 +1,67 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import com.ksh.shopping_system.domain.BrandTotalPrice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CheapestBrandTrackerTest {
+
+	private final BrandTotalLedger ledger = new BrandTotalLedger();
+	private final CheapestBrandTracker tracker = new CheapestBrandTracker(ledger);
+
+	private void set(long brandId, String brandName, long totalPrice, long productCount) {
+		ledger.set(brandId, brandName, totalPrice, productCount);
+		tracker.update(brandId);
+	}
+
+	@Test
+	@DisplayName("총액이 같으면 알파벳 순 앞 브랜드가 최저가 브랜드")
+	void tieBreakByBrandName() {
+		set(1L, "BrandB", 10000, 1);
+		set(2L, "BrandA", 10000, 1);
+		set(3L, "BrandC", 12000, 1);
+
+		assertThat(tracker.cheapest().brandName()).isEqualTo("BrandA");
+	}
+
+	@Test
+	@DisplayName("총액이 바뀌거나 상품이 없어진 브랜드는 순위가 재배치된다")
+	void reposition() {
+		set(1L, "A", 5000, 1);
+		set(2L, "B", 7000, 1);
+
+		// A 가격 인상 -> B 가 최저가
+		set(1L, "A", 9000, 1);
+		assertThat(tracker.cheapest().brandId()).isEqualTo(2L);
+		assertThat(tracker.size()).isEqualTo(2);
+
+		// B 의 상품이 모두 삭제됨 -> A 가 최저가
+		set(2L, "B", 0, 0);
+		assertThat(tracker.cheapest().brandId()).isEqualTo(1L);
+		assertThat(tracker.size()).isEqualTo(1);
+
+		set(1L, "A", 0, 0);
+		assertThat(tracker.cheapest()).isNull();
+		assertThat(tracker.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("총액과 브랜드명이 그대로면 순위 원소를 새로 만들지 않는다")
+	void keepRankWhenTotalUnchanged() {
+		set(1L, "A", 5000, 1);
+		BrandTotalPrice rank = ledger.rank(1L);
+
+		// 상품 수만 바뀐 경우
+		set(1L, "A", 5000, 2);
+		assertThat(ledger.rank(1L)).isSameAs(rank);
+
+		ledger.rename(1L, "A2");
+		tracker.update(1L);
+		assertThat(ledger.rank(1L)).isNotSameAs(rank);
+		assertThat(tracker.cheapest().brandName()).isEqualTo("A2");
+		assertThat(tracker.size()).isEqualTo(1);
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainInternerTest {
+
+	private final DomainInterner interner = new DomainInterner();
+
+	@Test
+	@DisplayName("저장된 브랜드/카테고리는 같은 id, 이름이면 같은 인스턴스를 공유한다")
+	void sharedInstances() {
+		assertThat(interner.brand(100L, "무신사")).isSameAs(interner.brand(new Brand(100L, "무신사")));
+		assertThat(interner.category("모자")).isSameAs(interner.category(new Category("모자")));
+
+		// 저장 전 브랜드는 공유하지 않음
+		Brand unsaved = new Brand("무신사");
+		assertThat(interner.brand(unsaved)).isSameAs(unsaved);
+	}
+
+	@Test
+	@DisplayName("이전 이름의 브랜드가 늦게 들어와도 현재 이름의 인스턴스를 교체하지 않는다")
+	void staleNameKeepsCurrentInstance() {
+		Brand renamed = interner.brand(100L, "무신사 스탠다드");
+
+		Brand stale = interner.brand(100L, "무신사");
+
+		assertThat(stale.getName()).isEqualTo("무신사");
+		assertThat(interner.brand(100L, "무신사 스탠다드")).isSameAs(renamed);
+	}
+
+	@Test
+	@DisplayName("상품의 브랜드/카테고리를 공유 인스턴스로 바꾸고, 이미 공유 중이면 상품을 그대로 반환한다")
+	void internProduct() {
+		Product first = interner.intern(new Product(1L, new Brand(1L, "A"), new Category("상의"), 1000));
+		Product second = interner.intern(new Product(2L, new Brand(1L, "A"), new Category("상의"), 2000));
+
+		assertThat(second.getBrand()).isSameAs(first.getBrand());
+		assertThat(second.getCategory()).isSameAs(first.getCategory());
+		assertThat(second.getPriceValue()).isEqualTo(2000);
+		assertThat(interner.intern(second)).isSameAs(second);
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.ksh.shopping_system.adapter.out.cache;
+
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCacheAdapterTest {
+
+	private static final Category TOP = new Category("상의");
+
+	private final ProductCacheAdapter productCache = new ProductCacheAdapter(new DomainInterner());
+
+	private static Product product(long id, long brandId, String brandName, long price) {
+		return new Product(id, new Brand(brandId, brandName), TOP, price);
+	}
+
+	@Test
+	@DisplayName("캐시 히트는 매번 같은 Product 인스턴스를 반환한다")
+	void hitReturnsSharedInstance() {
+		productCache.loadCategory("상의", () -> List.of(product(1L, 1L, "A", 1000), product(2L, 2L, "B", 2000)));
+
+		assertThat(productCache.getMinPrice(TOP)).isSameAs(productCache.getMinPrice(TOP));
+		assertThat(productCache.getMaxPrice(TOP)).isSameAs(productCache.getMaxPrice(TOP));
+		assertThat(productCache.getMinPrice(TOP).getPriceValue()).isEqualTo(1000);
+	}
+
+	@Test
+	@DisplayName("DB 적재는 map 밖에서 실행되어 적재 중에도 갱신이 막히지 않고, 그 갱신은 공개된 인덱스에 반영된다")
+	void updatesDuringLoadAreNotBlockedOrLost() throws Exception {
+		CountDownLatch loaderStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoader = new CountDownLatch(1);
+		CompletableFuture<Void> load = CompletableFuture.runAsync(() -> productCache.loadCategory("상의", () -> {
+			loaderStarted.countDown();
+			await(releaseLoader);
+			return List.of(product(1L, 1L, "A", 1000), product(2L, 2L, "B", 2000));
+		}));
+		assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 적재 중인 카테고리의 갱신과 다른 카테고리의 적재는 기다리지 않음
+		CompletableFuture.runAsync(() -> {
+			productCache.putProduct(product(1L, 1L, "A", 3000));
+			productCache.putProduct(product(3L, 3L, "C", 500));
+			productCache.loadCategory("바지", List::of);
+		}).get(5, TimeUnit.SECONDS);
+		assertThat(productCache.isLoaded("상의")).isFalse();
+		assertThat(productCache.isLoaded("바지")).isTrue();
+
+		releaseLoader.countDown();
+		load.get(5, TimeUnit.SECONDS);
+
+		assertThat(productCache.getMinPrice(TOP).getId()).isEqualTo(3L);
+		assertThat(productCache.getMaxPrice(TOP).getPriceValue()).isEqualTo(3000);
+		assertThat(productCache.getProductCount("상의")).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("다시 적재하는 동안 기존 인덱스로 응답하고, 그동안의 갱신은 새 인덱스에도 반영된다")
+	void reloadKeepsServingOldIndex() throws Exception {
+		productCache.loadCategory("상의", () -> List.of(product(1L, 1L, "A", 1000)));
+		CountDownLatch loaderStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoader = new CountDownLatch(1);
+		CompletableFuture<Void> reload = CompletableFuture.runAsync(() -> productCache.reloadCategory("상의", () -> {
+			loaderStarted.countDown();
+			await(releaseLoader);
+			return List.of(product(1L, 1L, "A", 1000));
+		}));
+		assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		productCache.removeProduct(product(1L, 1L, "A", 1000));
+		assertThat(productCache.getMinPrice(TOP)).isNull();
+
+		releaseLoader.countDown();
+		reload.get(5, TimeUnit.SECONDS);
+
+		assertThat(productCache.isLoaded("상의")).isTrue();
+		assertThat(productCache.getMinPrice(TOP)).isNull();
+	}
+
+	@Test
+	@DisplayName("여러 카테고리는 적재되지 않은 것만 한 번의 loader 호출로 적재하고 카테고리별로 나눈다")
+	void loadCategoriesInOneCall() {
+		Category pants = new Category("바지");
+		productCache.loadCategory("상의", () -> List.of(product(1L, 1L, "A", 1000)));
+		List<Collection<String>> calls = new ArrayList<>();
+
+		productCache.loadCategories(List.of("상의", "바지", "모자"), categoryNames -> {
+			calls.add(List.copyOf(categoryNames));
+			return List.of(new Product(2L, new Brand(2L, "B"), pants, 3000),
+					new Product(3L, new Brand(1L, "A"), pants, 2000));
+		});
+
+		assertThat(calls).containsExactly(List.of("바지", "모자"));
+		assertThat(productCache.getMinPrice(pants).getPriceValue()).isEqualTo(2000);
+		assertThat(productCache.getMaxPrice(pants).getPriceValue()).isEqualTo(3000);
+		// 상품이 없는 카테고리도 빈 인덱스로 적재되어 다시 DB 로 내려가지 않음
+		assertThat(productCache.isLoaded("모자")).isTrue();
+		assertThat(productCache.getMinPrice(TOP).getPriceValue()).isEqualTo(1000);
+	}
+
+	@Test
+	@DisplayName("같은 cold 카테고리를 동시에 적재하면 loader 는 한 번만 호출되고 나머지는 그 적재를 기다린다")
+	void concurrentColdLoadsAreSingleFlight() throws Exception {
+		AtomicInteger loaderCalls = new AtomicInteger();
+		CountDownLatch loaderStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoader = new CountDownLatch(1);
+		List<CompletableFuture<Product>> requests = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			requests.add(CompletableFuture.supplyAsync(() -> {
+				productCache.loadCategories(List.of("상의"), categoryNames -> {
+					loaderCalls.incrementAndGet();
+					loaderStarted.countDown();
+					await(releaseLoader);
+					return List.of(product(1L, 1L, "A", 1000));
+				});
+				return productCache.getMinPrice(TOP);
+			}));
+		}
+		assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		releaseLoader.countDown();
+
+		for (CompletableFuture<Product> request : requests) {
+			assertThat(request.get(5, TimeUnit.SECONDS).getPriceValue()).isEqualTo(1000);
+		}
+		assertThat(loaderCalls).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("적재가 실패하면 예외를 던지고 다음 호출에서 다시 적재한다")
+	void loadCategoriesRetriesAfterFailure() {
+		assertThatThrownBy(() -> productCache.loadCategories(List.of("상의"), categoryNames -> {
+			throw new IllegalStateException("db down");
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(productCache.isLoaded("상의")).isFalse();
+
+		productCache.loadCategories(List.of("상의"), categoryNames -> List.of(product(1L, 1L, "A", 1000)));
+
+		assertThat(productCache.getMinPrice(TOP).getPriceValue()).isEqualTo(1000);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
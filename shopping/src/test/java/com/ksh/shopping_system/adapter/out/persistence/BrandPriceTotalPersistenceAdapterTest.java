@@ -0,0 +1,211 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
+import com.ksh.shopping_system.adapter.out.persistence.repository.BrandPriceTotalRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.BrandRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryPriceSummaryRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.ProductRepository;
+import com.ksh.shopping_system.application.port.in.brand.CreateBrandUseCase;
+import com.ksh.shopping_system.application.port.in.brand.DeleteBrandUseCase;
+import com.ksh.shopping_system.application.port.in.brand.RebuildBrandTotalsUseCase;
+import com.ksh.shopping_system.application.port.in.product.CreateProductUseCase;
+import com.ksh.shopping_system.application.port.in.product.DeleteProductUseCase;
+import com.ksh.shopping_system.application.port.in.product.UpdateProductUseCase;
+import com.ksh.shopping_system.application.port.out.brand.BrandPriceTotalPort;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.BrandTotalPrice;
+import com.ksh.shopping_system.domain.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 쓰기 유스케이스를 거친 뒤 brand_price_total 이 products 에서 집계한 값과 같은지 확인
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class BrandPriceTotalPersistenceAdapterTest {
+
+	private static final List<String> CATEGORIES = List.of("상의", "바지");
+
+	@Autowired
+	private CreateBrandUseCase createBrandUseCase;
+	@Autowired
+	private DeleteBrandUseCase deleteBrandUseCase;
+	@Autowired
+	private RebuildBrandTotalsUseCase rebuildBrandTotalsUseCase;
+	@Autowired
+	private CreateProductUseCase createProductUseCase;
+	@Autowired
+	private UpdateProductUseCase updateProductUseCase;
+	@Autowired
+	private DeleteProductUseCase deleteProductUseCase;
+	@Autowired
+	private BrandPriceTotalPort brandPriceTotalPort;
+
+	@Autowired
+	private BrandPriceTotalRepository brandPriceTotalRepository;
+	@Autowired
+	private CategoryPriceSummaryRepository categoryPriceSummaryRepository;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private BrandRepository brandRepository;
+	@Autowired
+	private CategoryRepository categoryRepository;
+	@Autowired
+	private CategoryRegistry categoryRegistry;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@BeforeEach
+	void setUp() {
+		categoryPriceSummaryRepository.deleteAllInBatch();
+		brandPriceTotalRepository.deleteAllInBatch();
+		productRepository.deleteAllInBatch();
+		categoryRepository.deleteAllInBatch();
+		brandRepository.deleteAllInBatch();
+		categoryRegistry.clear();
+
+		CATEGORIES.forEach(name -> categoryRepository.save(new CategoryEntity(name)));
+	}
+
+	private List<String> totalRows() {
+		entityManager.flush();
+		return jdbcTemplate.queryForList("""
+				SELECT brand_id || ' total=' || total_price || ' count=' || product_count
+				  FROM brand_price_total
+				 WHERE product_count > 0
+				 ORDER BY brand_id
+				""", String.class);
+	}
+
+	private List<String> productRows() {
+		return jdbcTemplate.queryForList("""
+				SELECT brand_id || ' total=' || SUM(price) || ' count=' || COUNT(*)
+				  FROM products
+				 GROUP BY brand_id
+				 ORDER BY brand_id
+				""", String.class);
+	}
+
+	@Test
+	@DisplayName("상품 생성, 가격 변경, 삭제가 같은 트랜잭션에서 브랜드 총액에 반영된다")
+	void createUpdateDelete() {
+		Brand brand = createBrandUseCase.createBrand("A");
+		Product top = createProductUseCase.createProduct("A", "상의", 1000);
+		Product pants = createProductUseCase.createProduct("A", "바지", 2000);
+		assertThat(totalRows()).containsExactly(brand.getId() + " total=3000 count=2");
+
+		updateProductUseCase.updateProduct(top.getId(), 1500);
+		assertThat(totalRows()).containsExactly(brand.getId() + " total=3500 count=2");
+
+		deleteProductUseCase.deleteProduct(pants.getId());
+		assertThat(totalRows()).containsExactly(brand.getId() + " total=1500 count=1");
+
+		// 마지막 상품이 삭제되면 상품 수 0 행으로 남고 최저가 브랜드 조회에서 제외됨
+		deleteProductUseCase.deleteProduct(top.getId());
+		assertThat(totalRows()).isEmpty();
+		assertThat(brandPriceTotalPort.findCheapestBrand()).isNull();
+	}
+
+	@Test
+	@DisplayName("브랜드를 만들면 총액 0, 상품 수 0 행이 함께 생겨 상품 쓰기는 증감 UPDATE 만 한다")
+	void createBrandCreatesZeroRow() {
+		Brand brand = createBrandUseCase.createBrand("A");
+		entityManager.flush();
+
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT total_price || ' count=' || product_count FROM brand_price_total WHERE brand_id = ?",
+				String.class, brand.getId())).isEqualTo("0 count=0");
+		assertThat(brandPriceTotalPort.findCheapestBrand()).isNull();
+	}
+
+	@Test
+	@DisplayName("총액 최저 브랜드는 동일 총액이면 브랜드명 순서를 따른다")
+	void cheapestBrandTieBreak() {
+		createBrandUseCase.createBrand("B");
+		createBrandUseCase.createBrand("A");
+		createBrandUseCase.createBrand("C");
+		createProductUseCase.createProduct("B", "상의", 1000);
+		createProductUseCase.createProduct("A", "상의", 1000);
+		createProductUseCase.createProduct("C", "상의", 3000);
+
+		BrandTotalPrice cheapest = brandPriceTotalPort.findCheapestBrand();
+
+		assertThat(cheapest.brandName()).isEqualTo("A");
+		assertThat(cheapest.totalPrice()).isEqualTo(1000);
+	}
+
+	@Test
+	@DisplayName("상품이 없는 브랜드를 삭제하면 총액 행도 함께 삭제된다")
+	void deleteBrandRemovesTotal() {
+		Brand brand = createBrandUseCase.createBrand("A");
+		Product product = createProductUseCase.createProduct("A", "상의", 1000);
+		deleteProductUseCase.deleteProduct(product.getId());
+
+		deleteBrandUseCase.deleteBrand(brand.getId());
+		entityManager.flush();
+
+		assertThat(brandPriceTotalRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("재계산은 products 집계로 총액 테이블을 다시 채운다")
+	void rebuild() {
+		createBrandUseCase.createBrand("A");
+		createBrandUseCase.createBrand("B");
+		createProductUseCase.createProduct("A", "상의", 1000);
+		createProductUseCase.createProduct("B", "바지", 2000);
+		entityManager.flush();
+		jdbcTemplate.update("UPDATE brand_price_total SET total_price = 0");
+
+		int brandCount = rebuildBrandTotalsUseCase.rebuildBrandTotals();
+
+		assertThat(brandCount).isEqualTo(2);
+		assertThat(totalRows()).isEqualTo(productRows());
+	}
+
+	@Test
+	@DisplayName("임의의 쓰기 순서 뒤에도 브랜드 총액은 products 에서 집계한 값과 같다")
+	void matchesProductsAfterRandomWrites() {
+		List<String> brandNames = List.of("A", "B", "C", "D");
+		brandNames.forEach(createBrandUseCase::createBrand);
+		Random random = new Random(42);
+		List<Product> live = new ArrayList<>();
+
+		for (int i = 0; i < 200; i++) {
+			int action = random.nextInt(10);
+			long price = 1000L * (1 + random.nextInt(5));
+			if (live.isEmpty() || action < 4) {
+				live.add(createProductUseCase.createProduct(brandNames.get(random.nextInt(brandNames.size())),
+						CATEGORIES.get(random.nextInt(CATEGORIES.size())), price));
+			} else if (action < 8) {
+				int index = random.nextInt(live.size());
+				live.set(index, updateProductUseCase.updateProduct(live.get(index).getId(), price));
+			} else {
+				deleteProductUseCase.deleteProduct(live.remove(random.nextInt(live.size())).getId());
+			}
+			assertThat(totalRows()).as("after step %d", i).isEqualTo(productRows());
+		}
+	}
+
+}
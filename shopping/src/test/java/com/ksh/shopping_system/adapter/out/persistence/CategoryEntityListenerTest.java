@@ -0,0 +1,77 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
+import com.ksh.shopping_system.adapter.out.persistence.mapper.CategoryMapper;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
+import com.ksh.shopping_system.domain.Category;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class CategoryEntityListenerTest {
+
+	private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+	private final CategoryRegistry categoryRegistry = new CategoryRegistry(categoryRepository, new CategoryMapper());
+	private CategoryEntityListener listener;
+
+	private static CategoryEntity category(long id, String name) {
+		CategoryEntity entity = new CategoryEntity(name);
+		ReflectionTestUtils.setField(entity, "id", id);
+		return entity;
+	}
+
+	@BeforeEach
+	void setUp() {
+		@SuppressWarnings("unchecked")
+		ObjectProvider<CategoryRegistry> provider = mock(ObjectProvider.class);
+		given(provider.getObject()).willReturn(categoryRegistry);
+		listener = new CategoryEntityListener(provider);
+
+		given(categoryRepository.findAll()).willReturn(List.of(category(1L, "상의")));
+		categoryRegistry.all();
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안의 추가는 커밋된 뒤에만 스냅샷에 반영된다")
+	void appliedAfterCommit() {
+		listener.onSaved(category(2L, "바지"));
+
+		assertThat(categoryRegistry.all()).extracting(Category::getName).containsExactly("상의");
+
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+		synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+		assertThat(categoryRegistry.all()).extracting(Category::getName).containsExactly("상의", "바지");
+	}
+
+	@Test
+	@DisplayName("롤백되면 반영하지 않고 스냅샷을 폐기해 DB 에서 다시 읽는다")
+	void rollbackClearsSnapshot() {
+		listener.onRemoved(category(1L, "상의"));
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		given(categoryRepository.findAll()).willReturn(List.of(category(1L, "상의"), category(3L, "가방")));
+
+		assertThat(categoryRegistry.all()).extracting(Category::getName).containsExactly("상의", "가방");
+	}
+
+}
@@ -0,0 +1,164 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryExtremesProjection;
+import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
+import com.ksh.shopping_system.adapter.out.persistence.repository.BrandPriceTotalRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.BrandRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryPriceSummaryRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.ProductRepository;
+import com.ksh.shopping_system.application.port.in.brand.CreateBrandUseCase;
+import com.ksh.shopping_system.application.port.in.brand.UpdateBrandUseCase;
+import com.ksh.shopping_system.application.port.in.product.CreateProductUseCase;
+import com.ksh.shopping_system.application.port.in.product.DeleteProductUseCase;
+import com.ksh.shopping_system.application.port.in.product.UpdateProductUseCase;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 쓰기 유스케이스를 거친 뒤 category_price_summary 가 products 에서 계산한 값과 같은지 확인
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class CategoryPriceSummaryPersistenceAdapterTest {
+
+	private static final List<String> CATEGORIES = List.of("상의", "바지");
+
+	@Autowired
+	private CreateBrandUseCase createBrandUseCase;
+	@Autowired
+	private UpdateBrandUseCase updateBrandUseCase;
+	@Autowired
+	private CreateProductUseCase createProductUseCase;
+	@Autowired
+	private UpdateProductUseCase updateProductUseCase;
+	@Autowired
+	private DeleteProductUseCase deleteProductUseCase;
+
+	@Autowired
+	private CategoryPriceSummaryRepository categoryPriceSummaryRepository;
+	@Autowired
+	private BrandPriceTotalRepository brandPriceTotalRepository;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private BrandRepository brandRepository;
+	@Autowired
+	private CategoryRepository categoryRepository;
+	@Autowired
+	private CategoryRegistry categoryRegistry;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@BeforeEach
+	void setUp() {
+		categoryPriceSummaryRepository.deleteAllInBatch();
+		brandPriceTotalRepository.deleteAllInBatch();
+		productRepository.deleteAllInBatch();
+		categoryRepository.deleteAllInBatch();
+		brandRepository.deleteAllInBatch();
+		categoryRegistry.clear();
+
+		CATEGORIES.forEach(name -> categoryRepository.save(new CategoryEntity(name)));
+	}
+
+	private List<String> summaryRows() {
+		entityManager.flush();
+		return describe(categoryPriceSummaryRepository.findAllExtremes());
+	}
+
+	private List<String> productRows() {
+		return describe(productRepository.findCategoryExtremes());
+	}
+
+	private List<String> describe(List<CategoryExtremesProjection> rows) {
+		return rows.stream()
+				.map(row -> row.getCategoryName()
+						+ " min=" + row.getMinBrandName() + "/" + row.getMinProductId() + "/" + row.getMinPrice()
+						+ " max=" + row.getMaxBrandName() + "/" + row.getMaxProductId() + "/" + row.getMaxPrice()
+						+ " count=" + row.getProductCount())
+				.sorted()
+				.toList();
+	}
+
+	@Test
+	@DisplayName("최저가/최고가 상품의 생성, 가격 변경, 삭제가 같은 트랜잭션에서 요약에 반영된다")
+	void createUpdateDelete() {
+		createBrandUseCase.createBrand("A");
+		createBrandUseCase.createBrand("B");
+		Product a = createProductUseCase.createProduct("A", "상의", 1000);
+		Product b = createProductUseCase.createProduct("B", "상의", 2000);
+		assertThat(summaryRows()).containsExactly("상의 min=A/" + a.getId() + "/1000 max=B/" + b.getId() + "/2000 count=2");
+
+		// 최저가 상품이 가장 비싸짐 -> 최저가/최고가가 서로 바뀜
+		updateProductUseCase.updateProduct(a.getId(), 3000);
+		assertThat(summaryRows()).containsExactly("상의 min=B/" + b.getId() + "/2000 max=A/" + a.getId() + "/3000 count=2");
+
+		// 최고가 상품 삭제
+		deleteProductUseCase.deleteProduct(a.getId());
+		assertThat(summaryRows()).containsExactly("상의 min=B/" + b.getId() + "/2000 max=B/" + b.getId() + "/2000 count=1");
+
+		// 마지막 상품 삭제 -> 요약 행도 삭제
+		deleteProductUseCase.deleteProduct(b.getId());
+		assertThat(summaryRows()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("동일 가격은 브랜드명 순서를 따르고, 브랜드명이 바뀌면 다시 계산된다")
+	void tieBreakFollowsBrandName() {
+		Brand brandA = createBrandUseCase.createBrand("A");
+		createBrandUseCase.createBrand("B");
+		createProductUseCase.createProduct("B", "상의", 1000);
+		createProductUseCase.createProduct("A", "상의", 1000);
+		assertThat(summaryRows()).isEqualTo(productRows());
+		assertThat(summaryRows()).singleElement().asString().contains("min=A/", "max=B/");
+
+		updateBrandUseCase.updateBrand(brandA.getId(), "Z");
+
+		assertThat(summaryRows()).isEqualTo(productRows());
+		assertThat(summaryRows()).singleElement().asString().contains("min=B/", "max=Z/");
+	}
+
+	@Test
+	@DisplayName("임의의 쓰기 순서 뒤에도 요약은 products 에서 계산한 값과 같다")
+	void matchesProductsAfterRandomWrites() {
+		List<String> brandNames = List.of("A", "B", "C", "D");
+		brandNames.forEach(createBrandUseCase::createBrand);
+		Random random = new Random(42);
+		List<Product> live = new ArrayList<>();
+
+		for (int i = 0; i < 200; i++) {
+			int action = random.nextInt(10);
+			// 가격 범위를 좁혀 동일 가격이 자주 나오도록 함
+			long price = 1000L * (1 + random.nextInt(5));
+			if (live.isEmpty() || action < 4) {
+				live.add(createProductUseCase.createProduct(brandNames.get(random.nextInt(brandNames.size())),
+						CATEGORIES.get(random.nextInt(CATEGORIES.size())), price));
+			} else if (action < 8) {
+				int index = random.nextInt(live.size());
+				live.set(index, updateProductUseCase.updateProduct(live.get(index).getId(), price));
+			} else {
+				deleteProductUseCase.deleteProduct(live.remove(random.nextInt(live.size())).getId());
+			}
+			assertThat(summaryRows()).as("after step %d", i).isEqualTo(productRows());
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
+import com.ksh.shopping_system.adapter.out.persistence.mapper.CategoryMapper;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
+import com.ksh.shopping_system.domain.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CategoryRegistryTest {
+
+	private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+	private final CategoryRegistry categoryRegistry = new CategoryRegistry(categoryRepository, new CategoryMapper());
+
+	private static CategoryEntity category(long id, String name) {
+		CategoryEntity entity = new CategoryEntity(name);
+		ReflectionTestUtils.setField(entity, "id", id);
+		return entity;
+	}
+
+	@Test
+	@DisplayName("처음 한 번만 DB 에서 적재하고 이후 조회는 스냅샷에서 처리한다")
+	void loadOnce() {
+		given(categoryRepository.findAll()).willReturn(List.of(category(2L, "바지"), category(1L, "상의")));
+
+		assertThat(categoryRegistry.all()).extracting(Category::getName).containsExactly("상의", "바지");
+		assertThat(categoryRegistry.findByName("바지").getName()).isEqualTo("바지");
+		assertThat(categoryRegistry.findById(1L).getName()).isEqualTo("상의");
+
+		verify(categoryRepository, times(1)).findAll();
+	}
+
+	@Test
+	@DisplayName("추가/이름 변경/삭제는 새 스냅샷으로 교체되고, 이전에 받은 목록은 바뀌지 않는다")
+	void copyOnWrite() {
+		given(categoryRepository.findAll()).willReturn(List.of(category(1L, "상의")));
+		List<Category> before = categoryRegistry.all();
+
+		categoryRegistry.put(category(2L, "바지"));
+		categoryRegistry.put(category(1L, "아우터"));
+
+		assertThat(before).extracting(Category::getName).containsExactly("상의");
+		assertThat(categoryRegistry.all()).extracting(Category::getName).containsExactly("아우터", "바지");
+		assertThat(categoryRegistry.findById(1L).getName()).isEqualTo("아우터");
+
+		categoryRegistry.remove(2L);
+		assertThat(categoryRegistry.all()).extracting(Category::getName).containsExactly("아우터");
+	}
+
+	@Test
+	@DisplayName("없는 이름은 짧은 시간 안에 반복 요청되어도 DB 를 다시 읽지 않는다")
+	void missReloadIsThrottled() {
+		given(categoryRepository.findAll()).willReturn(List.of(category(1L, "상의")));
+
+		assertThat(categoryRegistry.findByName("없는카테고리")).isNull();
+		assertThat(categoryRegistry.findByName("없는카테고리")).isNull();
+
+		verify(categoryRepository, times(1)).findAll();
+	}
+
+	@Test
+	@DisplayName("clear 후에는 다음 조회에서 DB 를 다시 읽는다")
+	void clearReloads() {
+		given(categoryRepository.findAll())
+				.willReturn(List.of(category(1L, "상의")))
+				.willReturn(List.of(category(1L, "상의"), category(2L, "바지")));
+		assertThat(categoryRegistry.all()).hasSize(1);
+
+		categoryRegistry.clear();
+
+		assertThat(categoryRegistry.all()).hasSize(2);
+	}
+
+}
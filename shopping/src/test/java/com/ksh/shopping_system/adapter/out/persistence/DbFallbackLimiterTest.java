@@ -0,0 +1,105 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.common.response.ErrorCode;
+import com.ksh.shopping_system.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class DbFallbackLimiterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("가상 스레드 수백 개가 동시에 조회해도 max-concurrency 이상은 함께 실행되지 않는다")
+	void boundsConcurrency() throws Exception {
+		DbFallbackLimiter limiter = new DbFallbackLimiter(meterRegistry, 4, Duration.ofSeconds(10));
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < 500; i++) {
+				results.add(executor.submit(() -> limiter.call(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					sleepQuietly(1);
+					running.decrementAndGet();
+					return 1;
+				})));
+			}
+			for (Future<Integer> result : results) {
+				assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+			}
+		}
+
+		assertThat(maxRunning.get()).isLessThanOrEqualTo(4);
+		assertThat(meterRegistry.get("db.fallback.active").gauge().value()).isZero();
+		assertThat(meterRegistry.get("db.fallback.wait").timer().count()).isEqualTo(500);
+	}
+
+	@Test
+	@DisplayName("acquire-timeout 안에 자리가 나지 않으면 DB_FALLBACK_BUSY 로 거절한다")
+	void rejectsAfterTimeout() throws Exception {
+		DbFallbackLimiter limiter = new DbFallbackLimiter(meterRegistry, 1, Duration.ofMillis(50));
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Thread holder = Thread.ofVirtual().start(() -> limiter.call(() -> {
+			started.countDown();
+			awaitQuietly(release);
+			return null;
+		}));
+		awaitQuietly(started);
+
+		Throwable thrown = catchThrowable(() -> limiter.call(() -> 1));
+
+		release.countDown();
+		holder.join(5_000);
+		assertThat(thrown).isInstanceOf(BusinessException.class);
+		assertThat(((BusinessException) thrown).getErrorCode()).isEqualTo(ErrorCode.DB_FALLBACK_BUSY);
+		assertThat(meterRegistry.get("db.fallback.rejected").counter().count()).isEqualTo(1);
+		// 자리가 나면 다시 실행
+		assertThat(limiter.call(() -> 1)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("조회가 실패해도 자리를 반납한다")
+	void releasesOnFailure() {
+		DbFallbackLimiter limiter = new DbFallbackLimiter(meterRegistry, 1, Duration.ofMillis(50));
+
+		catchThrowable(() -> limiter.call(() -> {
+			throw new IllegalStateException("db down");
+		}));
+
+		assertThat(limiter.call(() -> 1)).isEqualTo(1);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleepQuietly(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
+import com.ksh.shopping_system.adapter.out.persistence.entity.ProductOutboxEntity;
+import com.ksh.shopping_system.adapter.out.persistence.repository.BrandPriceTotalRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.BrandRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryPriceSummaryRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.ProductRepository;
+import com.ksh.shopping_system.application.port.in.brand.CreateBrandUseCase;
+import com.ksh.shopping_system.application.port.in.product.CreateProductUseCase;
+import com.ksh.shopping_system.application.port.in.product.DeleteProductUseCase;
+import com.ksh.shopping_system.application.port.in.product.UpdateProductUseCase;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxPort;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxRecord;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductChange;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 쓰기 유스케이스가 같은 트랜잭션에서 product_outbox 에 변경 전/후를 기록하는지 확인
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ProductOutboxPersistenceAdapterTest {
+
+	@Autowired
+	private CreateBrandUseCase createBrandUseCase;
+	@Autowired
+	private CreateProductUseCase createProductUseCase;
+	@Autowired
+	private UpdateProductUseCase updateProductUseCase;
+	@Autowired
+	private DeleteProductUseCase deleteProductUseCase;
+	@Autowired
+	private ProductOutboxPort productOutboxPort;
+
+	@Autowired
+	private CategoryPriceSummaryRepository categoryPriceSummaryRepository;
+	@Autowired
+	private BrandPriceTotalRepository brandPriceTotalRepository;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private BrandRepository brandRepository;
+	@Autowired
+	private CategoryRepository categoryRepository;
+	@Autowired
+	private CategoryRegistry categoryRegistry;
+	@Autowired
+	private EntityManager entityManager;
+
+	@BeforeEach
+	void setUp() {
+		categoryPriceSummaryRepository.deleteAllInBatch();
+		brandPriceTotalRepository.deleteAllInBatch();
+		productRepository.deleteAllInBatch();
+		categoryRepository.deleteAllInBatch();
+		brandRepository.deleteAllInBatch();
+		categoryRegistry.clear();
+
+		categoryRepository.save(new CategoryEntity("상의"));
+		createBrandUseCase.createBrand("A");
+	}
+
+	private List<ProductChange> pendingChanges(long productId) {
+		return productOutboxPort.findPending(100).stream()
+				.map(ProductOutboxRecord::change)
+				.filter(change -> change.productId() == productId)
+				.toList();
+	}
+
+	@Test
+	@DisplayName("생성, 가격 변경, 삭제가 기록 순서대로 outbox 에 남는다")
+	void appendInWriteOrder() {
+		Product product = createProductUseCase.createProduct("A", "상의", 1000);
+		updateProductUseCase.updateProduct(product.getId(), 1500);
+		deleteProductUseCase.deleteProduct(product.getId());
+
+		List<ProductChange> changes = pendingChanges(product.getId());
+
+		assertThat(changes).hasSize(3);
+		assertThat(changes.get(0).before()).isNull();
+		assertThat(changes.get(0).after().getPriceValue()).isEqualTo(1000);
+		assertThat(changes.get(1).before().getPriceValue()).isEqualTo(1000);
+		assertThat(changes.get(1).after().getPriceValue()).isEqualTo(1500);
+		assertThat(changes.get(1).after().getBrand().getName()).isEqualTo("A");
+		assertThat(changes.get(1).after().getCategory().getName()).isEqualTo("상의");
+		assertThat(changes.get(2).before().getPriceValue()).isEqualTo(1500);
+		assertThat(changes.get(2).after()).isNull();
+	}
+
+	@Test
+	@DisplayName("반영 완료로 표시한 행은 다시 읽지 않는다")
+	void markApplied() {
+		Product product = createProductUseCase.createProduct("A", "상의", 1000);
+		List<Long> ids = productOutboxPort.findPending(100).stream()
+				.filter(record -> record.change().productId() == product.getId())
+				.map(ProductOutboxRecord::id)
+				.toList();
+
+		assertThat(productOutboxPort.markApplied(ids)).isEqualTo(1);
+
+		assertThat(pendingChanges(product.getId())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("구간 크기보다 많은 변경도 모두 기록하고 영속성 컨텍스트에 outbox 행을 남기지 않는다")
+	void appendInChunks() {
+		long before = productOutboxPort.countPending();
+		List<ProductChange> changes = LongStream.rangeClosed(1, 2_500)
+				.mapToObj(id -> ProductChange.created(new Product(id, new Brand(1L, "A"), new Category("상의"), 1000)))
+				.toList();
+
+		productOutboxPort.append(changes);
+
+		assertThat(productOutboxPort.countPending()).isEqualTo(before + 2_500);
+		assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityKeys())
+				.noneMatch(key -> key.getEntityName().equals(ProductOutboxEntity.class.getName()));
+	}
+
+}
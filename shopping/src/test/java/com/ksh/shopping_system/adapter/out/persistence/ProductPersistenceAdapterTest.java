@@ -0,0 +1,151 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.persistence.entity.BrandEntity;
+import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
+import com.ksh.shopping_system.adapter.out.persistence.entity.ProductEntity;
+import com.ksh.shopping_system.adapter.out.persistence.repository.BrandPriceTotalRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.BrandRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryPriceSummaryRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.ProductRepository;
+import com.ksh.shopping_system.domain.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 조회가 결과 건수와 관계없이 고정된 수의 쿼리로 끝나는지 Hibernate Statistics 로 확인
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ProductPersistenceAdapterTest {
+
+	private static final int BRANDS = 5;
+	private static final int PRODUCTS_PER_BRAND_CATEGORY = 4;
+	private static final List<String> CATEGORIES = List.of("상의", "아우터", "바지");
+
+	@Autowired
+	private ProductPersistenceAdapter productPersistenceAdapter;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private BrandRepository brandRepository;
+	@Autowired
+	private CategoryRepository categoryRepository;
+	@Autowired
+	private CategoryPriceSummaryRepository categoryPriceSummaryRepository;
+	@Autowired
+	private BrandPriceTotalRepository brandPriceTotalRepository;
+	@Autowired
+	private CategoryRegistry categoryRegistry;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+	private Long anyProductId;
+
+	@BeforeEach
+	void setUp() {
+		categoryPriceSummaryRepository.deleteAllInBatch();
+		brandPriceTotalRepository.deleteAllInBatch();
+		productRepository.deleteAllInBatch();
+		categoryRepository.deleteAllInBatch();
+		brandRepository.deleteAllInBatch();
+		categoryRegistry.clear();
+
+		List<CategoryEntity> categories = categoryRepository.saveAll(
+				CATEGORIES.stream().map(CategoryEntity::new).toList());
+		List<ProductEntity> products = new ArrayList<>();
+		for (int i = 1; i <= BRANDS; i++) {
+			BrandEntity brand = brandRepository.save(new BrandEntity("brand-" + i));
+			for (CategoryEntity category : categories) {
+				for (int n = 0; n < PRODUCTS_PER_BRAND_CATEGORY; n++) {
+					products.add(new ProductEntity(brand, category, 1000L * i + n));
+				}
+			}
+		}
+		anyProductId = productRepository.saveAll(products).get(0).getId();
+		// 영속성 컨텍스트를 비워 연관 엔티티가 1차 캐시에서 나오지 않도록
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		statistics.setStatisticsEnabled(false);
+	}
+
+	private <T> T countingStatements(long expectedStatements, Supplier<T> query) {
+		statistics.clear();
+		T result = query.get();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(expectedStatements);
+		return result;
+	}
+
+	@Test
+	@DisplayName("전체 상품 조회는 한 번의 쿼리로 브랜드/카테고리까지 매핑한다")
+	void findAllProducts() {
+		List<Product> products = countingStatements(1, productPersistenceAdapter::findAllProducts);
+
+		assertThat(products).hasSize(BRANDS * CATEGORIES.size() * PRODUCTS_PER_BRAND_CATEGORY);
+		assertThat(products).allSatisfy(p -> assertThat(p.getBrand().getName()).startsWith("brand-"));
+	}
+
+	@Test
+	@DisplayName("카테고리 상품 조회는 한 번의 쿼리로 끝난다")
+	void findByCategoryName() {
+		List<Product> products = countingStatements(1, () -> productPersistenceAdapter.findByCategoryName("바지"));
+
+		assertThat(products).hasSize(BRANDS * PRODUCTS_PER_BRAND_CATEGORY);
+		assertThat(products).allSatisfy(p -> assertThat(p.getCategory().getName()).isEqualTo("바지"));
+	}
+
+	@Test
+	@DisplayName("여러 카테고리 상품 조회도 한 번의 쿼리로 끝난다")
+	void findByCategoryNames() {
+		List<Product> products = countingStatements(1,
+				() -> productPersistenceAdapter.findByCategoryNames(List.of("바지", "상의")));
+
+		assertThat(products).hasSize(2 * BRANDS * PRODUCTS_PER_BRAND_CATEGORY);
+		assertThat(products).extracting(p -> p.getCategory().getName()).containsOnly("바지", "상의");
+	}
+
+	@Test
+	@DisplayName("브랜드 상품 조회는 한 번의 쿼리로 끝난다")
+	void findByBrandName() {
+		List<Product> products = countingStatements(1, () -> productPersistenceAdapter.findByBrandName("brand-3"));
+
+		assertThat(products).hasSize(CATEGORIES.size() * PRODUCTS_PER_BRAND_CATEGORY);
+		assertThat(products).allSatisfy(p -> assertThat(p.getBrand().getName()).isEqualTo("brand-3"));
+	}
+
+	@Test
+	@DisplayName("상품 단건 조회/가격 변경은 연관 엔티티를 지연 로딩하지 않는다")
+	void findByIdAndUpdatePrice() {
+		Product product = countingStatements(1, () -> productPersistenceAdapter.findById(anyProductId));
+		assertThat(product.getBrand().getName()).isEqualTo("brand-1");
+
+		countingStatements(1, () -> productPersistenceAdapter.updateProductPrice(anyProductId, 777L));
+	}
+
+}
@@ -0,0 +1,154 @@
+package com.ksh.shopping_system.adapter.out.persistence;
+
+import com.ksh.shopping_system.adapter.out.persistence.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가격 조회 쿼리가 products 전체 스캔 없이 인덱스를 타는지 H2 EXPLAIN 으로 확인
+ * JPQL 쿼리는 Hibernate 가 생성하는 SQL 과 같은 모양의 SQL 로 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductQueryPlanTest {
+
+	private static final String PRODUCTS_TABLE_SCAN = "PUBLIC.PRODUCTS.tableScan";
+	private static final String BRAND_TOTAL_INDEX = "PUBLIC.IDX_BRAND_PRICE_TOTAL_TOTAL";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private String explain(String sql) {
+		return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+	}
+
+	@Test
+	@DisplayName("마이그레이션으로 가격 조회용 인덱스가 생성된다")
+	void migrationCreatesIndexes() {
+		List<String> indexNames = jdbcTemplate.queryForList(
+				"SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'PRODUCTS'", String.class);
+
+		assertThat(indexNames).contains("IDX_PRODUCTS_CATEGORY_PRICE", "IDX_PRODUCTS_BRAND_CATEGORY_PRICE");
+	}
+
+	@Test
+	@DisplayName("인덱스가 없는 카테고리 적재는 카테고리명 인덱스와 카테고리 가격 인덱스로 상품을 읽는다")
+	void coldCategoryLoadUsesIndex() {
+		String plan = explain("""
+				SELECT p.id, b.id, b.name, c.name, p.price
+				  FROM products p
+				  JOIN brands b ON b.id = p.brand_id
+				  JOIN categories c ON c.id = p.category_id
+				 WHERE c.name IN ('상의', '바지')
+				""");
+
+		assertThat(plan).contains("PUBLIC.UK_CATEGORIES_NAME");
+		assertThat(plan).doesNotContain(PRODUCTS_TABLE_SCAN);
+	}
+
+	@Test
+	@DisplayName("총액 최저 브랜드 조회는 최저 총액과 같은 총액 브랜드를 모두 총액 인덱스로 읽는다")
+	void cheapestBrandUsesTotalIndex() {
+		String minTotalPlan = explain("""
+				SELECT t.total_price
+				  FROM brand_price_total t
+				 WHERE t.has_products = TRUE
+				 ORDER BY t.total_price
+				 FETCH FIRST 1 ROWS ONLY
+				""");
+		String tiedBrandsPlan = explain("""
+				SELECT t.brand_id, b.name, t.total_price, t.product_count
+				  FROM brand_price_total t
+				  JOIN brands b ON b.id = t.brand_id
+				 WHERE t.has_products = TRUE AND t.total_price = 1000
+				 ORDER BY b.name
+				 FETCH FIRST 1 ROWS ONLY
+				""");
+
+		assertThat(minTotalPlan).contains(BRAND_TOTAL_INDEX);
+		assertThat(tiedBrandsPlan).contains(BRAND_TOTAL_INDEX);
+		assertThat(tiedBrandsPlan).doesNotContain("PUBLIC.PRODUCTS");
+	}
+
+	@Test
+	@DisplayName("가격 요약 재계산용 window function 조회는 카테고리 인덱스를 사용한다")
+	void categoryExtremesUsesIndex() {
+		String plan = explain(ProductRepository.CATEGORY_EXTREMES_SELECT
+				+ "WHERE c.name IN ('상의', '바지')"
+				+ ProductRepository.CATEGORY_EXTREMES_GROUP);
+
+		assertThat(plan).doesNotContain(PRODUCTS_TABLE_SCAN);
+	}
+
+	@Test
+	@DisplayName("브랜드 상품 목록 조회는 브랜드 인덱스를 사용한다")
+	void brandProductsUsesIndex() {
+		String plan = explain("""
+				SELECT p.id, p.price, b.id, b.name, c.id, c.name
+				  FROM products p
+				  JOIN brands b ON b.id = p.brand_id
+				  JOIN categories c ON c.id = p.category_id
+				 WHERE b.name = 'A'
+				""");
+
+		assertThat(plan).doesNotContain(PRODUCTS_TABLE_SCAN);
+	}
+
+	@Test
+	@DisplayName("가격표 upsert 의 브랜드 x 카테고리 조회는 브랜드/카테고리 인덱스를 사용한다")
+	void brandCategoryLookupUsesIndex() {
+		String plan = explain("""
+				SELECT p.id, p.price, b.id, b.name, c.id, c.name
+				  FROM products p
+				  JOIN brands b ON b.id = p.brand_id
+				  JOIN categories c ON c.id = p.category_id
+				 WHERE b.id IN (1, 2) AND c.id IN (1, 2)
+				 ORDER BY p.id
+				""");
+
+		assertThat(plan).doesNotContain(PRODUCTS_TABLE_SCAN);
+	}
+
+	@Test
+	@DisplayName("정합성 점검의 카테고리 구간 집계는 카테고리 인덱스로 상품을 찾는다")
+	void categorySummaryUsesIndex() {
+		String plan = explain("""
+				SELECT c.id, c.name, MIN(p.price), MAX(p.price), COUNT(p.id)
+				  FROM categories c
+				  LEFT JOIN products p ON p.category_id = c.id
+				 WHERE c.id > 0
+				 GROUP BY c.id, c.name
+				 ORDER BY c.id
+				 FETCH FIRST 500 ROWS ONLY
+				""");
+
+		assertThat(plan).doesNotContain(PRODUCTS_TABLE_SCAN);
+	}
+
+	@Test
+	@DisplayName("정합성 점검의 브랜드 구간 집계는 brand_price_total 이 아니라 브랜드 인덱스로 상품을 집계한다")
+	void brandSumUsesIndex() {
+		String plan = explain("""
+				SELECT b.id, b.name, COALESCE(SUM(p.price), 0), COUNT(p.id)
+				  FROM brands b
+				  LEFT JOIN products p ON p.brand_id = b.id
+				 WHERE b.id > 0
+				 GROUP BY b.id, b.name
+				 ORDER BY b.id
+				 FETCH FIRST 500 ROWS ONLY
+				""");
+
+		assertThat(plan).contains("PUBLIC.IDX_PRODUCTS_BRAND_CATEGORY_PRICE");
+		assertThat(plan).doesNotContain(PRODUCTS_TABLE_SCAN);
+		assertThat(plan).doesNotContain("PUBLIC.BRAND_PRICE_TOTAL");
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.ksh.shopping_system.application.service;
+
+import com.ksh.shopping_system.adapter.out.persistence.dto.BrandSumProjection;
+import com.ksh.shopping_system.adapter.out.persistence.dto.CategoryPriceSummaryProjection;
+import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.application.port.out.product.ProductCachePort;
+import com.ksh.shopping_system.application.port.out.product.SelectProductPort;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+class CacheReconciliationServiceTest {
+
+	private final SelectProductPort selectProductPort = mock(SelectProductPort.class);
+	private final ProductCachePort productCachePort = mock(ProductCachePort.class);
+	private final BrandCachePort brandCachePort = mock(BrandCachePort.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private CacheReconciliationService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new CacheReconciliationService(selectProductPort, productCachePort, brandCachePort,
+				meterRegistry, 100, true);
+		given(selectProductPort.findCategoryPriceSummariesAfter(anyLong(), anyInt())).willReturn(List.of());
+		given(selectProductPort.findBrandSumsAfter(anyLong(), anyInt())).willReturn(List.of());
+	}
+
+	@Test
+	@DisplayName("카테고리 최저가가 DB 와 다르면 인덱스를 다시 적재한다")
+	void repairCategoryIndex() {
+		CategoryPriceSummaryProjection row = categorySummary(1L, "상의", 3000L, 9000L, 2L);
+		given(selectProductPort.findCategoryPriceSummariesAfter(0L, 100)).willReturn(List.of(row));
+		given(productCachePort.isLoaded("상의")).willReturn(true);
+		given(productCachePort.getProductCount("상의")).willReturn(2);
+		given(productCachePort.getMinPrice(any(Category.class))).willReturn(product(5000));
+		given(productCachePort.getMaxPrice(any(Category.class))).willReturn(product(9000));
+
+		int repaired = service.reconcile();
+
+		assertThat(repaired).isEqualTo(1);
+		verify(productCachePort).reloadCategory(eq("상의"), any());
+		assertThat(meterRegistry.counter("cache.reconcile.drift", "cache", "category-index").count()).isEqualTo(1);
+		assertThat(meterRegistry.timer("cache.reconcile.duration").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("인덱스가 없는 카테고리는 DB 에서 적재한다")
+	void loadMissingCategoryIndex() {
+		CategoryPriceSummaryProjection row = categorySummary(1L, "상의", 3000L, 9000L, 2L);
+		given(selectProductPort.findCategoryPriceSummariesAfter(0L, 100)).willReturn(List.of(row));
+		given(productCachePort.isLoaded("상의")).willReturn(false);
+
+		int repaired = service.reconcile();
+
+		assertThat(repaired).isEqualTo(1);
+		verify(productCachePort).loadCategory(eq("상의"), any());
+		verify(productCachePort, never()).reloadCategory(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("브랜드 총액은 두 번 연속 같은 값으로 어긋날 때만 DB 값으로 복구한다")
+	void repairBrandTotalOnlyWhenStable() {
+		BrandSumProjection row = brandSum(1L, "A", 20000L, 2L);
+		given(selectProductPort.findBrandSumsAfter(0L, 100)).willReturn(List.of(row));
+		given(brandCachePort.isWarmedUp()).willReturn(true);
+		given(brandCachePort.getProductCount(1L)).willReturn(2L);
+		given(brandCachePort.getBrandTotal(1L)).willReturn(OptionalLong.of(25000L));
+
+		service.reconcile();
+		verify(brandCachePort, never()).resetBrandTotal(anyLong(), anyString(), anyLong(), anyLong());
+
+		service.reconcile();
+		verify(brandCachePort).resetBrandTotal(1L, "A", 20000L, 2L);
+		assertThat(meterRegistry.counter("cache.reconcile.drift", "cache", "brand-total").count()).isEqualTo(2);
+		assertThat(meterRegistry.counter("cache.reconcile.repaired", "cache", "brand-total").count()).isEqualTo(1);
+	}
+
+	private Product product(long price) {
+		return new Product(1L, new Brand(1L, "A"), new Category("상의"), price);
+	}
+
+	private CategoryPriceSummaryProjection categorySummary(Long id, String name, Long min, Long max, Long count) {
+		CategoryPriceSummaryProjection row = mock(CategoryPriceSummaryProjection.class);
+		given(row.getCategoryId()).willReturn(id);
+		given(row.getCategoryName()).willReturn(name);
+		given(row.getMinPrice()).willReturn(min);
+		given(row.getMaxPrice()).willReturn(max);
+		given(row.getProductCount()).willReturn(count);
+		return row;
+	}
+
+	private BrandSumProjection brandSum(Long id, String name, Long total, Long count) {
+		BrandSumProjection row = mock(BrandSumProjection.class);
+		given(row.getBrandId()).willReturn(id);
+		given(row.getBrandName()).willReturn(name);
+		given(row.getTotalPrice()).willReturn(total);
+		given(row.getProductCount()).willReturn(count);
+		return row;
+	}
+
+}
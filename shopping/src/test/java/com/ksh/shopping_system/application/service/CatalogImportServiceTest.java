@@ -0,0 +1,86 @@
+package com.ksh.shopping_system.application.service;
+
+import com.ksh.shopping_system.application.port.in.catalog.CatalogImportJob;
+import com.ksh.shopping_system.application.port.in.catalog.CatalogRowReader;
+import com.ksh.shopping_system.application.port.out.brand.BrandPriceTotalPort;
+import com.ksh.shopping_system.application.port.out.product.CategoryPriceSummaryPort;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxPort;
+import com.ksh.shopping_system.application.port.out.product.ProductUpsertResult;
+import com.ksh.shopping_system.application.port.out.product.UpsertProductPort;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.CatalogRow;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+class CatalogImportServiceTest {
+
+	private final UpsertProductPort upsertProductPort = mock(UpsertProductPort.class);
+	private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+	private CatalogImportService service;
+
+	@BeforeEach
+	void setUp() {
+		given(transactionTemplate.execute(any())).willAnswer(invocation ->
+				invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		service = new CatalogImportService(upsertProductPort, mock(CategoryPriceSummaryPort.class),
+				mock(BrandPriceTotalPort.class), mock(ProductOutboxPort.class), mock(ApplicationEventPublisher.class),
+				transactionTemplate, Runnable::run, 1000);
+	}
+
+	private CatalogRowReader reader(CatalogRow... rows) {
+		Iterator<CatalogRow> iterator = List.of(rows).iterator();
+		return new CatalogRowReader() {
+			@Override
+			public CatalogRow next() {
+				return iterator.hasNext() ? iterator.next() : null;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+	}
+
+	@Test
+	@DisplayName("다른 가져오기가 같은 신규 브랜드를 먼저 만들어 unique 제약에 걸리면 청크를 다시 실행한다")
+	void retryChunkOnBrandConflict() {
+		Product created = new Product(1L, new Brand(1L, "NEW"), new Category("상의"), 1000);
+		given(upsertProductPort.upsertProducts(anyList()))
+				.willThrow(new DataIntegrityViolationException("uk_brands_name"))
+				.willReturn(new ProductUpsertResult(List.of(created), List.of(), 0, List.of()));
+
+		CatalogImportJob job = service.startImport("test.csv", reader(new CatalogRow(1, "NEW", "상의", 1000)));
+
+		assertThat(job.getStatus()).isEqualTo(CatalogImportJob.Status.COMPLETED);
+		assertThat(job.getRowsCreated()).isEqualTo(1);
+		assertThat(job.getChunksCommitted()).isEqualTo(1);
+		then(upsertProductPort).should(times(2)).upsertProducts(anyList());
+	}
+
+	@Test
+	@DisplayName("충돌이 계속되면 재시도 횟수만큼만 시도하고 작업을 실패로 표시한다")
+	void failAfterMaxAttempts() {
+		given(upsertProductPort.upsertProducts(anyList()))
+				.willThrow(new DataIntegrityViolationException("uk_brands_name"));
+
+		CatalogImportJob job = service.startImport("test.csv", reader(new CatalogRow(1, "NEW", "상의", 1000)));
+
+		assertThat(job.getStatus()).isEqualTo(CatalogImportJob.Status.FAILED);
+		assertThat(job.getChunksCommitted()).isZero();
+		then(upsertProductPort).should(times(3)).upsertProducts(anyList());
+	}
+
+}
@@ -1,24 +1,30 @@
 package com.ksh.shopping_system.application.service;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.ksh.shopping_system.adapter.out.cache.dto.MaxPriceCacheValue;
-import com.ksh.shopping_system.adapter.out.cache.dto.MinPriceCacheValue;
+import com.ksh.shopping_system.adapter.out.persistence.CategoryRegistry;
 import com.ksh.shopping_system.adapter.out.persistence.entity.CategoryEntity;
+import com.ksh.shopping_system.adapter.out.persistence.repository.BrandPriceTotalRepository;
 import com.ksh.shopping_system.adapter.out.persistence.repository.BrandRepository;
+import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryPriceSummaryRepository;
 import com.ksh.shopping_system.adapter.out.persistence.repository.CategoryRepository;
 import com.ksh.shopping_system.adapter.out.persistence.repository.ProductRepository;
 import com.ksh.shopping_system.application.port.in.brand.CreateBrandUseCase;
 import com.ksh.shopping_system.application.port.in.brand.DeleteBrandUseCase;
 import com.ksh.shopping_system.application.port.in.brand.UpdateBrandUseCase;
 import com.ksh.shopping_system.application.port.in.product.*;
+import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.application.port.out.product.BrandProductsCachePort;
+import com.ksh.shopping_system.application.port.out.product.ProductCachePort;
 import com.ksh.shopping_system.common.response.ErrorCode;
 import com.ksh.shopping_system.domain.Brand;
 import com.ksh.shopping_system.domain.CategoryExtremesResult;
 import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductPriceChange;
 import com.ksh.shopping_system.exception.DataNotFoundException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,6 +50,10 @@ class ProductServiceTest {
 
 	@Autowired
 	private CategoryRepository categoryRepository;
+	@Autowired
+	private CategoryPriceSummaryRepository categoryPriceSummaryRepository;
+	@Autowired
+	private BrandPriceTotalRepository brandPriceTotalRepository;
 
 	@Autowired
 	private BrandRepository brandRepository;
@@ -70,11 +80,13 @@ class ProductServiceTest {
 	private GetMinBrandCombinationUseCase getMinBrandCombinationUseCase;
 
 	@Autowired
-	private Cache<String, MinPriceCacheValue> minPriceByCategoryCache;
+	private ProductCachePort productCachePort;
 	@Autowired
-	private Cache<String, MaxPriceCacheValue> maxPriceByCategoryCache;
+	private BrandCachePort brandCachePort;
 	@Autowired
-	private Cache<String, Long> brandTotalPriceCache;
+	private BrandProductsCachePort brandProductsCachePort;
+	@Autowired
+	private CategoryRegistry categoryRegistry;
 
 	@PersistenceContext
 	private EntityManager entityManager;
@@ -82,17 +94,21 @@ class ProductServiceTest {
 	@BeforeEach
 	void setUp() {
 		// 캐시 초기화
-		minPriceByCategoryCache.invalidateAll();
-		maxPriceByCategoryCache.invalidateAll();
-		brandTotalPriceCache.invalidateAll();
+		productCachePort.clearAll();
+		brandCachePort.clearAll();
+		brandProductsCachePort.invalidateAll();
 
 		// 데이터베이스 테이블 초기화 (순서 확인)
+		categoryPriceSummaryRepository.deleteAllInBatch();
+		brandPriceTotalRepository.deleteAllInBatch();
 		productRepository.deleteAllInBatch();
 		categoryRepository.deleteAllInBatch();
 		brandRepository.deleteAllInBatch();
+		// 벌크 삭제는 엔티티 콜백이 없으므로 카테고리 스냅샷을 직접 폐기
+		categoryRegistry.clear();
 
 		// ID 시퀀스 초기화 (H2 데이터베이스 사용 시)
-		entityManager.createNativeQuery("ALTER TABLE products ALTER COLUMN id RESTART WITH 1").executeUpdate();
+		// products 는 SEQUENCE(pooled) 식별자라 재시작하지 않음 (상품 ID 에 의존하는 테스트 없음)
 		entityManager.createNativeQuery("ALTER TABLE categories ALTER COLUMN id RESTART WITH 1").executeUpdate();
 		entityManager.createNativeQuery("ALTER TABLE brands ALTER COLUMN id RESTART WITH 1").executeUpdate();
 
@@ -192,6 +208,89 @@ class ProductServiceTest {
 		assertThat(cheapestBrand.totalPrice().getPrice()).isEqualTo(10000);
 	}
 
+	@Test
+	@DisplayName("캐시가 비어 있으면 카테고리 수와 관계없이 한 번의 쿼리로 인덱스를 적재하고 다음 조회부터 DB 로 내려가지 않는다")
+	void coldCacheExtremesUseConstantStatements() {
+		createBrandUseCase.createBrand("A");
+		createBrandUseCase.createBrand("B");
+		List<String> categoryNames = List.of("상의", "아우터", "바지", "스니커즈", "가방", "모자");
+		for (String categoryName : categoryNames) {
+			categoryRepository.save(new CategoryEntity(categoryName));
+			createProductUseCase.createProduct("A", categoryName, 1000);
+			createProductUseCase.createProduct("B", categoryName, 1000);
+		}
+		createProductUseCase.createProduct("B", "바지", 500);
+		entityManager.flush();
+		entityManager.clear();
+		// 카테고리 스냅샷 적재
+		categoryRegistry.all();
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		try {
+			statistics.clear();
+			List<Product> minPriceProducts = getMinPriceByCategoryUseCase.getMinPriceByCategory();
+			// 인덱스가 없는 카테고리 전체를 한 번의 쿼리로 적재
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+			assertThat(minPriceProducts).hasSize(categoryNames.size());
+			assertThat(minPriceProducts)
+					.filteredOn(p -> p.getCategory().getName().equals("바지"))
+					.singleElement()
+					.satisfies(p -> {
+						assertThat(p.getBrand().getName()).isEqualTo("B");
+						assertThat(p.getPriceValue()).isEqualTo(500);
+					});
+			// 동일 가격이면 최저가는 알파벳 순 앞 브랜드
+			assertThat(minPriceProducts)
+					.filteredOn(p -> !p.getCategory().getName().equals("바지"))
+					.allSatisfy(p -> assertThat(p.getBrand().getName()).isEqualTo("A"));
+
+			statistics.clear();
+			assertThat(getMinPriceByCategoryUseCase.getMinPriceByCategory()).isEqualTo(minPriceProducts);
+			CategoryExtremesResult cached = getCategoryExtremesUseCase.getCategoryExtremes("상의");
+			assertThat(statistics.getPrepareStatementCount()).isZero();
+			assertThat(cached.minBrandName()).isEqualTo("A");
+			assertThat(cached.maxBrandName()).isEqualTo("B");
+
+			// 인덱스가 없는 카테고리의 최저가/최고가: 인덱스 적재 한 번 후 인덱스에서 응답
+			productCachePort.clearAll();
+			statistics.clear();
+			CategoryExtremesResult extremes = getCategoryExtremesUseCase.getCategoryExtremes("상의");
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+			assertThat(productCachePort.isLoaded("상의")).isTrue();
+			assertThat(extremes.minBrandName()).isEqualTo("A");
+			assertThat(extremes.maxBrandName()).isEqualTo("B");
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+	}
+
+	@Test
+	@DisplayName("캐시가 비어 있을 때 같은 브랜드/같은 가격 상품이 여러 개여도 카테고리당 최저가 상품은 하나")
+	void coldCacheMinPriceIsOnePerCategory() {
+		createBrandUseCase.createBrand("A");
+		createBrandUseCase.createBrand("B");
+		categoryRepository.save(new CategoryEntity("상의"));
+		categoryRepository.save(new CategoryEntity("바지"));
+		Product first = createProductUseCase.createProduct("A", "상의", 1000);
+		createProductUseCase.createProduct("A", "상의", 1000);
+		createProductUseCase.createProduct("B", "상의", 1000);
+		createProductUseCase.createProduct("B", "바지", 3000);
+		entityManager.flush();
+		entityManager.clear();
+
+		List<Product> minPriceProducts = getMinPriceByCategoryUseCase.getMinPriceByCategory();
+
+		assertThat(minPriceProducts).hasSize(2);
+		assertThat(minPriceProducts)
+				.filteredOn(p -> p.getCategory().getName().equals("상의"))
+				.singleElement()
+				.satisfies(p -> {
+					assertThat(p.getBrand().getName()).isEqualTo("A");
+					assertThat(p.getId()).isEqualTo(first.getId());
+				});
+	}
+
 	@Test
 	@DisplayName("다수 브랜드/카테고리/상품 등록 후 브랜드별 최저합 비교")
 	void testMultipleBrandsAndCategories() {
@@ -374,4 +473,88 @@ class ProductServiceTest {
 		assertThat(extremes.maxBrandName()).isEqualTo("BrandC");
 	}
 
+	@Test
+	@DisplayName("상품 일괄 생성 후 카테고리 최저가/최고가, 브랜드별 최저 조합이 반영된다")
+	void testCreateProductsInBulk() {
+		createBrandUseCase.createBrand("BrandA");
+		createBrandUseCase.createBrand("BrandB");
+		categoryRepository.save(new CategoryEntity("상의"));
+		categoryRepository.save(new CategoryEntity("바지"));
+
+		List<Product> created = createProductUseCase.createProducts(List.of(
+				new CreateProductCommand("BrandA", "상의", 5000),
+				new CreateProductCommand("BrandA", "바지", 3000),
+				new CreateProductCommand("BrandB", "상의", 4000),
+				new CreateProductCommand("BrandB", "바지", 6000)
+		));
+
+		assertThat(created).hasSize(4);
+		assertThat(created).allMatch(p -> p.getId() > 0);
+		assertThat(productRepository.count()).isEqualTo(4);
+
+		CategoryExtremesResult topExt = getCategoryExtremesUseCase.getCategoryExtremes("상의");
+		assertThat(topExt.minBrandName()).isEqualTo("BrandB");
+		assertThat(topExt.maxBrandName()).isEqualTo("BrandA");
+
+		// BrandA = 8000, BrandB = 10000
+		var cheapest = getMinBrandCombinationUseCase.getMinBrandCombination();
+		assertThat(cheapest.brandName()).isEqualTo("BrandA");
+		assertThat(cheapest.totalPrice().getPrice()).isEqualTo(8000);
+	}
+
+	@Test
+	@DisplayName("상품 일괄 생성 시 없는 브랜드가 있으면 전체가 실패한다")
+	void testCreateProductsInBulk_brandNotExist() {
+		createBrandUseCase.createBrand("BrandA");
+		categoryRepository.save(new CategoryEntity("상의"));
+
+		Throwable thrown = catchThrowable(() -> createProductUseCase.createProducts(List.of(
+				new CreateProductCommand("BrandA", "상의", 5000),
+				new CreateProductCommand("Unknown", "상의", 4000)
+		)));
+
+		assertThat(thrown).isInstanceOf(DataNotFoundException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.BRAND_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("상품 가격 일괄 수정 시 가격이 바뀐 상품만 반환되고 조회 결과에 반영된다")
+	void testUpdateProductPricesInBulk() {
+		createBrandUseCase.createBrand("BrandA");
+		createBrandUseCase.createBrand("BrandB");
+		categoryRepository.save(new CategoryEntity("상의"));
+
+		List<Product> created = createProductUseCase.createProducts(List.of(
+				new CreateProductCommand("BrandA", "상의", 5000),
+				new CreateProductCommand("BrandB", "상의", 4000)
+		));
+
+		List<ProductPriceChange> changes = updateProductUseCase.updateProductPrices(List.of(
+				new UpdateProductPriceCommand(created.get(0).getId(), 3000),
+				new UpdateProductPriceCommand(created.get(1).getId(), 4000)
+		));
+
+		assertThat(changes).hasSize(1);
+		assertThat(changes.get(0).oldProduct().getPriceValue()).isEqualTo(5000);
+		assertThat(changes.get(0).newProduct().getPriceValue()).isEqualTo(3000);
+		assertThat(productRepository.findById(created.get(0).getId()).orElseThrow().getPrice()).isEqualTo(3000L);
+
+		CategoryExtremesResult extremes = getCategoryExtremesUseCase.getCategoryExtremes("상의");
+		assertThat(extremes.minBrandName()).isEqualTo("BrandA");
+		assertThat(extremes.maxBrandName()).isEqualTo("BrandB");
+	}
+
+	@Test
+	@DisplayName("상품 가격 일괄 수정 시 없는 상품이 있으면 전체가 실패한다")
+	void testUpdateProductPricesInBulk_productNotExist() {
+		Throwable thrown = catchThrowable(() -> updateProductUseCase.updateProductPrices(List.of(
+				new UpdateProductPriceCommand(999L, 3000)
+		)));
+
+		assertThat(thrown).isInstanceOf(DataNotFoundException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
+	}
+
 }
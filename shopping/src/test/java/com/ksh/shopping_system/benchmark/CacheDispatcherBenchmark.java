@@ -0,0 +1,144 @@
+package com.ksh.shopping_system.benchmark;
+
+import com.ksh.shopping_system.adapter.in.event.LaneProductCacheDispatcher;
+import com.ksh.shopping_system.adapter.in.event.PoolProductCacheDispatcher;
+import com.ksh.shopping_system.adapter.in.event.ProductCacheDispatcher;
+import com.ksh.shopping_system.adapter.in.event.ProductCacheUpdater;
+import com.ksh.shopping_system.adapter.out.cache.BrandCacheAdapter;
+import com.ksh.shopping_system.adapter.out.cache.BrandProductsCacheAdapter;
+import com.ksh.shopping_system.adapter.out.cache.BrandTotalLedger;
+import com.ksh.shopping_system.adapter.out.cache.CheapestBrandTracker;
+import com.ksh.shopping_system.adapter.out.cache.DomainInterner;
+import com.ksh.shopping_system.adapter.out.cache.ProductCacheAdapter;
+import com.ksh.shopping_system.application.port.out.product.SelectProductPort;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import com.ksh.shopping_system.domain.ProductChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 캐시 갱신 스레드 방식 비교 (./gradlew benchmark)
+ * - pool  : 이전 productTaskExecutor(100/200 스레드, 큐 500) 와 같은 설정의 공용 풀
+ * - lanes : 카테고리/브랜드 해시 기준 단일 스레드 lane
+ * 카테고리마다 상품 하나를 두고 같은 상품의 가격을 연속으로 바꾼 뒤, 인덱스의 최종 가격과 브랜드 총액이 맞는지 확인
+ */
+@Tag("benchmark")
+class CacheDispatcherBenchmark {
+
+	private static final int PRODUCTS = 1_000;
+	private static final int BRANDS = 100;
+	private static final int UPDATES_PER_PRODUCT = 100;
+
+	@Test
+	@DisplayName("lanes 는 같은 상품의 연속 변경을 순서대로 반영한다")
+	void poolVersusLanes() {
+		System.out.printf("%8s %14s %16s %18s%n", "mode", "elapsed(ms)", "changes/s", "stale categories");
+
+		Result pool = run("pool", updater -> {
+			ThreadPoolTaskExecutor executor = productTaskExecutor();
+			return new Dispatch(new PoolProductCacheDispatcher(updater, executor), executor::shutdown);
+		});
+		Result lanes = run("lanes", updater -> {
+			LaneProductCacheDispatcher dispatcher = new LaneProductCacheDispatcher(updater, 0, 1024);
+			return new Dispatch(dispatcher, dispatcher::shutdown);
+		});
+
+		assertThat(lanes.staleCategories()).isZero();
+		assertThat(lanes.brandTotalsMatch()).isTrue();
+		assertThat(pool.brandTotalsMatch()).isTrue();
+	}
+
+	private Result run(String mode, Function<ProductCacheUpdater, Dispatch> dispatchFactory) {
+		ProductCacheAdapter productCache = new ProductCacheAdapter(new DomainInterner());
+		BrandTotalLedger brandTotalLedger = new BrandTotalLedger();
+		BrandCacheAdapter brandCache = new BrandCacheAdapter(brandTotalLedger, new CheapestBrandTracker(brandTotalLedger));
+		brandCache.rebuild(List.of());
+		BrandProductsCacheAdapter brandProductsCache = new BrandProductsCacheAdapter(
+				mock(SelectProductPort.class), Runnable::run, 1000, Duration.ofSeconds(30), Duration.ofMinutes(10));
+		ProductCacheUpdater updater = new ProductCacheUpdater(productCache, brandCache, brandProductsCache, event -> {
+		});
+		Dispatch dispatch = dispatchFactory.apply(updater);
+		ProductCacheDispatcher dispatcher = dispatch.dispatcher();
+
+		// 초기 상태: 카테고리마다 상품 1개
+		List<Product> current = new ArrayList<>(PRODUCTS);
+		long[] expectedBrandTotals = new long[BRANDS + 1];
+		for (int i = 0; i < PRODUCTS; i++) {
+			Product product = product(i, 10_000);
+			current.add(product);
+			productCache.loadCategory(product.getCategory().getName(), () -> List.of(product));
+			brandCache.addBrandTotal(product.getBrand().getId(), product.getBrand().getName(), 10_000, 1);
+			expectedBrandTotals[(int) product.getBrand().getId()] += 10_000;
+		}
+
+		long start = System.nanoTime();
+		for (int round = 0; round < UPDATES_PER_PRODUCT; round++) {
+			for (int i = 0; i < PRODUCTS; i++) {
+				Product before = current.get(i);
+				Product after = product(i, ThreadLocalRandom.current().nextLong(1_000, 100_000));
+				current.set(i, after);
+				expectedBrandTotals[(int) after.getBrand().getId()] += after.getPriceValue() - before.getPriceValue();
+				dispatcher.dispatch(List.of(ProductChange.updated(before, after)));
+			}
+		}
+		// 남은 작업을 모두 반영할 때까지 대기
+		dispatch.drain().run();
+		long elapsedNanos = System.nanoTime() - start;
+
+		int stale = 0;
+		for (Product expected : current) {
+			Product cached = productCache.getMinPrice(expected.getCategory());
+			if (cached.getPriceValue() != expected.getPriceValue()) {
+				stale++;
+			}
+		}
+		boolean brandTotalsMatch = true;
+		for (int brandId = 1; brandId <= BRANDS; brandId++) {
+			brandTotalsMatch &= brandCache.getBrandTotal(brandId).orElse(0) == expectedBrandTotals[brandId];
+		}
+
+		long changes = (long) PRODUCTS * UPDATES_PER_PRODUCT;
+		System.out.printf("%8s %14d %16.0f %18d%n", mode, elapsedNanos / 1_000_000,
+				changes * 1e9 / elapsedNanos, stale);
+		return new Result(stale, brandTotalsMatch);
+	}
+
+	private static Product product(int index, long price) {
+		long brandId = index % BRANDS + 1;
+		return new Product(index + 1, new Brand(brandId, "brand-" + brandId), new Category("category-" + index), price);
+	}
+
+	private static ThreadPoolTaskExecutor productTaskExecutor() {
+		// 이전 AsyncConfig.productTaskExecutor 와 같은 크기, 큐가 차면 제출 스레드에서 실행
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(100);
+		executor.setMaxPoolSize(200);
+		executor.setQueueCapacity(500);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+		return executor;
+	}
+
+	private record Dispatch(ProductCacheDispatcher dispatcher, Runnable drain) {
+	}
+
+	private record Result(int staleCategories, boolean brandTotalsMatch) {
+	}
+
+}
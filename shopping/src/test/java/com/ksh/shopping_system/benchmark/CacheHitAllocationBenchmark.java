@@ -0,0 +1,59 @@
+package com.ksh.shopping_system.benchmark;
+
+import com.ksh.shopping_system.adapter.out.cache.DomainInterner;
+import com.ksh.shopping_system.adapter.out.cache.ProductCacheAdapter;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 카테고리 인덱스 캐시 히트의 요청당 힙 할당량 (./gradlew benchmark)
+ * 최저가/최고가 조회가 보관 중인 Product 를 그대로 반환하는지 스레드 할당 바이트로 확인
+ * (같은 인스턴스 반환 자체는 ProductCacheAdapterTest 에서 확인)
+ */
+@Tag("benchmark")
+class CacheHitAllocationBenchmark {
+
+	private static final Category TOP = new Category("상의");
+	private static final int ITERATIONS = 200_000;
+
+	@Test
+	@DisplayName("캐시 히트는 조회 시 힙 할당이 없다")
+	void hitDoesNotAllocate() {
+		com.sun.management.ThreadMXBean threadMXBean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+		ProductCacheAdapter productCache = new ProductCacheAdapter(new DomainInterner());
+		productCache.loadCategory("상의", () -> List.of(
+				new Product(1L, new Brand(1L, "A"), TOP, 1000),
+				new Product(2L, new Brand(2L, "B"), TOP, 2000)));
+
+		long checksum = 0;
+		// JIT 워밍업
+		for (int i = 0; i < ITERATIONS; i++) {
+			checksum += productCache.getMinPrice(TOP).getId() + productCache.getMaxPrice(TOP).getId();
+		}
+
+		long before = threadMXBean.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < ITERATIONS; i++) {
+			checksum += productCache.getMinPrice(TOP).getId() + productCache.getMaxPrice(TOP).getId();
+		}
+		long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+		double bytesPerRequest = (double) allocated / ITERATIONS;
+		System.out.printf("cache hit allocation: %.3f bytes/request (min + max)%n", bytesPerRequest);
+		assertThat(checksum).isPositive();
+		// 측정 자체의 소량 할당만 허용 (이전 구현은 요청당 Brand/Price/Product/Map.Entry 로 100 bytes 이상)
+		assertThat(bytesPerRequest).isLessThan(1.0);
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.ksh.shopping_system.benchmark;
+
+import com.ksh.shopping_system.adapter.out.cache.BrandCacheAdapter;
+import com.ksh.shopping_system.adapter.out.cache.BrandTotalLedger;
+import com.ksh.shopping_system.adapter.out.cache.CheapestBrandTracker;
+import com.ksh.shopping_system.domain.BrandTotalPrice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최저가 브랜드 조회 지연시간 비교 (./gradlew benchmark)
+ * - tracker : 이벤트마다 갱신되는 순위의 첫 원소 조회
+ * - scan    : 기존 방식처럼 전체 브랜드를 순회해 최저 총액/알파벳 순 브랜드를 계산
+ */
+@Tag("benchmark")
+class CheapestBrandBenchmark {
+
+	private static final int[] BRAND_COUNTS = {1_000, 10_000, 100_000, 1_000_000};
+	private static final int LOOKUPS = 2_000;
+
+	@Test
+	@DisplayName("브랜드 수가 늘어도 tracker 조회 지연시간은 일정하다")
+	void cheapestBrandLatency() {
+		System.out.printf("%12s %16s %16s%n", "brands", "tracker(ns/op)", "scan(ns/op)");
+
+		double smallest = 0;
+		double largest = 0;
+		for (int brandCount : BRAND_COUNTS) {
+			BrandTotalLedger ledger = new BrandTotalLedger();
+			BrandCacheAdapter adapter = new BrandCacheAdapter(ledger, new CheapestBrandTracker(ledger));
+			// 적재 전 증감은 버리므로 빈 원장으로 적재 완료 상태를 만든 뒤 증감
+			adapter.rebuild(List.of());
+			for (long brandId = 1; brandId <= brandCount; brandId++) {
+				adapter.addBrandTotal(brandId, "brand-" + brandId, ThreadLocalRandom.current().nextLong(10_000, 1_000_000), 8);
+			}
+
+			double trackerNanos = measure(() -> adapter.getCheapestBrand());
+			double scanNanos = measure(() -> scan(ledger));
+
+			// 두 방식의 결과가 같아야 함
+			assertThat(adapter.getCheapestBrand().brandName()).isEqualTo(scan(ledger).brandName());
+			System.out.printf("%12d %16.1f %16.1f%n", brandCount, trackerNanos, scanNanos);
+
+			if (brandCount == BRAND_COUNTS[0]) {
+				smallest = trackerNanos;
+			}
+			largest = trackerNanos;
+		}
+
+		// 1,000배 많은 브랜드에서도 조회 비용이 크게 늘지 않아야 함 (측정 잡음을 고려한 느슨한 기준)
+		assertThat(largest).isLessThan(Math.max(smallest, 1_000) * 20);
+	}
+
+	private static double measure(Runnable lookup) {
+		// warm-up
+		for (int i = 0; i < LOOKUPS / 10; i++) {
+			lookup.run();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < LOOKUPS; i++) {
+			lookup.run();
+		}
+		return (System.nanoTime() - start) / (double) LOOKUPS;
+	}
+
+	private static BrandTotalPrice scan(BrandTotalLedger ledger) {
+		BrandTotalPrice[] cheapest = new BrandTotalPrice[1];
+		ledger.forEach((brandId, brandName, totalPrice) -> {
+			BrandTotalPrice current = cheapest[0];
+			if (current == null
+					|| totalPrice < current.totalPrice()
+					|| (totalPrice == current.totalPrice() && brandName.compareTo(current.brandName()) < 0)) {
+				cheapest[0] = new BrandTotalPrice(brandId, brandName, totalPrice);
+			}
+		});
+		return cheapest[0];
+	}
+
+}
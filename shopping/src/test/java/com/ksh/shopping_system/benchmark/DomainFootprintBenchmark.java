@@ -0,0 +1,178 @@
+package com.ksh.shopping_system.benchmark;
+
+import com.ksh.shopping_system.adapter.out.cache.DomainInterner;
+import com.ksh.shopping_system.adapter.out.persistence.dto.ProductRowProjection;
+import com.ksh.shopping_system.adapter.out.persistence.mapper.BrandMapper;
+import com.ksh.shopping_system.adapter.out.persistence.mapper.CategoryMapper;
+import com.ksh.shopping_system.adapter.out.persistence.mapper.ProductMapper;
+import com.ksh.shopping_system.common.type.Price;
+import com.ksh.shopping_system.common.type.Title;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 상품 도메인 매핑 비용 비교 (./gradlew benchmark)
+ * - legacy : 이전 구조처럼 상품마다 Brand/Category(Title)/Price 를 새로 만드는 가변 Product
+ * - compact: 실제 ProductMapper.productRowToDomain 경로 (long 가격 + DomainInterner 로 브랜드/카테고리 인스턴스 공유)
+ *            매핑한 상품을 캐시에 넣을 때(DomainInterner.intern) 다시 만들지 않는지도 확인
+ * 같은 조회 결과 행을 매핑해 상품당 할당 바이트(= 보관 시 점유량)와 매핑 처리량을 출력
+ */
+@Tag("benchmark")
+class DomainFootprintBenchmark {
+
+	private static final int PRODUCTS = 100_000;
+	private static final int BRANDS = 1_000;
+	private static final int CATEGORIES = 8;
+	private static final int ROUNDS = 20;
+
+	private final Row[] rows = rows();
+
+	@Test
+	@DisplayName("compact 도메인은 상품당 할당량이 legacy 보다 작다")
+	void legacyVersusCompact() {
+		com.sun.management.ThreadMXBean threadMXBean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+
+		System.out.printf("%8s %18s %16s%n", "mode", "bytes/product", "mappings/s");
+
+		Result legacy = run("legacy", threadMXBean, row -> {
+			LegacyProduct product = LegacyProduct.map(row);
+			return product.price.getPrice() + product.brand.getId();
+		}, LegacyProduct::map);
+		Result compact = run("compact", threadMXBean, row -> {
+			Product product = productMapper.productRowToDomain(row);
+			return product.getPriceValue() + product.getBrand().getId();
+		}, productMapper::productRowToDomain);
+
+		assertThat(compact.bytesPerProduct()).isLessThan(legacy.bytesPerProduct());
+		Product mapped = productMapper.productRowToDomain(rows[0]);
+		assertThat(interner.intern(mapped)).isSameAs(mapped);
+	}
+
+	private Result run(String mode, com.sun.management.ThreadMXBean threadMXBean,
+			ToLongFunction<Row> consume, Function<Row, Object> retain) {
+		// 보관 시 점유량: 매핑 결과를 모두 배열에 붙잡아 두고 할당량 측정
+		Object[] retained = new Object[PRODUCTS];
+		for (int i = 0; i < PRODUCTS; i++) {
+			retained[i] = retain.apply(rows[i]);
+		}
+		long before = threadMXBean.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < PRODUCTS; i++) {
+			retained[i] = retain.apply(rows[i]);
+		}
+		double bytesPerProduct = (double) (threadMXBean.getCurrentThreadAllocatedBytes() - before) / PRODUCTS;
+
+		// 처리량: 매핑 후 바로 값만 쓰는 경로 (임시 객체는 JIT 가 스칼라 치환할 수 있음)
+		long checksum = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			for (Row row : rows) {
+				checksum += consume.applyAsLong(row);
+			}
+		}
+		long start = System.nanoTime();
+		for (int round = 0; round < ROUNDS; round++) {
+			for (Row row : rows) {
+				checksum += consume.applyAsLong(row);
+			}
+		}
+		long elapsedNanos = System.nanoTime() - start;
+
+		assertThat(checksum).isPositive();
+		assertThat(retained[PRODUCTS - 1]).isNotNull();
+		System.out.printf("%8s %18.1f %16.0f%n", mode, bytesPerProduct,
+				(double) PRODUCTS * ROUNDS * 1e9 / elapsedNanos);
+		return new Result(bytesPerProduct);
+	}
+
+	private final DomainInterner interner = new DomainInterner();
+	private final ProductMapper productMapper = new ProductMapper(new BrandMapper(), new CategoryMapper(), interner);
+
+	private static Row[] rows() {
+		String[] brandNames = new String[BRANDS + 1];
+		for (int brandId = 1; brandId <= BRANDS; brandId++) {
+			brandNames[brandId] = "brand-" + brandId;
+		}
+		String[] categoryNames = new String[CATEGORIES];
+		for (int i = 0; i < CATEGORIES; i++) {
+			categoryNames[i] = "category-" + i;
+		}
+		Row[] rows = new Row[PRODUCTS];
+		for (int i = 0; i < PRODUCTS; i++) {
+			long brandId = i % BRANDS + 1;
+			rows[i] = new Row((long) i + 1, brandId, brandNames[(int) brandId], categoryNames[i % CATEGORIES], 1_000L + i);
+		}
+		return rows;
+	}
+
+	/**
+	 * 조회 결과 한 행 (ProductRowProjection, 값은 미리 박싱해 두어 읽을 때 할당 없음)
+	 */
+	private record Row(Long id, Long brandId, String brandName, String categoryName, Long price)
+			implements ProductRowProjection {
+
+		@Override
+		public Long getProductId() {
+			return id;
+		}
+
+		@Override
+		public Long getBrandId() {
+			return brandId;
+		}
+
+		@Override
+		public String getBrandName() {
+			return brandName;
+		}
+
+		@Override
+		public String getCategoryName() {
+			return categoryName;
+		}
+
+		@Override
+		public Long getPrice() {
+			return price;
+		}
+	}
+
+	/**
+	 * 이전 Product 구조 재현 (Price 래퍼, 매핑마다 새 Brand/Category)
+	 */
+	private static final class LegacyProduct {
+		private final long id;
+		private final Brand brand;
+		private final LegacyCategory category;
+		private Price price;
+
+		private LegacyProduct(long id, Brand brand, LegacyCategory category, Price price) {
+			this.id = id;
+			this.brand = brand;
+			this.category = category;
+			this.price = price;
+		}
+
+		static LegacyProduct map(Row row) {
+			return new LegacyProduct(row.id(), new Brand(row.brandId(), row.brandName()),
+					new LegacyCategory(new Title(row.categoryName())), new Price(row.price()));
+		}
+	}
+
+	private record LegacyCategory(Title name) {
+	}
+
+	private record Result(double bytesPerProduct) {
+	}
+
+}
@@ -0,0 +1,182 @@
+package com.ksh.shopping_system.benchmark;
+
+import com.ksh.shopping_system.ShoppingSystemApplication;
+import com.ksh.shopping_system.application.port.out.product.SelectProductPort;
+import com.ksh.shopping_system.domain.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 처리 스레드 방식 비교 (./gradlew benchmark)
+ * 실제 Spring 컨텍스트와 Tomcat 을 spring.threads.virtual.enabled = false / true 로 각각 띄우고
+ * CLIENTS 개의 HTTP 클라이언트가 동시에 REQUESTS_PER_CLIENT 건씩 요청
+ * - 요청의 WRITE_RATIO 만큼은 상품 가격 수정(PUT, DB 트랜잭션 + 행 잠금으로 blocking)
+ * - 나머지는 캐시 조회(GET /category-extremes, 응답 스냅샷)
+ * 처리량과 요청 지연시간(p50/p99, 캐시 조회만의 p99)을 출력만 하고, 두 방식의 시간 비교는 검증하지 않음
+ * (실행 환경의 코어 수/부하에 따라 달라짐)
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmark {
+
+	private static final int CLIENTS = 1_000;
+	private static final int REQUESTS_PER_CLIENT = 20;
+	private static final double WRITE_RATIO = 0.1;
+	private static final List<String> CATEGORIES = List.of("상의", "아우터", "바지", "스니커즈", "가방", "모자", "양말", "액세서리");
+
+	@Test
+	@DisplayName("플랫폼 스레드와 가상 스레드 모드의 Tomcat 처리량/지연시간을 같은 부하로 측정한다")
+	void platformVersusVirtual() throws Exception {
+		System.out.printf("%10s %14s %14s %12s %12s %12s %10s%n",
+				"mode", "elapsed(ms)", "requests/s", "p50(ms)", "p99(ms)", "read p99(ms)", "errors");
+
+		for (boolean virtual : new boolean[]{false, true}) {
+			Result result = run(virtual);
+			// 부하 중에도 모든 요청이 정상 응답해야 함 (시간은 비교하지 않음)
+			assertThat(result.errors()).as("failed requests in %s mode", result.mode()).isZero();
+		}
+	}
+
+	private Result run(boolean virtual) throws Exception {
+		String mode = virtual ? "virtual" : "platform";
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ShoppingSystemApplication.class)
+				.properties(
+						"server.port=0",
+						"spring.threads.virtual.enabled=" + virtual,
+						// 실행마다 새 DB
+						"spring.datasource.url=jdbc:h2:mem:virtual-thread-benchmark-" + mode,
+						"spring.jpa.show-sql=false",
+						"spring.jpa.properties.hibernate.show_sql=false",
+						"logging.level.org.hibernate.type.descriptor.sql=off",
+						"logging.level.org.hibernate.SQL=off")
+				.run()) {
+			int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+			long[] productIds = context.getBean(SelectProductPort.class).findAllProducts().stream()
+					.mapToLong(Product::getId)
+					.toArray();
+			return load(mode, "http://localhost:" + port + "/api/products", productIds);
+		}
+	}
+
+	private Result load(String mode, String baseUrl, long[] productIds) throws Exception {
+		int total = CLIENTS * REQUESTS_PER_CLIENT;
+		long[] latencies = new long[total];
+		boolean[] writes = new boolean[total];
+		AtomicInteger errors = new AtomicInteger();
+
+		try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+			 HttpClient client = HttpClient.newBuilder()
+					 .version(HttpClient.Version.HTTP_1_1)
+					 .connectTimeout(Duration.ofSeconds(10))
+					 .executor(clientThreads)
+					 .build()) {
+			// JIT/커넥션 워밍업
+			for (int i = 0; i < 200; i++) {
+				send(client, readRequest(baseUrl, i), errors);
+			}
+			errors.set(0);
+
+			long start = System.nanoTime();
+			List<Future<?>> results = new ArrayList<>(CLIENTS);
+			for (int c = 0; c < CLIENTS; c++) {
+				int clientIndex = c;
+				results.add(clientThreads.submit(() -> {
+					for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+						int request = clientIndex * REQUESTS_PER_CLIENT + r;
+						ThreadLocalRandom random = ThreadLocalRandom.current();
+						writes[request] = random.nextDouble() < WRITE_RATIO;
+						HttpRequest httpRequest = writes[request]
+								? writeRequest(baseUrl, productIds[random.nextInt(productIds.length)],
+										random.nextLong(1_000, 100_000))
+								: readRequest(baseUrl, request);
+						long sentAt = System.nanoTime();
+						send(client, httpRequest, errors);
+						latencies[request] = System.nanoTime() - sentAt;
+					}
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get(10, TimeUnit.MINUTES);
+			}
+			long elapsedNanos = System.nanoTime() - start;
+
+			long[] readLatencies = new long[total];
+			int reads = 0;
+			for (int i = 0; i < total; i++) {
+				if (!writes[i]) {
+					readLatencies[reads++] = latencies[i];
+				}
+			}
+			readLatencies = Arrays.copyOf(readLatencies, reads);
+			Arrays.sort(latencies);
+			Arrays.sort(readLatencies);
+
+			System.out.printf("%10s %14d %14.0f %12.1f %12.1f %12.1f %10d%n", mode, elapsedNanos / 1_000_000,
+					total * 1e9 / elapsedNanos, percentileMillis(latencies, 0.5), percentileMillis(latencies, 0.99),
+					percentileMillis(readLatencies, 0.99), errors.get());
+			return new Result(mode, errors.get());
+		}
+	}
+
+	private static HttpRequest readRequest(String baseUrl, int request) {
+		String categoryName = CATEGORIES.get(request % CATEGORIES.size());
+		return HttpRequest.newBuilder(URI.create(baseUrl + "/category-extremes?categoryName="
+						+ URLEncoder.encode(categoryName, StandardCharsets.UTF_8)))
+				.GET()
+				.build();
+	}
+
+	private static HttpRequest writeRequest(String baseUrl, long productId, long newPrice) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + "/" + productId + "?newPrice=" + newPrice))
+				.PUT(HttpRequest.BodyPublishers.noBody())
+				.build();
+	}
+
+	private static void send(HttpClient client, HttpRequest request, AtomicInteger errors) {
+		try {
+			HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+			if (response.statusCode() != 200) {
+				errors.incrementAndGet();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			errors.incrementAndGet();
+		} catch (Exception e) {
+			errors.incrementAndGet();
+		}
+	}
+
+	private static double percentileMillis(long[] sortedNanos, double percentile) {
+		if (sortedNanos.length == 0) {
+			return 0;
+		}
+		int index = Math.min(sortedNanos.length - 1, (int) Math.ceil(sortedNanos.length * percentile) - 1);
+		return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+	}
+
+	private record Result(String mode, int errors) {
+	}
+
+}
@@ -0,0 +1,171 @@
+package com.ksh.shopping_system.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 이벤트 처리 풀의 포화 시 처리 방식과 지표
+ * 스레드 1개 + 큐 1칸 풀에 막힌 작업 하나, 큐에 하나를 넣은 뒤 세 번째 작업을 제출
+ */
+class AsyncConfigTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private ThreadPoolTaskExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private void saturate(SaturationPolicy policy, Duration blockTimeout) {
+		executor = AsyncConfig.eventExecutor("test", 1, 1, policy, blockTimeout, false, meterRegistry);
+		CountDownLatch started = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			awaitRelease();
+		});
+		awaitQuietly(started);
+		executor.execute(() -> {
+		});
+	}
+
+	private double count(String name) {
+		return meterRegistry.get(name).tag("executor", "test").counter().count();
+	}
+
+	@Test
+	@DisplayName("abort 는 큐가 가득 차면 거절하고 거절 횟수를 남긴다")
+	void abort() {
+		saturate(SaturationPolicy.ABORT, Duration.ZERO);
+
+		assertThatThrownBy(() -> executor.execute(() -> {
+		})).isInstanceOf(RejectedExecutionException.class);
+
+		assertThat(count("event.executor.saturated")).isEqualTo(1);
+		assertThat(count("event.executor.rejected")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("caller-runs 는 큐가 가득 차면 제출한 스레드에서 실행한다")
+	void callerRuns() {
+		saturate(SaturationPolicy.CALLER_RUNS, Duration.ZERO);
+		AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+		executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+		assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+		assertThat(count("event.executor.saturated")).isEqualTo(1);
+		assertThat(count("event.executor.rejected")).isZero();
+	}
+
+	@Test
+	@DisplayName("block 은 큐에 자리가 날 때까지 기다렸다가 넣는다")
+	void blockUntilQueued() {
+		saturate(SaturationPolicy.BLOCK, Duration.ofSeconds(5));
+		CountDownLatch ran = new CountDownLatch(1);
+		Thread releaser = new Thread(() -> {
+			sleepQuietly(100);
+			release.countDown();
+		});
+		releaser.start();
+
+		executor.execute(ran::countDown);
+
+		awaitQuietly(ran);
+		assertThat(count("event.executor.saturated")).isEqualTo(1);
+		assertThat(count("event.executor.rejected")).isZero();
+	}
+
+	@Test
+	@DisplayName("block 은 block-timeout 이 지나도 자리가 없으면 거절한다")
+	void blockTimeout() {
+		saturate(SaturationPolicy.BLOCK, Duration.ofMillis(50));
+
+		assertThatThrownBy(() -> executor.execute(() -> {
+		})).isInstanceOf(RejectedExecutionException.class);
+
+		assertThat(count("event.executor.rejected")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("큐 길이, 실행 중 스레드, 대기/실행 시간을 지표로 남긴다")
+	void gaugesAndTimers() {
+		saturate(SaturationPolicy.ABORT, Duration.ZERO);
+
+		assertThat(meterRegistry.get("event.executor.queued").tag("executor", "test").gauge().value()).isEqualTo(1);
+		assertThat(meterRegistry.get("event.executor.active").tag("executor", "test").gauge().value()).isEqualTo(1);
+
+		release.countDown();
+		await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+			assertThat(meterRegistry.get("event.executor.wait").tag("executor", "test").timer().count()).isEqualTo(2);
+			assertThat(meterRegistry.get("event.executor.duration").tag("executor", "test").timer().count()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	@DisplayName("가상 스레드 모드여도 풀 크기와 큐 제한, 포화 처리는 그대로다")
+	void virtualThreads() {
+		executor = AsyncConfig.eventExecutor("test", 1, 1, SaturationPolicy.ABORT, Duration.ZERO, true, meterRegistry);
+		AtomicReference<Thread> ranOn = new AtomicReference<>();
+		CountDownLatch started = new CountDownLatch(1);
+		executor.execute(() -> {
+			ranOn.set(Thread.currentThread());
+			started.countDown();
+			awaitRelease();
+		});
+		awaitQuietly(started);
+		executor.execute(() -> {
+		});
+
+		assertThat(ranOn.get().isVirtual()).isTrue();
+		assertThat(ranOn.get().getName()).startsWith("test-");
+		assertThatThrownBy(() -> executor.execute(() -> {
+		})).isInstanceOf(RejectedExecutionException.class);
+	}
+
+	@Test
+	@DisplayName("설정 값은 대소문자와 - 표기를 구분하지 않는다")
+	void parsePolicy() {
+		assertThat(SaturationPolicy.of("caller-runs")).isEqualTo(SaturationPolicy.CALLER_RUNS);
+		assertThat(SaturationPolicy.of(" BLOCK ")).isEqualTo(SaturationPolicy.BLOCK);
+		assertThat(SaturationPolicy.CALLER_RUNS.tagValue()).isEqualTo("caller-runs");
+	}
+
+	private void awaitRelease() {
+		awaitQuietly(release);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleepQuietly(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.ksh.shopping_system.config;
+
+import com.ksh.shopping_system.application.event.CacheWarmUpCompletedEvent;
+import com.ksh.shopping_system.application.port.out.brand.BrandCachePort;
+import com.ksh.shopping_system.application.port.out.category.SelectCategoryPort;
+import com.ksh.shopping_system.application.port.out.product.ProductCachePort;
+import com.ksh.shopping_system.application.port.out.product.ProductOutboxPort;
+import com.ksh.shopping_system.application.port.out.product.SelectProductPort;
+import com.ksh.shopping_system.domain.Brand;
+import com.ksh.shopping_system.domain.Category;
+import com.ksh.shopping_system.domain.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+class CacheWarmUpInitializerTest {
+
+	private final SelectProductPort selectProductPort = mock(SelectProductPort.class);
+	private final SelectCategoryPort selectCategoryPort = mock(SelectCategoryPort.class);
+	private final ProductCachePort productCachePort = mock(ProductCachePort.class);
+	private final BrandCachePort brandCachePort = mock(BrandCachePort.class);
+	private final ProductOutboxPort productOutboxPort = mock(ProductOutboxPort.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CacheWarmUpInitializer initializer = new CacheWarmUpInitializer(selectProductPort,
+			selectCategoryPort, productCachePort, brandCachePort, productOutboxPort,
+			mock(PlatformTransactionManager.class), eventPublisher, meterRegistry, true);
+
+	@Test
+	@DisplayName("전체 상품 1회 조회로 모든 카테고리 인덱스를, 집계 1회로 브랜드 원장을 채운다")
+	void warmUpWithSetBasedQueries() {
+		Product top = new Product(1L, new Brand(1L, "A"), new Category("상의"), 10000);
+		given(selectProductPort.findAllProducts()).willReturn(List.of(top));
+		given(selectProductPort.findBrandSum()).willReturn(List.of());
+		given(selectCategoryPort.findAllCategoryNames()).willReturn(List.of(new Category("상의"), new Category("바지")));
+
+		initializer.warmUp();
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Supplier<List<Product>>> loader = ArgumentCaptor.forClass(Supplier.class);
+		verify(productCachePort).loadCategory(eq("상의"), loader.capture());
+		assertThat(loader.getValue().get()).containsExactly(top);
+		// 상품이 없는 카테고리는 빈 인덱스
+		verify(productCachePort).loadCategory(eq("바지"), loader.capture());
+		assertThat(loader.getValue().get()).isEmpty();
+
+		verify(selectProductPort, times(1)).findAllProducts();
+		verify(selectProductPort, never()).findByCategoryName(anyString());
+		verify(brandCachePort, times(1)).rebuild(List.of());
+		assertThat(meterRegistry.timer("cache.warmup", "phase", "total").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("같은 조회에서 읽은 미반영 outbox 행을 워밍업 종료 이벤트로 넘긴다")
+	void publishesPendingOutboxIdsOfSnapshot() {
+		given(productOutboxPort.findPendingIds()).willReturn(List.of(7L, 8L));
+		given(selectProductPort.findAllProducts()).willReturn(List.of());
+		given(selectProductPort.findBrandSum()).willReturn(List.of());
+		given(selectCategoryPort.findAllCategoryNames()).willReturn(List.of());
+
+		initializer.warmUp();
+
+		ArgumentCaptor<CacheWarmUpCompletedEvent> event = ArgumentCaptor.forClass(CacheWarmUpCompletedEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().getAppliedOutboxIds()).containsExactly(7L, 8L);
+	}
+
+	@Test
+	@DisplayName("워밍업이 실패하면 미반영 outbox 행을 모두 표시하도록 null 을 넘긴다")
+	void publishesNullWhenWarmUpFails() {
+		given(productOutboxPort.findPendingIds()).willReturn(List.of(7L));
+		given(selectProductPort.findAllProducts()).willThrow(new IllegalStateException("db down"));
+
+		initializer.warmUp();
+
+		ArgumentCaptor<CacheWarmUpCompletedEvent> event = ArgumentCaptor.forClass(CacheWarmUpCompletedEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().getAppliedOutboxIds()).isNull();
+		verify(brandCachePort, never()).rebuild(anyList());
+	}
+
+}
@@ -1,6 +1,5 @@
 package com.ksh.shopping_system.domain;
 
-import com.ksh.shopping_system.common.type.Price;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,15 +15,14 @@ class ProductTest {
 		// given
 		Brand brand = new Brand("무신사");
 		Category category = new Category("상의");
-		Price price = new Price(12000);
 
 		// when
-		Product product = new Product(brand, category, price);
+		Product product = new Product(brand, category, 12000);
 
 		// then
 		assertThat(product.getBrand()).isEqualTo(brand);
 		assertThat(product.getCategory()).isEqualTo(category);
-		assertThat(product.getPrice()).isEqualTo(price);
+		assertThat(product.getPriceValue()).isEqualTo(12000);
 	}
 
 	@Nested
@@ -36,7 +34,7 @@ class ProductTest {
 		void createProductWithNullBrand() {
 			// given
 			Category category = new Category("아우터");
-			Price price = new Price(10000);
+			long price = 10000;
 
 			// when & then
 			IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -50,7 +48,7 @@ class ProductTest {
 		void createProductWithNullCategory() {
 			// given
 			Brand brand = new Brand("무신사");
-			Price price = new Price(10000);
+			long price = 10000;
 
 			// when & then
 			IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -58,23 +56,39 @@ class ProductTest {
 
 			assertThat(exception.getMessage()).isEqualTo("브랜드와 카테고리는 필수입니다.");
 		}
+
+		@Test
+		@DisplayName("가격이 음수이면 예외가 발생한다")
+		void createProductWithNegativePrice() {
+			// given
+			Brand brand = new Brand("무신사");
+			Category category = new Category("아우터");
+
+			// when & then
+			IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+					() -> new Product(brand, category, -1));
+
+			assertThat(exception.getMessage()).isEqualTo("가격은 0 이상이어야 합니다.");
+		}
 	}
 
 	@Test
-	@DisplayName("상품 가격을 변경할 수 있다")
-	void changePrice() {
+	@DisplayName("가격 변경은 기존 상품을 바꾸지 않고 새 상품을 만든다")
+	void withPrice() {
 		// given
 		Brand brand = new Brand("무신사");
 		Category category = new Category("모자");
-		Price originalPrice = new Price(8000);
-		Product product = new Product(brand, category, originalPrice);
+		Product product = new Product(1L, brand, category, 8000);
 
 		// when
-		Price newPrice = new Price(9000);
-		product.changePrice(newPrice);
+		Product changed = product.withPrice(9000);
 
 		// then
-		assertThat(product.getPrice()).isEqualTo(newPrice);
+		assertThat(product.getPriceValue()).isEqualTo(8000);
+		assertThat(changed.getPriceValue()).isEqualTo(9000);
+		assertThat(changed.getId()).isEqualTo(1L);
+		assertThat(changed.getBrand()).isSameAs(brand);
+		assertThat(changed.getCategory()).isSameAs(category);
 	}
 
 }